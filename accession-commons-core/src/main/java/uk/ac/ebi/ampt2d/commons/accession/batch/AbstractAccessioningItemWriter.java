@@ -0,0 +1,134 @@
+/*
+ *
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.ebi.ampt2d.commons.accession.batch;
+
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemWriter;
+import uk.ac.ebi.ampt2d.commons.accession.core.AccessioningService;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.GetOrCreateAccessionWrapper;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Base of the Spring Batch writers that accession the items of each chunk with an {@link AccessioningService}. The
+ * accessions are saved on the step thread, so they are stored within the chunk transaction whenever the database
+ * service joins it. If the chunk is rolled back after its accessions have been generated, those accessions are not
+ * reused, and the retried items get new ones.
+ * <p>
+ * The writer registers itself as a {@link StepExecutionListener} when it is set as the writer of a step, and reports
+ * the throughput of the step in the step execution context under the keys defined in this class.
+ *
+ * @param <ITEM> Type of the items written
+ * @param <MODEL> Type of the objects identified by the accessions
+ * @param <HASH> Type of the hash calculated based on the fields that uniquely identify an accessioned object
+ * @param <ACCESSION> Type of the accession that identifies an object of a particular model
+ */
+public abstract class AbstractAccessioningItemWriter<ITEM, MODEL, HASH, ACCESSION>
+        implements ItemWriter<ITEM>, StepExecutionListener {
+
+    public static final String CHUNK_COUNT_KEY = "accessioning.chunkCount";
+
+    public static final String ITEM_COUNT_KEY = "accessioning.itemCount";
+
+    public static final String NEW_ACCESSION_COUNT_KEY = "accessioning.newAccessionCount";
+
+    public static final String WRITE_MILLIS_KEY = "accessioning.writeMillis";
+
+    public static final String LAST_CHUNK_ITEMS_PER_SECOND_KEY = "accessioning.lastChunkItemsPerSecond";
+
+    private final AccessioningService<MODEL, HASH, ACCESSION> accessioningService;
+
+    private final String applicationInstanceId;
+
+    private final Consumer<List<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>>> resultConsumer;
+
+    private StepExecution stepExecution;
+
+    /**
+     * @param applicationInstanceId The id of the application(instance) that is trying to generate the accessions.
+     * @param resultConsumer        Receives the wrapper objects of each chunk, for example to write them to the output
+     *                              of the step. It can be null.
+     */
+    protected AbstractAccessioningItemWriter(AccessioningService<MODEL, HASH, ACCESSION> accessioningService,
+                                             String applicationInstanceId,
+                                             Consumer<List<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>>>
+                                                     resultConsumer) {
+        this.accessioningService = accessioningService;
+        this.applicationInstanceId = applicationInstanceId;
+        this.resultConsumer = resultConsumer;
+    }
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        this.stepExecution = stepExecution;
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        return null;
+    }
+
+    @Override
+    public void write(List<? extends ITEM> items) throws Exception {
+        long start = System.nanoTime();
+        List<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>> accessions = accession(items);
+        long elapsedNanos = System.nanoTime() - start;
+        if (resultConsumer != null) {
+            resultConsumer.accept(accessions);
+        }
+        reportThroughput(items.size(), accessions.stream().filter(GetOrCreateAccessionWrapper::isNewAccession).count(),
+                         elapsedNanos);
+    }
+
+    /**
+     * @return Wrapper objects of the accessions of the items of a chunk
+     */
+    protected abstract List<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>> accession(List<? extends ITEM> items)
+            throws Exception;
+
+    private void reportThroughput(int itemCount, long newAccessionCount, long elapsedNanos) {
+        if (stepExecution == null) {
+            return;
+        }
+        ExecutionContext context = stepExecution.getExecutionContext();
+        // Chunks of a multi-threaded step are written concurrently
+        synchronized (context) {
+            context.putLong(CHUNK_COUNT_KEY, context.getLong(CHUNK_COUNT_KEY, 0) + 1);
+            context.putLong(ITEM_COUNT_KEY, context.getLong(ITEM_COUNT_KEY, 0) + itemCount);
+            context.putLong(NEW_ACCESSION_COUNT_KEY,
+                            context.getLong(NEW_ACCESSION_COUNT_KEY, 0) + newAccessionCount);
+            context.putLong(WRITE_MILLIS_KEY,
+                            context.getLong(WRITE_MILLIS_KEY, 0) + TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+            context.putDouble(LAST_CHUNK_ITEMS_PER_SECOND_KEY,
+                              elapsedNanos == 0 ? 0 : itemCount * 1e9 / elapsedNanos);
+        }
+    }
+
+    protected AccessioningService<MODEL, HASH, ACCESSION> getAccessioningService() {
+        return accessioningService;
+    }
+
+    protected String getApplicationInstanceId() {
+        return applicationInstanceId;
+    }
+}
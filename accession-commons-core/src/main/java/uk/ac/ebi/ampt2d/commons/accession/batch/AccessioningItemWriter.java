@@ -0,0 +1,54 @@
+/*
+ *
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.ebi.ampt2d.commons.accession.batch;
+
+import uk.ac.ebi.ampt2d.commons.accession.core.AccessioningService;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.GetOrCreateAccessionWrapper;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Spring Batch writer that accessions the objects of each chunk using {@link AccessioningService#getOrCreate}. The
+ * objects are hashed when the chunk is written. Use {@link AsyncAccessioningItemProcessor} together with
+ * {@link AsyncAccessioningItemWriter} to hash them while the chunk is being read.
+ *
+ * @param <MODEL> Type of the objects identified by the accessions
+ * @param <HASH> Type of the hash calculated based on the fields that uniquely identify an accessioned object
+ * @param <ACCESSION> Type of the accession that identifies an object of a particular model
+ */
+public class AccessioningItemWriter<MODEL, HASH, ACCESSION>
+        extends AbstractAccessioningItemWriter<MODEL, MODEL, HASH, ACCESSION> {
+
+    public AccessioningItemWriter(AccessioningService<MODEL, HASH, ACCESSION> accessioningService,
+                                  String applicationInstanceId) {
+        this(accessioningService, applicationInstanceId, null);
+    }
+
+    public AccessioningItemWriter(AccessioningService<MODEL, HASH, ACCESSION> accessioningService,
+                                  String applicationInstanceId,
+                                  Consumer<List<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>>> resultConsumer) {
+        super(accessioningService, applicationInstanceId, resultConsumer);
+    }
+
+    @Override
+    protected List<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>> accession(List<? extends MODEL> items)
+            throws Exception {
+        return getAccessioningService().getOrCreate(items, getApplicationInstanceId());
+    }
+}
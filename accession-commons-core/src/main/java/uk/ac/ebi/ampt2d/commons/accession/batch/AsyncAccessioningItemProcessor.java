@@ -0,0 +1,58 @@
+/*
+ *
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.ebi.ampt2d.commons.accession.batch;
+
+import org.springframework.batch.item.ItemProcessor;
+
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+/**
+ * Spring Batch processor that calculates the hash of every object in an executor, so that the objects of a chunk are
+ * hashed while the rest of the chunk is being read and processed. Its output is written with an
+ * {@link AsyncAccessioningItemWriter}, which waits for the hashes when the chunk is written.
+ * <p>
+ * The summary and hashing functions must be the same as the ones used by the accessioning service, and they must be
+ * thread safe.
+ *
+ * @param <MODEL> Type of the objects identified by the accessions
+ * @param <HASH> Type of the hash calculated based on the fields that uniquely identify an accessioned object
+ */
+public class AsyncAccessioningItemProcessor<MODEL, HASH>
+        implements ItemProcessor<MODEL, Future<Map.Entry<HASH, MODEL>>> {
+
+    private final Function<MODEL, HASH> hashingFunction;
+
+    private final Executor executor;
+
+    public AsyncAccessioningItemProcessor(Function<MODEL, String> summaryFunction,
+                                          Function<String, HASH> hashingFunction, Executor executor) {
+        this.hashingFunction = summaryFunction.andThen(hashingFunction);
+        this.executor = executor;
+    }
+
+    @Override
+    public Future<Map.Entry<HASH, MODEL>> process(MODEL item) {
+        return CompletableFuture.supplyAsync(
+                () -> new AbstractMap.SimpleImmutableEntry<>(hashingFunction.apply(item), item), executor);
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ *
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.ebi.ampt2d.commons.accession.batch;
+
+import uk.ac.ebi.ampt2d.commons.accession.core.AccessioningService;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.GetOrCreateAccessionWrapper;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * Spring Batch writer of the objects hashed by an {@link AsyncAccessioningItemProcessor}. It waits for the hashes of
+ * the chunk and accessions the objects using {@link AccessioningService#getOrCreateHashed}, so the objects are not
+ * hashed again. If the hashing of an object failed, the exception is thrown and the chunk is rolled back.
+ *
+ * @param <MODEL> Type of the objects identified by the accessions
+ * @param <HASH> Type of the hash calculated based on the fields that uniquely identify an accessioned object
+ * @param <ACCESSION> Type of the accession that identifies an object of a particular model
+ */
+public class AsyncAccessioningItemWriter<MODEL, HASH, ACCESSION>
+        extends AbstractAccessioningItemWriter<Future<Map.Entry<HASH, MODEL>>, MODEL, HASH, ACCESSION> {
+
+    public AsyncAccessioningItemWriter(AccessioningService<MODEL, HASH, ACCESSION> accessioningService,
+                                       String applicationInstanceId) {
+        this(accessioningService, applicationInstanceId, null);
+    }
+
+    public AsyncAccessioningItemWriter(AccessioningService<MODEL, HASH, ACCESSION> accessioningService,
+                                       String applicationInstanceId,
+                                       Consumer<List<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>>>
+                                               resultConsumer) {
+        super(accessioningService, applicationInstanceId, resultConsumer);
+    }
+
+    @Override
+    protected List<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>> accession(
+            List<? extends Future<Map.Entry<HASH, MODEL>>> items) throws Exception {
+        Map<HASH, MODEL> hashedMessages = new LinkedHashMap<>();
+        for (Future<Map.Entry<HASH, MODEL>> item : items) {
+            Map.Entry<HASH, MODEL> hashedMessage = getHashedMessage(item);
+            hashedMessages.putIfAbsent(hashedMessage.getKey(), hashedMessage.getValue());
+        }
+        return getAccessioningService().getOrCreateHashed(hashedMessages, getApplicationInstanceId());
+    }
+
+    private Map.Entry<HASH, MODEL> getHashedMessage(Future<Map.Entry<HASH, MODEL>> item) throws Exception {
+        try {
+            return item.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception) {
+                throw (Exception) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
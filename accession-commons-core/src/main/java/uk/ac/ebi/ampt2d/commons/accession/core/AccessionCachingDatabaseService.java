@@ -0,0 +1,410 @@
+/*
+ *
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.ebi.ampt2d.commons.accession.core;
+
+import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionDeprecatedException;
+import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionDoesNotExistException;
+import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionMergedException;
+import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.HashAlreadyExistsException;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionStatus;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionStatusWrapper;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionVersionsWrapper;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionWrapper;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.OperationOutcome;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.SaveResponse;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Decorator of a {@link DatabaseService} that keeps a size-bounded, least recently used cache of the lookups by
+ * accession. For every accession it caches its status and last version, and all its versions once they have been
+ * requested. Merged, deprecated and missing accessions are cached too, so their lookups throw the same exceptions as
+ * the database service without querying it.
+ * <p>
+ * Cached accessions are invalidated when they are patched, updated, deprecated, merged or saved through this
+ * service, and expire after a time to live. Accessions created or modified through other instances or applications
+ * are not seen until their entries expire, so missing accessions can be given a shorter time to live.
+ *
+ * @param <MODEL> Type of the objects identified by the accessions
+ * @param <HASH> Type of the hash calculated based on the fields that uniquely identify an accessioned object
+ * @param <ACCESSION> Type of the accession that identifies an object of a particular model
+ */
+public class AccessionCachingDatabaseService<MODEL, HASH, ACCESSION>
+        implements DatabaseService<MODEL, HASH, ACCESSION> {
+
+    private class CachedAccession {
+
+        private final AccessionStatusWrapper<MODEL, HASH, ACCESSION> status;
+
+        private final AccessionVersionsWrapper<MODEL, HASH, ACCESSION> versions;
+
+        private final long expirationTime;
+
+        CachedAccession(AccessionStatusWrapper<MODEL, HASH, ACCESSION> status,
+                        AccessionVersionsWrapper<MODEL, HASH, ACCESSION> versions, long expirationTime) {
+            this.status = status;
+            this.versions = versions;
+            this.expirationTime = expirationTime;
+        }
+
+        boolean isExpired(long now) {
+            return now - expirationTime >= 0;
+        }
+
+    }
+
+    private final DatabaseService<MODEL, HASH, ACCESSION> dbService;
+
+    private final int maximumSize;
+
+    private final long timeToLiveNanos;
+
+    private final long missingTimeToLiveNanos;
+
+    private final LinkedHashMap<ACCESSION, CachedAccession> cache;
+
+    private long invalidations;
+
+    private long hitCount;
+
+    private long missCount;
+
+    private long evictionCount;
+
+    public AccessionCachingDatabaseService(DatabaseService<MODEL, HASH, ACCESSION> dbService, int maximumSize,
+                                           long timeToLiveMillis) {
+        this(dbService, maximumSize, timeToLiveMillis, timeToLiveMillis);
+    }
+
+    /**
+     * @param maximumSize             Maximum number of cached accessions
+     * @param timeToLiveMillis        Time after which cached accessions are read again from the database service
+     * @param missingTimeToLiveMillis Time after which accessions that did not exist are looked up again
+     */
+    public AccessionCachingDatabaseService(DatabaseService<MODEL, HASH, ACCESSION> dbService, int maximumSize,
+                                           long timeToLiveMillis, long missingTimeToLiveMillis) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be greater than zero");
+        }
+        if (timeToLiveMillis < 1 || missingTimeToLiveMillis < 1) {
+            throw new IllegalArgumentException("Time to live must be greater than zero");
+        }
+        this.dbService = dbService;
+        this.maximumSize = maximumSize;
+        this.timeToLiveNanos = TimeUnit.MILLISECONDS.toNanos(timeToLiveMillis);
+        this.missingTimeToLiveNanos = TimeUnit.MILLISECONDS.toNanos(missingTimeToLiveMillis);
+        this.cache = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    @Override
+    public List<AccessionWrapper<MODEL, HASH, ACCESSION>> findAllByHash(Collection<HASH> hashes) {
+        return dbService.findAllByHash(hashes);
+    }
+
+    @Override
+    public void forEachHash(Consumer<HASH> consumer) {
+        dbService.forEachHash(consumer);
+    }
+
+    /**
+     * Only active accessions are cached by this method. If the accession is not active, the exception is thrown by
+     * the database service, or rebuilt from the cached status.
+     */
+    @Override
+    public AccessionVersionsWrapper<MODEL, HASH, ACCESSION> findByAccession(ACCESSION accession)
+            throws AccessionDoesNotExistException, AccessionMergedException, AccessionDeprecatedException {
+        long invalidationsBeforeQuery;
+        synchronized (this) {
+            CachedAccession cachedAccession = get(accession);
+            if (cachedAccession != null) {
+                if (cachedAccession.versions != null) {
+                    hitCount++;
+                    return cachedAccession.versions;
+                }
+                if (!cachedAccession.status.isActive()) {
+                    hitCount++;
+                    throwStatusException(cachedAccession.status);
+                }
+            }
+            missCount++;
+            invalidationsBeforeQuery = invalidations;
+        }
+        AccessionVersionsWrapper<MODEL, HASH, ACCESSION> versions = dbService.findByAccession(accession);
+        AccessionWrapper<MODEL, HASH, ACCESSION> lastVersion = versions.getModelWrappers().stream()
+                .max(Comparator.comparingInt(AccessionWrapper::getVersion)).get();
+        synchronized (this) {
+            if (invalidations == invalidationsBeforeQuery) {
+                put(AccessionStatusWrapper.active(lastVersion), versions);
+            }
+        }
+        return versions;
+    }
+
+    @Override
+    public AccessionWrapper<MODEL, HASH, ACCESSION> findLastVersionByAccession(ACCESSION accession)
+            throws AccessionDoesNotExistException, AccessionMergedException, AccessionDeprecatedException {
+        AccessionStatusWrapper<MODEL, HASH, ACCESSION> status =
+                findLastVersionByAccessions(Collections.singletonList(accession)).get(0);
+        throwStatusException(status);
+        return status.getLastVersion();
+    }
+
+    /**
+     * The accessions missing from the cache are looked up in a single call to the database service.
+     */
+    @Override
+    public List<AccessionStatusWrapper<MODEL, HASH, ACCESSION>> findLastVersionByAccessions(
+            List<ACCESSION> accessions) {
+        List<AccessionStatusWrapper<MODEL, HASH, ACCESSION>> result =
+                new ArrayList<>(Collections.nCopies(accessions.size(), null));
+        List<ACCESSION> accessionsToFind = new ArrayList<>();
+        int[] indexesToFind = new int[accessions.size()];
+        long invalidationsBeforeQuery;
+        synchronized (this) {
+            for (int i = 0; i < accessions.size(); i++) {
+                CachedAccession cachedAccession = get(accessions.get(i));
+                if (cachedAccession != null) {
+                    result.set(i, cachedAccession.status);
+                } else {
+                    indexesToFind[accessionsToFind.size()] = i;
+                    accessionsToFind.add(accessions.get(i));
+                }
+            }
+            hitCount += accessions.size() - accessionsToFind.size();
+            missCount += accessionsToFind.size();
+            invalidationsBeforeQuery = invalidations;
+        }
+        if (!accessionsToFind.isEmpty()) {
+            List<AccessionStatusWrapper<MODEL, HASH, ACCESSION>> foundAccessions =
+                    dbService.findLastVersionByAccessions(accessionsToFind);
+            for (int i = 0; i < foundAccessions.size(); i++) {
+                result.set(indexesToFind[i], foundAccessions.get(i));
+            }
+            synchronized (this) {
+                // Accessions read before an invalidation could be stale, so they are not cached
+                if (invalidations == invalidationsBeforeQuery) {
+                    foundAccessions.forEach(status -> put(status, null));
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public AccessionWrapper<MODEL, HASH, ACCESSION> findByAccessionVersion(ACCESSION accession, int version)
+            throws AccessionDoesNotExistException, AccessionDeprecatedException, AccessionMergedException {
+        synchronized (this) {
+            CachedAccession cachedAccession = get(accession);
+            if (cachedAccession != null && (cachedAccession.versions != null || !cachedAccession.status.isActive())) {
+                hitCount++;
+                throwStatusException(cachedAccession.status);
+                return cachedAccession.versions.getVersion(version).orElseThrow(
+                        () -> new AccessionDoesNotExistException(accession.toString(), version));
+            }
+        }
+        return dbService.findByAccessionVersion(accession, version);
+    }
+
+    private void throwStatusException(AccessionStatusWrapper<MODEL, HASH, ACCESSION> status)
+            throws AccessionDoesNotExistException, AccessionMergedException, AccessionDeprecatedException {
+        switch (status.getStatus()) {
+            case MERGED:
+                throw new AccessionMergedException(status.getAccession().toString(),
+                                                   status.getMergedInto().toString());
+            case DEPRECATED:
+                throw new AccessionDeprecatedException(status.getAccession().toString());
+            case DOES_NOT_EXIST:
+                throw new AccessionDoesNotExistException(status.getAccession().toString());
+        }
+    }
+
+    /**
+     * The saved accessions are invalidated, as they may have been cached as missing.
+     */
+    @Override
+    public SaveResponse<ACCESSION> save(List<AccessionWrapper<MODEL, HASH, ACCESSION>> objects) {
+        try {
+            return dbService.save(objects);
+        } finally {
+            synchronized (this) {
+                invalidations++;
+                objects.forEach(object -> cache.remove(object.getAccession()));
+            }
+        }
+    }
+
+    @Override
+    public AccessionVersionsWrapper<MODEL, HASH, ACCESSION> patch(ACCESSION accession, HASH hash, MODEL model,
+                                                                  String reason)
+            throws AccessionDoesNotExistException, HashAlreadyExistsException, AccessionDeprecatedException,
+            AccessionMergedException {
+        try {
+            return dbService.patch(accession, hash, model, reason);
+        } finally {
+            invalidate(accession);
+        }
+    }
+
+    @Override
+    public AccessionVersionsWrapper<MODEL, HASH, ACCESSION> update(ACCESSION accession, HASH hash, MODEL model,
+                                                                   int version)
+            throws AccessionDoesNotExistException, HashAlreadyExistsException, AccessionMergedException,
+            AccessionDeprecatedException {
+        try {
+            return dbService.update(accession, hash, model, version);
+        } finally {
+            invalidate(accession);
+        }
+    }
+
+    @Override
+    public List<OperationOutcome<ACCESSION, AccessionVersionsWrapper<MODEL, HASH, ACCESSION>>> patchAll(
+            List<AccessionWrapper<MODEL, HASH, ACCESSION>> patches, String reason) {
+        try {
+            return dbService.patchAll(patches, reason);
+        } finally {
+            patches.forEach(patch -> invalidate(patch.getAccession()));
+        }
+    }
+
+    @Override
+    public List<OperationOutcome<ACCESSION, AccessionVersionsWrapper<MODEL, HASH, ACCESSION>>> updateAll(
+            List<AccessionWrapper<MODEL, HASH, ACCESSION>> objects) {
+        try {
+            return dbService.updateAll(objects);
+        } finally {
+            objects.forEach(object -> invalidate(object.getAccession()));
+        }
+    }
+
+    @Override
+    public void deprecate(ACCESSION accession, String reason) throws AccessionDoesNotExistException,
+            AccessionMergedException, AccessionDeprecatedException {
+        try {
+            dbService.deprecate(accession, reason);
+        } finally {
+            invalidate(accession);
+        }
+    }
+
+    @Override
+    public void merge(ACCESSION accession, ACCESSION mergeInto, String reason) throws AccessionMergedException,
+            AccessionDoesNotExistException, AccessionDeprecatedException {
+        try {
+            dbService.merge(accession, mergeInto, reason);
+        } finally {
+            invalidate(accession);
+            invalidate(mergeInto);
+        }
+    }
+
+    @Override
+    public List<OperationOutcome<ACCESSION, Void>> deprecateAll(List<ACCESSION> accessions, String reason) {
+        try {
+            return dbService.deprecateAll(accessions, reason);
+        } finally {
+            accessions.forEach(this::invalidate);
+        }
+    }
+
+    @Override
+    public List<OperationOutcome<ACCESSION, Void>> mergeAll(Map<ACCESSION, ACCESSION> merges, String reason) {
+        try {
+            return dbService.mergeAll(merges, reason);
+        } finally {
+            merges.forEach((accession, mergeInto) -> {
+                invalidate(accession);
+                invalidate(mergeInto);
+            });
+        }
+    }
+
+    /**
+     * @return The cached accession, or null if it is not cached or has expired
+     */
+    private CachedAccession get(ACCESSION accession) {
+        CachedAccession cachedAccession = cache.get(accession);
+        if (cachedAccession != null && cachedAccession.isExpired(System.nanoTime())) {
+            cache.remove(accession);
+            return null;
+        }
+        return cachedAccession;
+    }
+
+    private void put(AccessionStatusWrapper<MODEL, HASH, ACCESSION> status,
+                     AccessionVersionsWrapper<MODEL, HASH, ACCESSION> versions) {
+        long timeToLive = status.getStatus() == AccessionStatus.DOES_NOT_EXIST ? missingTimeToLiveNanos :
+                timeToLiveNanos;
+        cache.put(status.getAccession(), new CachedAccession(status, versions, System.nanoTime() + timeToLive));
+        while (cache.size() > maximumSize) {
+            Map.Entry<ACCESSION, CachedAccession> eldest = cache.entrySet().iterator().next();
+            cache.remove(eldest.getKey());
+            evictionCount++;
+        }
+    }
+
+    private synchronized void invalidate(ACCESSION accession) {
+        invalidations++;
+        cache.remove(accession);
+    }
+
+    /**
+     * Removes all the accessions from the cache. The statistics are not reset.
+     */
+    public synchronized void invalidateAll() {
+        invalidations++;
+        cache.clear();
+    }
+
+    public synchronized int getSize() {
+        return cache.size();
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * @return Ratio of the accessions found in the cache over all the accessions looked up, or 0 if none was looked
+     * up
+     */
+    public synchronized double getHitRatio() {
+        long requestCount = hitCount + missCount;
+        return requestCount == 0 ? 0 : (double) hitCount / requestCount;
+    }
+}
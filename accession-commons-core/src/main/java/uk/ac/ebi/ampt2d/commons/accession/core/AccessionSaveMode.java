@@ -2,5 +2,7 @@ package uk.ac.ebi.ampt2d.commons.accession.core;
 
 public enum AccessionSaveMode {
     SAVE_ALL_THEN_RESOLVE,
-    PREFILTER_EXISTING
+    PREFILTER_EXISTING,
+    PREFILTER_WITH_BLOOM_FILTER,
+    ADAPTIVE
 }
@@ -22,11 +22,23 @@ import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionDeprecatedExc
 import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionDoesNotExistException;
 import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionMergedException;
 import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.HashAlreadyExistsException;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionBatchResult;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionStatusWrapper;
 import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionVersionsWrapper;
 import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionWrapper;
 import uk.ac.ebi.ampt2d.commons.accession.core.models.GetOrCreateAccessionWrapper;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.OperationOutcome;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
 /**
  * Service for creation, retrieval and modifications of object accessions.
@@ -51,6 +63,126 @@ public interface AccessioningService<MODEL, HASH, ACCESSION> {
     List<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>> getOrCreate(List<? extends MODEL> messages, String applicationInstanceId)
             throws AccessionCouldNotBeGeneratedException;
 
+    /**
+     * Version of {@link #getOrCreate(List, String)} for large batches, that returns the accessions in an
+     * {@link AccessionBatchResult} instead of a list of wrappers. The default implementation converts the result of
+     * {@link #getOrCreate(List, String)}; implementations may fill the batch result directly.
+     *
+     * @param messages List of objects to be accessioned or already accessioned
+     * @param applicationInstanceId The id of the application(instance) that is trying to generate the accessions.
+     * @return Batch result with the accessioned objects and their associated accessions and hashes
+     * @throws AccessionCouldNotBeGeneratedException when accession could not be generated
+     */
+    default AccessionBatchResult<MODEL, HASH, ACCESSION> getOrCreateBatch(List<? extends MODEL> messages,
+                                                                         String applicationInstanceId)
+            throws AccessionCouldNotBeGeneratedException {
+        return AccessionBatchResult.of(getOrCreate(messages, applicationInstanceId));
+    }
+
+    /**
+     * Version of {@link #getOrCreate(List, String)} whose result is aligned with the input list: the wrapper at each
+     * position is the accession of the object at the same position of the input. Repeated objects in the input share
+     * the same wrapper, which reports a new accession if it was created by this call. Callers don't need to compute
+     * the hashes again to match the accessions with their objects.
+     * <p>
+     * The default implementation matches the result of {@link #getOrCreate(List, String)} with the objects through
+     * {@link Object#equals(Object)}, so it requires objects with the same hash to be equal; implementations that know
+     * the hashing function align the result by hash.
+     *
+     * @param messages List of objects to be accessioned or already accessioned
+     * @param applicationInstanceId The id of the application(instance) that is trying to generate the accessions.
+     * @return List of wrapper objects with the same size and order as the list of objects
+     * @throws AccessionCouldNotBeGeneratedException when accession could not be generated
+     */
+    default List<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>> getOrCreateAligned(
+            List<? extends MODEL> messages, String applicationInstanceId)
+            throws AccessionCouldNotBeGeneratedException {
+        Map<MODEL, GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>> accessionsByMessage = new HashMap<>();
+        getOrCreate(messages, applicationInstanceId)
+                .forEach(accession -> accessionsByMessage.put(accession.getData(), accession));
+        List<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>> accessions = new ArrayList<>(messages.size());
+        for (MODEL message : messages) {
+            GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION> accession = accessionsByMessage.get(message);
+            if (accession == null) {
+                throw new IllegalStateException("No accession returned for object " + message);
+            }
+            accessions.add(accession);
+        }
+        return accessions;
+    }
+
+    /**
+     * Version of {@link #getOrCreate(List, String)} for objects whose hashes have already been calculated. The
+     * summary and hashing functions of the service are not applied, so the hashes must have been calculated with the
+     * same functions the service would use. The default implementation calls {@link #getOrCreate(List, String)} with
+     * the objects, which hashes them again; implementations may use the provided hashes directly.
+     *
+     * @param hashedMessages Objects to be accessioned or already accessioned, by hash
+     * @param applicationInstanceId The id of the application(instance) that is trying to generate the accessions.
+     * @return List of wrapper objects containing the accessioned objects and their associated accessions and hashes
+     * @throws AccessionCouldNotBeGeneratedException when accession could not be generated
+     */
+    default List<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>> getOrCreateHashed(
+            Map<HASH, ? extends MODEL> hashedMessages, String applicationInstanceId)
+            throws AccessionCouldNotBeGeneratedException {
+        return getOrCreate(new ArrayList<>(hashedMessages.values()), applicationInstanceId);
+    }
+
+    /**
+     * Finds or creates the accessions associated with an unbounded sequence of objects, processing them in chunks.
+     * Each chunk goes through {@link #getOrCreate(List, String)} on its own and its results are handed to the
+     * consumer before the next chunk is read, so the memory used is proportional to the chunk size and not to the
+     * total number of objects. Objects repeated in different chunks are returned as already existing accessions.
+     *
+     * @param messages Objects to be accessioned or already accessioned
+     * @param chunkSize Maximum number of objects accessioned together
+     * @param applicationInstanceId The id of the application(instance) that is trying to generate the accessions.
+     * @param resultConsumer Receives the wrapper objects of each chunk, in the same order the chunks are read
+     * @throws AccessionCouldNotBeGeneratedException when accession could not be generated. Chunks processed before
+     *         the failure are already stored and have been passed to the consumer
+     */
+    default void getOrCreate(Iterator<? extends MODEL> messages, int chunkSize, String applicationInstanceId,
+                             Consumer<List<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>>> resultConsumer)
+            throws AccessionCouldNotBeGeneratedException {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be greater than zero");
+        }
+        List<MODEL> chunk = new ArrayList<>(chunkSize);
+        while (messages.hasNext()) {
+            chunk.add(messages.next());
+            if (chunk.size() == chunkSize || !messages.hasNext()) {
+                resultConsumer.accept(getOrCreate(chunk, applicationInstanceId));
+                chunk.clear();
+            }
+        }
+    }
+
+    /**
+     * Asynchronous version of {@link #getOrCreate(List, String)} that accessions the objects in chunks. The default
+     * implementation processes the chunks one after another in a single task; implementations may overlap the
+     * processing of consecutive chunks.
+     *
+     * @param messages List of objects to be accessioned or already accessioned
+     * @param chunkSize Maximum number of objects accessioned together
+     * @param applicationInstanceId The id of the application(instance) that is trying to generate the accessions.
+     * @param executor Executor that runs the accessioning tasks
+     * @return Future completed with the wrapper objects of all the chunks, in chunk order, or completed exceptionally
+     *         with a {@link CompletionException} wrapping the cause of the failure (for example
+     *         {@link AccessionCouldNotBeGeneratedException})
+     */
+    default CompletableFuture<List<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>>> getOrCreateAsync(
+            List<? extends MODEL> messages, int chunkSize, String applicationInstanceId, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> {
+            List<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>> accessions = new ArrayList<>();
+            try {
+                getOrCreate(messages.iterator(), chunkSize, applicationInstanceId, accessions::addAll);
+            } catch (AccessionCouldNotBeGeneratedException e) {
+                throw new CompletionException(e);
+            }
+            return accessions;
+        }, executor);
+    }
+
     /**
      * Finds the accessions associated with a list of objects.
      *
@@ -59,6 +191,14 @@ public interface AccessioningService<MODEL, HASH, ACCESSION> {
      */
     List<AccessionWrapper<MODEL, HASH, ACCESSION>> get(List<? extends MODEL> accessionedObjects);
 
+    /**
+     * Finds the accessions associated with a collection of hashes, without calculating them from the objects.
+     *
+     * @param hashes Hashes of already accessioned objects
+     * @return List of wrapper objects containing the accessioned objects and their associated accessions and hashes
+     */
+    List<AccessionWrapper<MODEL, HASH, ACCESSION>> getHashed(Collection<HASH> hashes);
+
     /**
      * Finds the last version of the object identified by the provided accession.
      *
@@ -71,6 +211,31 @@ public interface AccessioningService<MODEL, HASH, ACCESSION> {
     AccessionWrapper<MODEL, HASH, ACCESSION> getByAccession(ACCESSION accession)
             throws AccessionDoesNotExistException, AccessionMergedException, AccessionDeprecatedException;
 
+    /**
+     * Finds the last version of the objects identified by the provided accessions. Accessions that are merged,
+     * deprecated or do not exist are reported in the result instead of throwing an exception. The default
+     * implementation looks up the accessions one by one with {@link #getByAccession(Object)}.
+     *
+     * @param accessions List of accessions that identify the objects
+     * @return One wrapper per provided accession, in the same order, with the status of the accession and the last
+     * version of the object if the accession is active
+     */
+    default List<AccessionStatusWrapper<MODEL, HASH, ACCESSION>> getByAccessions(List<ACCESSION> accessions) {
+        List<AccessionStatusWrapper<MODEL, HASH, ACCESSION>> statuses = new ArrayList<>(accessions.size());
+        for (ACCESSION accession : accessions) {
+            try {
+                statuses.add(AccessionStatusWrapper.active(getByAccession(accession)));
+            } catch (AccessionMergedException e) {
+                statuses.add(AccessionStatusWrapper.merged(accession, e));
+            } catch (AccessionDeprecatedException e) {
+                statuses.add(AccessionStatusWrapper.deprecated(accession));
+            } catch (AccessionDoesNotExistException e) {
+                statuses.add(AccessionStatusWrapper.doesNotExist(accession));
+            }
+        }
+        return statuses;
+    }
+
     /**
      * Finds the object identified by the provided accession and version.
      *
@@ -115,6 +280,58 @@ public interface AccessioningService<MODEL, HASH, ACCESSION> {
             throws AccessionDoesNotExistException, HashAlreadyExistsException, AccessionDeprecatedException,
             AccessionMergedException;
 
+    /**
+     * Updates the same version of several accessions, without creating new versions. Each accession is updated on its
+     * own: an accession that can't be updated is reported in its outcome with the exception that
+     * {@link #update(Object, int, Object)} would throw, and the other accessions are still updated. The default
+     * implementation updates the accessions one by one; implementations may update them in bulk.
+     *
+     * @param messages Details of the object of each accession
+     * @param version Version number of the accessioned objects
+     * @return One outcome per accession, in the iteration order of the map, with all the versions of the accession if
+     * it has been updated
+     */
+    default List<OperationOutcome<ACCESSION, AccessionVersionsWrapper<MODEL, HASH, ACCESSION>>> updateAll(
+            Map<ACCESSION, ? extends MODEL> messages, int version) {
+        List<OperationOutcome<ACCESSION, AccessionVersionsWrapper<MODEL, HASH, ACCESSION>>> outcomes =
+                new ArrayList<>(messages.size());
+        for (Map.Entry<ACCESSION, ? extends MODEL> message : messages.entrySet()) {
+            try {
+                outcomes.add(OperationOutcome.success(message.getKey(),
+                                                      update(message.getKey(), version, message.getValue())));
+            } catch (AccessionDoesNotExistException | HashAlreadyExistsException | AccessionDeprecatedException |
+                    AccessionMergedException e) {
+                outcomes.add(OperationOutcome.failure(message.getKey(), e));
+            }
+        }
+        return outcomes;
+    }
+
+    /**
+     * Creates a new version of several accessions. Each accession is patched on its own: an accession that can't be
+     * patched is reported in its outcome with the exception that {@link #patch(Object, Object)} would throw, and the
+     * other accessions are still patched. The default implementation patches the accessions one by one;
+     * implementations may patch them in bulk.
+     *
+     * @param messages Details of the new version of the object of each accession
+     * @return One outcome per accession, in the iteration order of the map, with the new version of the accession if
+     * it has been patched. Implementations may include the previous versions too, as the default implementation does
+     */
+    default List<OperationOutcome<ACCESSION, AccessionVersionsWrapper<MODEL, HASH, ACCESSION>>> patchAll(
+            Map<ACCESSION, ? extends MODEL> messages) {
+        List<OperationOutcome<ACCESSION, AccessionVersionsWrapper<MODEL, HASH, ACCESSION>>> outcomes =
+                new ArrayList<>(messages.size());
+        for (Map.Entry<ACCESSION, ? extends MODEL> message : messages.entrySet()) {
+            try {
+                outcomes.add(OperationOutcome.success(message.getKey(), patch(message.getKey(), message.getValue())));
+            } catch (AccessionDoesNotExistException | HashAlreadyExistsException | AccessionDeprecatedException |
+                    AccessionMergedException e) {
+                outcomes.add(OperationOutcome.failure(message.getKey(), e));
+            }
+        }
+        return outcomes;
+    }
+
     /**
      * Deprecates an accession.
      *
@@ -140,4 +357,50 @@ public interface AccessioningService<MODEL, HASH, ACCESSION> {
     void merge(ACCESSION accessionOrigin, ACCESSION mergeInto, String reason) throws AccessionMergedException,
             AccessionDoesNotExistException, AccessionDeprecatedException;
 
+    /**
+     * Deprecates several accessions. Each accession is deprecated on its own: an accession that can't be deprecated
+     * is reported in its outcome with the exception that {@link #deprecate(Object, String)} would throw, and the other
+     * accessions are still deprecated. The default implementation deprecates the accessions one by one;
+     * implementations may deprecate them in bulk.
+     *
+     * @param accessions Accessions that identify the objects
+     * @param reason The reason for deprecation
+     * @return One outcome per accession, in the same order, without result
+     */
+    default List<OperationOutcome<ACCESSION, Void>> deprecateAll(List<ACCESSION> accessions, String reason) {
+        List<OperationOutcome<ACCESSION, Void>> outcomes = new ArrayList<>(accessions.size());
+        for (ACCESSION accession : accessions) {
+            try {
+                deprecate(accession, reason);
+                outcomes.add(OperationOutcome.success(accession, null));
+            } catch (AccessionDoesNotExistException | AccessionDeprecatedException | AccessionMergedException e) {
+                outcomes.add(OperationOutcome.failure(accession, e));
+            }
+        }
+        return outcomes;
+    }
+
+    /**
+     * Merges several accessions into other ones. The merges are applied in the iteration order of the map, as if
+     * {@link #merge(Object, Object, String)} had been called for each of them: a merge that can't be applied is
+     * reported in its outcome with the exception that it would throw, and the other merges are still applied. The
+     * default implementation merges the accessions one by one; implementations may merge them in bulk.
+     *
+     * @param merges Accession the original one will be merged into, by accession which will be merged
+     * @param reason The reason for merging the accessions
+     * @return One outcome per merged accession, in the iteration order of the map, without result
+     */
+    default List<OperationOutcome<ACCESSION, Void>> mergeAll(Map<ACCESSION, ACCESSION> merges, String reason) {
+        List<OperationOutcome<ACCESSION, Void>> outcomes = new ArrayList<>(merges.size());
+        for (Map.Entry<ACCESSION, ACCESSION> merge : merges.entrySet()) {
+            try {
+                merge(merge.getKey(), merge.getValue(), reason);
+                outcomes.add(OperationOutcome.success(merge.getKey(), null));
+            } catch (AccessionDoesNotExistException | AccessionDeprecatedException | AccessionMergedException e) {
+                outcomes.add(OperationOutcome.failure(merge.getKey(), e));
+            }
+        }
+        return outcomes;
+    }
+
 }
@@ -0,0 +1,106 @@
+/*
+ *
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.ebi.ampt2d.commons.accession.core;
+
+/**
+ * Chooses between {@link AccessionSaveMode#SAVE_ALL_THEN_RESOLVE} and {@link AccessionSaveMode#PREFILTER_EXISTING}
+ * for each batch, based on an exponentially weighted moving average of the ratio of objects that had already been
+ * accessioned in the previous batches. Prefiltering costs an extra query per batch, which is wasted on new objects,
+ * while saving objects that already exist fails and generates accessions that have to be released.
+ */
+public class AdaptiveSaveModeSelector {
+
+    public static final double DEFAULT_SMOOTHING_FACTOR = 0.2;
+
+    public static final double DEFAULT_DUPLICATE_RATIO_THRESHOLD = 0.2;
+
+    private final double smoothingFactor;
+
+    private final double duplicateRatioThreshold;
+
+    private double duplicateRatio;
+
+    private AccessionSaveMode lastSaveMode;
+
+    private long saveAllThenResolveCount;
+
+    private long prefilterExistingCount;
+
+    public AdaptiveSaveModeSelector() {
+        this(DEFAULT_SMOOTHING_FACTOR, DEFAULT_DUPLICATE_RATIO_THRESHOLD);
+    }
+
+    /**
+     * @param smoothingFactor         Weight of the last batch in the average, between 0 (exclusive) and 1
+     * @param duplicateRatioThreshold Average ratio of already accessioned objects above which the existing objects
+     *                                are prefiltered
+     */
+    public AdaptiveSaveModeSelector(double smoothingFactor, double duplicateRatioThreshold) {
+        if (smoothingFactor <= 0 || smoothingFactor > 1) {
+            throw new IllegalArgumentException("Smoothing factor must be greater than 0 and not greater than 1");
+        }
+        this.smoothingFactor = smoothingFactor;
+        this.duplicateRatioThreshold = duplicateRatioThreshold;
+        this.duplicateRatio = 0;
+        this.lastSaveMode = AccessionSaveMode.SAVE_ALL_THEN_RESOLVE;
+    }
+
+    public synchronized AccessionSaveMode selectSaveMode() {
+        if (duplicateRatio > duplicateRatioThreshold) {
+            lastSaveMode = AccessionSaveMode.PREFILTER_EXISTING;
+            prefilterExistingCount++;
+        } else {
+            lastSaveMode = AccessionSaveMode.SAVE_ALL_THEN_RESOLVE;
+            saveAllThenResolveCount++;
+        }
+        return lastSaveMode;
+    }
+
+    /**
+     * @param batchSize       Number of distinct objects in the batch
+     * @param duplicatesCount Number of objects of the batch that had already been accessioned
+     */
+    public synchronized void recordBatch(int batchSize, int duplicatesCount) {
+        if (batchSize > 0) {
+            duplicateRatio += smoothingFactor * ((double) duplicatesCount / batchSize - duplicateRatio);
+        }
+    }
+
+    public synchronized double getDuplicateRatio() {
+        return duplicateRatio;
+    }
+
+    public double getDuplicateRatioThreshold() {
+        return duplicateRatioThreshold;
+    }
+
+    /**
+     * @return Save mode chosen for the last batch
+     */
+    public synchronized AccessionSaveMode getLastSaveMode() {
+        return lastSaveMode;
+    }
+
+    public synchronized long getSaveAllThenResolveCount() {
+        return saveAllThenResolveCount;
+    }
+
+    public synchronized long getPrefilterExistingCount() {
+        return prefilterExistingCount;
+    }
+}
@@ -0,0 +1,347 @@
+/*
+ *
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.ebi.ampt2d.commons.accession.core;
+
+import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionCouldNotBeGeneratedException;
+import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionDeprecatedException;
+import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionDoesNotExistException;
+import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionMergedException;
+import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessioningOverloadedException;
+import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.HashAlreadyExistsException;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionBatchResult;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionStatusWrapper;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionVersionsWrapper;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionWrapper;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.GetOrCreateAccessionWrapper;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.OperationOutcome;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Service that limits the number of objects processed at the same time by the wrapped service. Each operation needs
+ * one permit per object it receives, or a single permit if it works on one accession. Operations that can't get their
+ * permits wait in a bounded queue for a limited time, in arrival order; when the queue is full or the wait time
+ * expires, they are rejected with an {@link AccessioningOverloadedException} that advises the client when to retry.
+ * <p>
+ * Operations with more objects than the maximum in-flight objects take all the permits, so they run alone.
+ *
+ * @param <MODEL>     Type of the objects identified by the accessions
+ * @param <HASH>      Type of the hash calculated based on the fields that uniquely identify an accessioned object
+ * @param <ACCESSION> Type of the accession that identifies an object of a particular model
+ */
+public class AdmissionControlledAccessioningService<MODEL, HASH, ACCESSION>
+        extends DelegatingAccessioningService<MODEL, HASH, ACCESSION> {
+
+    public static final long DEFAULT_RETRY_AFTER_SECONDS = 1;
+
+    private final int maxInFlightObjects;
+
+    private final int maxQueuedRequests;
+
+    private final long maxWaitMillis;
+
+    private final long retryAfterSeconds;
+
+    private final Semaphore permits;
+
+    private final AtomicInteger queuedRequests;
+
+    private final AtomicLong rejectedCount;
+
+    public AdmissionControlledAccessioningService(AccessioningService<MODEL, HASH, ACCESSION> service,
+                                                  int maxInFlightObjects, int maxQueuedRequests,
+                                                  long maxWaitMillis) {
+        this(service, maxInFlightObjects, maxQueuedRequests, maxWaitMillis, DEFAULT_RETRY_AFTER_SECONDS);
+    }
+
+    /**
+     * @param maxInFlightObjects Maximum number of objects processed at the same time by the wrapped service
+     * @param maxQueuedRequests  Maximum number of operations waiting for permits. Zero rejects any operation that
+     *                           can't run straight away
+     * @param maxWaitMillis      Maximum time an operation waits for its permits before being rejected
+     * @param retryAfterSeconds  Time the rejected clients are advised to wait before retrying
+     */
+    public AdmissionControlledAccessioningService(AccessioningService<MODEL, HASH, ACCESSION> service,
+                                                  int maxInFlightObjects, int maxQueuedRequests, long maxWaitMillis,
+                                                  long retryAfterSeconds) {
+        super(service);
+        if (maxInFlightObjects < 1) {
+            throw new IllegalArgumentException("Maximum number of in-flight objects must be greater than zero");
+        }
+        if (maxQueuedRequests < 0) {
+            throw new IllegalArgumentException("Maximum number of queued requests can't be negative");
+        }
+        if (maxWaitMillis < 0) {
+            throw new IllegalArgumentException("Maximum wait time can't be negative");
+        }
+        this.maxInFlightObjects = maxInFlightObjects;
+        this.maxQueuedRequests = maxQueuedRequests;
+        this.maxWaitMillis = maxWaitMillis;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.permits = new Semaphore(maxInFlightObjects, true);
+        this.queuedRequests = new AtomicInteger();
+        this.rejectedCount = new AtomicLong();
+    }
+
+    @Override
+    public List<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>> getOrCreate(List<? extends MODEL> messages,
+                                                                                 String applicationInstanceId)
+            throws AccessionCouldNotBeGeneratedException {
+        int acquiredPermits = acquire(messages.size());
+        try {
+            return getService().getOrCreate(messages, applicationInstanceId);
+        } finally {
+            permits.release(acquiredPermits);
+        }
+    }
+
+    @Override
+    public AccessionBatchResult<MODEL, HASH, ACCESSION> getOrCreateBatch(List<? extends MODEL> messages,
+                                                                        String applicationInstanceId)
+            throws AccessionCouldNotBeGeneratedException {
+        int acquiredPermits = acquire(messages.size());
+        try {
+            return getService().getOrCreateBatch(messages, applicationInstanceId);
+        } finally {
+            permits.release(acquiredPermits);
+        }
+    }
+
+    @Override
+    public List<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>> getOrCreateAligned(
+            List<? extends MODEL> messages, String applicationInstanceId)
+            throws AccessionCouldNotBeGeneratedException {
+        int acquiredPermits = acquire(messages.size());
+        try {
+            return getService().getOrCreateAligned(messages, applicationInstanceId);
+        } finally {
+            permits.release(acquiredPermits);
+        }
+    }
+
+    @Override
+    public List<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>> getOrCreateHashed(
+            Map<HASH, ? extends MODEL> hashedMessages, String applicationInstanceId)
+            throws AccessionCouldNotBeGeneratedException {
+        int acquiredPermits = acquire(hashedMessages.size());
+        try {
+            return getService().getOrCreateHashed(hashedMessages, applicationInstanceId);
+        } finally {
+            permits.release(acquiredPermits);
+        }
+    }
+
+    @Override
+    public List<AccessionWrapper<MODEL, HASH, ACCESSION>> get(List<? extends MODEL> accessionedObjects) {
+        int acquiredPermits = acquire(accessionedObjects.size());
+        try {
+            return getService().get(accessionedObjects);
+        } finally {
+            permits.release(acquiredPermits);
+        }
+    }
+
+    @Override
+    public List<AccessionWrapper<MODEL, HASH, ACCESSION>> getHashed(Collection<HASH> hashes) {
+        int acquiredPermits = acquire(hashes.size());
+        try {
+            return getService().getHashed(hashes);
+        } finally {
+            permits.release(acquiredPermits);
+        }
+    }
+
+    @Override
+    public AccessionWrapper<MODEL, HASH, ACCESSION> getByAccession(ACCESSION accession)
+            throws AccessionDoesNotExistException, AccessionMergedException, AccessionDeprecatedException {
+        int acquiredPermits = acquire(1);
+        try {
+            return getService().getByAccession(accession);
+        } finally {
+            permits.release(acquiredPermits);
+        }
+    }
+
+    @Override
+    public List<AccessionStatusWrapper<MODEL, HASH, ACCESSION>> getByAccessions(List<ACCESSION> accessions) {
+        int acquiredPermits = acquire(accessions.size());
+        try {
+            return getService().getByAccessions(accessions);
+        } finally {
+            permits.release(acquiredPermits);
+        }
+    }
+
+    @Override
+    public AccessionWrapper<MODEL, HASH, ACCESSION> getByAccessionAndVersion(ACCESSION accession, int version)
+            throws AccessionDoesNotExistException, AccessionMergedException, AccessionDeprecatedException {
+        int acquiredPermits = acquire(1);
+        try {
+            return getService().getByAccessionAndVersion(accession, version);
+        } finally {
+            permits.release(acquiredPermits);
+        }
+    }
+
+    @Override
+    public AccessionVersionsWrapper<MODEL, HASH, ACCESSION> update(ACCESSION accession, int version, MODEL message)
+            throws AccessionDoesNotExistException, HashAlreadyExistsException, AccessionDeprecatedException,
+            AccessionMergedException {
+        int acquiredPermits = acquire(1);
+        try {
+            return getService().update(accession, version, message);
+        } finally {
+            permits.release(acquiredPermits);
+        }
+    }
+
+    @Override
+    public AccessionVersionsWrapper<MODEL, HASH, ACCESSION> patch(ACCESSION accession, MODEL message)
+            throws AccessionDoesNotExistException, HashAlreadyExistsException, AccessionDeprecatedException,
+            AccessionMergedException {
+        int acquiredPermits = acquire(1);
+        try {
+            return getService().patch(accession, message);
+        } finally {
+            permits.release(acquiredPermits);
+        }
+    }
+
+    @Override
+    public List<OperationOutcome<ACCESSION, AccessionVersionsWrapper<MODEL, HASH, ACCESSION>>> updateAll(
+            Map<ACCESSION, ? extends MODEL> messages, int version) {
+        int acquiredPermits = acquire(messages.size());
+        try {
+            return getService().updateAll(messages, version);
+        } finally {
+            permits.release(acquiredPermits);
+        }
+    }
+
+    @Override
+    public List<OperationOutcome<ACCESSION, AccessionVersionsWrapper<MODEL, HASH, ACCESSION>>> patchAll(
+            Map<ACCESSION, ? extends MODEL> messages) {
+        int acquiredPermits = acquire(messages.size());
+        try {
+            return getService().patchAll(messages);
+        } finally {
+            permits.release(acquiredPermits);
+        }
+    }
+
+    @Override
+    public void deprecate(ACCESSION accession, String reason) throws AccessionMergedException,
+            AccessionDoesNotExistException, AccessionDeprecatedException {
+        int acquiredPermits = acquire(1);
+        try {
+            getService().deprecate(accession, reason);
+        } finally {
+            permits.release(acquiredPermits);
+        }
+    }
+
+    @Override
+    public void merge(ACCESSION accessionOrigin, ACCESSION mergeInto, String reason) throws AccessionMergedException,
+            AccessionDoesNotExistException, AccessionDeprecatedException {
+        int acquiredPermits = acquire(1);
+        try {
+            getService().merge(accessionOrigin, mergeInto, reason);
+        } finally {
+            permits.release(acquiredPermits);
+        }
+    }
+
+    @Override
+    public List<OperationOutcome<ACCESSION, Void>> deprecateAll(List<ACCESSION> accessions, String reason) {
+        int acquiredPermits = acquire(accessions.size());
+        try {
+            return getService().deprecateAll(accessions, reason);
+        } finally {
+            permits.release(acquiredPermits);
+        }
+    }
+
+    @Override
+    public List<OperationOutcome<ACCESSION, Void>> mergeAll(Map<ACCESSION, ACCESSION> merges, String reason) {
+        int acquiredPermits = acquire(merges.size());
+        try {
+            return getService().mergeAll(merges, reason);
+        } finally {
+            permits.release(acquiredPermits);
+        }
+    }
+
+    /**
+     * @return Number of permits acquired, which must be released when the operation finishes
+     */
+    private int acquire(int objectCount) {
+        int requestedPermits = Math.max(1, Math.min(objectCount, maxInFlightObjects));
+        try {
+            // A zero timeout, unlike tryAcquire(int), doesn't overtake the queued requests
+            if (permits.tryAcquire(requestedPermits, 0, TimeUnit.MILLISECONDS)) {
+                return requestedPermits;
+            }
+            if (queuedRequests.incrementAndGet() > maxQueuedRequests) {
+                queuedRequests.decrementAndGet();
+                throw reject("Too many requests waiting to be accessioned");
+            }
+            try {
+                if (permits.tryAcquire(requestedPermits, maxWaitMillis, TimeUnit.MILLISECONDS)) {
+                    return requestedPermits;
+                }
+            } finally {
+                queuedRequests.decrementAndGet();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        throw reject("Timed out waiting to be accessioned");
+    }
+
+    private AccessioningOverloadedException reject(String message) {
+        rejectedCount.incrementAndGet();
+        return new AccessioningOverloadedException(message, retryAfterSeconds);
+    }
+
+    /**
+     * @return Number of requests waiting for permits at the moment
+     */
+    public int getQueueDepth() {
+        return queuedRequests.get();
+    }
+
+    /**
+     * @return Number of objects being processed by the wrapped service at the moment
+     */
+    public int getInFlightObjects() {
+        return maxInFlightObjects - permits.availablePermits();
+    }
+
+    /**
+     * @return Number of requests rejected since the service was created
+     */
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+}
@@ -25,18 +25,30 @@ import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionDoesNotExistE
 import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionMergedException;
 import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.HashAlreadyExistsException;
 import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.MissingUnsavedAccessionsException;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionBatchResult;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionStatusWrapper;
 import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionVersionsWrapper;
 import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionWrapper;
 import uk.ac.ebi.ampt2d.commons.accession.core.models.GetOrCreateAccessionWrapper;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.OperationOutcome;
 import uk.ac.ebi.ampt2d.commons.accession.core.models.SaveResponse;
 import uk.ac.ebi.ampt2d.commons.accession.generators.AccessionGenerator;
+import uk.ac.ebi.ampt2d.commons.accession.utils.BloomFilter;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -54,6 +66,10 @@ public class BasicAccessioningService<MODEL, HASH, ACCESSION extends Serializabl
 
     private static final String PATCH_DEFAULT_REASON = "patch";
 
+    public static final int DEFAULT_PARALLEL_HASHING_THRESHOLD = 10000;
+
+    public static final int DEFAULT_PARTITION_THRESHOLD = 10000;
+
     private AccessionGenerator<MODEL, ACCESSION> accessionGenerator;
 
     private DatabaseService<MODEL, HASH, ACCESSION> dbService;
@@ -62,101 +78,513 @@ public class BasicAccessioningService<MODEL, HASH, ACCESSION extends Serializabl
 
     private final AccessionSaveMode accessionSaveMode;
 
+    private final BloomFilter<HASH> existingHashesFilter;
+
+    private final AdaptiveSaveModeSelector saveModeSelector;
+
+    private final ForkJoinPool hashingPool;
+
+    private final int parallelHashingThreshold;
+
+    private final Executor partitionExecutor;
+
+    private final int numberOfPartitions;
+
+    private final int partitionThreshold;
+
+    /**
+     * Accessions generated for the hashes not found in the database, and accessions of the hashes found in it.
+     */
+    private class GeneratedAccessions {
+
+        private final List<AccessionWrapper<MODEL, HASH, ACCESSION>> newAccessions;
+
+        private final List<AccessionWrapper<MODEL, HASH, ACCESSION>> preexistingAccessions;
+
+        GeneratedAccessions(List<AccessionWrapper<MODEL, HASH, ACCESSION>> newAccessions,
+                            List<AccessionWrapper<MODEL, HASH, ACCESSION>> preexistingAccessions) {
+            this.newAccessions = newAccessions;
+            this.preexistingAccessions = preexistingAccessions;
+        }
+
+    }
+
     public BasicAccessioningService(AccessionGenerator<MODEL, ACCESSION> accessionGenerator,
                                     DatabaseService<MODEL, HASH, ACCESSION> dbService,
                                     Function<MODEL, String> summaryFunction,
                                     Function<String, HASH> hashingFunction,
                                     AccessionSaveMode accessionSaveMode) {
-        this.accessionGenerator = accessionGenerator;
-        this.dbService = dbService;
-        this.hashingFunction = summaryFunction.andThen(hashingFunction);
-        this.accessionSaveMode = accessionSaveMode != null ? accessionSaveMode : AccessionSaveMode.SAVE_ALL_THEN_RESOLVE;
+        this(builder(accessionGenerator, dbService, summaryFunction, hashingFunction)
+                     .accessionSaveMode(accessionSaveMode));
+    }
+
+    private BasicAccessioningService(Builder<MODEL, HASH, ACCESSION> builder) {
+        this.accessionGenerator = builder.accessionGenerator;
+        this.dbService = builder.dbService;
+        this.hashingFunction = builder.summaryFunction.andThen(builder.hashingFunction);
+        this.accessionSaveMode = builder.accessionSaveMode != null ? builder.accessionSaveMode :
+                AccessionSaveMode.SAVE_ALL_THEN_RESOLVE;
+        if (this.accessionSaveMode == AccessionSaveMode.PREFILTER_WITH_BLOOM_FILTER &&
+                builder.existingHashesFilter == null) {
+            throw new IllegalArgumentException("A filter of the existing hashes is required by save mode "
+                                                       + AccessionSaveMode.PREFILTER_WITH_BLOOM_FILTER);
+        }
+        this.existingHashesFilter = builder.existingHashesFilter;
+        this.saveModeSelector = this.accessionSaveMode == AccessionSaveMode.ADAPTIVE &&
+                builder.saveModeSelector == null ? new AdaptiveSaveModeSelector() : builder.saveModeSelector;
+        if (builder.partitionExecutor != null && builder.numberOfPartitions < 1) {
+            throw new IllegalArgumentException("The number of partitions must be greater than zero");
+        }
+        this.hashingPool = builder.hashingPool;
+        this.parallelHashingThreshold = builder.parallelHashingThreshold;
+        this.partitionExecutor = builder.partitionExecutor;
+        this.numberOfPartitions = builder.numberOfPartitions;
+        this.partitionThreshold = builder.partitionThreshold;
+    }
+
+    /**
+     * Creates a builder of services with optional settings: the save mode, the pool used to hash large batches and
+     * the executor used to split them in partitions. Without any of them, the service is the same as the one created
+     * by the constructor with {@link AccessionSaveMode#SAVE_ALL_THEN_RESOLVE}.
+     */
+    public static <MODEL, HASH, ACCESSION extends Serializable> Builder<MODEL, HASH, ACCESSION> builder(
+            AccessionGenerator<MODEL, ACCESSION> accessionGenerator,
+            DatabaseService<MODEL, HASH, ACCESSION> dbService,
+            Function<MODEL, String> summaryFunction,
+            Function<String, HASH> hashingFunction) {
+        return new Builder<>(accessionGenerator, dbService, summaryFunction, hashingFunction);
+    }
+
+    /**
+     * Builder of {@link BasicAccessioningService}.
+     */
+    public static class Builder<MODEL, HASH, ACCESSION extends Serializable> {
+
+        private final AccessionGenerator<MODEL, ACCESSION> accessionGenerator;
+
+        private final DatabaseService<MODEL, HASH, ACCESSION> dbService;
+
+        private final Function<MODEL, String> summaryFunction;
+
+        private final Function<String, HASH> hashingFunction;
+
+        private AccessionSaveMode accessionSaveMode;
+
+        private BloomFilter<HASH> existingHashesFilter;
+
+        private AdaptiveSaveModeSelector saveModeSelector;
+
+        private ForkJoinPool hashingPool;
+
+        private int parallelHashingThreshold = DEFAULT_PARALLEL_HASHING_THRESHOLD;
+
+        private Executor partitionExecutor;
+
+        private int numberOfPartitions = 1;
+
+        private int partitionThreshold = DEFAULT_PARTITION_THRESHOLD;
+
+        private Builder(AccessionGenerator<MODEL, ACCESSION> accessionGenerator,
+                        DatabaseService<MODEL, HASH, ACCESSION> dbService,
+                        Function<MODEL, String> summaryFunction,
+                        Function<String, HASH> hashingFunction) {
+            this.accessionGenerator = accessionGenerator;
+            this.dbService = dbService;
+            this.summaryFunction = summaryFunction;
+            this.hashingFunction = hashingFunction;
+        }
+
+        /**
+         * @param accessionSaveMode Save mode. If null, {@link AccessionSaveMode#SAVE_ALL_THEN_RESOLVE} is used
+         */
+        public Builder<MODEL, HASH, ACCESSION> accessionSaveMode(AccessionSaveMode accessionSaveMode) {
+            this.accessionSaveMode = accessionSaveMode;
+            return this;
+        }
+
+        /**
+         * Saves the accessions using {@link AccessionSaveMode#PREFILTER_WITH_BLOOM_FILTER}.
+         *
+         * @param existingHashesFilter Filter of the hashes already stored in the database. It is usually loaded with
+         *                             {@link BloomFilter#load} or filled at startup with
+         *                             {@link DatabaseService#forEachHash}, and it is updated with the hashes of every
+         *                             saved batch.
+         */
+        public Builder<MODEL, HASH, ACCESSION> existingHashesFilter(BloomFilter<HASH> existingHashesFilter) {
+            this.accessionSaveMode = AccessionSaveMode.PREFILTER_WITH_BLOOM_FILTER;
+            this.existingHashesFilter = existingHashesFilter;
+            return this;
+        }
+
+        /**
+         * Saves the accessions using {@link AccessionSaveMode#ADAPTIVE}. When the save mode is set to
+         * {@link AccessionSaveMode#ADAPTIVE} without a selector, one with the default settings is created.
+         *
+         * @param saveModeSelector Selector of the save mode of each batch
+         */
+        public Builder<MODEL, HASH, ACCESSION> saveModeSelector(AdaptiveSaveModeSelector saveModeSelector) {
+            this.accessionSaveMode = AccessionSaveMode.ADAPTIVE;
+            this.saveModeSelector = saveModeSelector;
+            return this;
+        }
+
+        /**
+         * @param hashingPool              Pool used to compute the summaries and hashes of large batches. The summary
+         *                                 and hashing functions must be thread safe. If not provided, hashing is
+         *                                 always done on the calling thread.
+         * @param parallelHashingThreshold Minimum number of objects in a batch for the hashing to be done in parallel
+         */
+        public Builder<MODEL, HASH, ACCESSION> parallelHashing(ForkJoinPool hashingPool,
+                                                               int parallelHashingThreshold) {
+            this.hashingPool = hashingPool;
+            this.parallelHashingThreshold = parallelHashingThreshold;
+            return this;
+        }
+
+        /**
+         * Splits large batches by hash in partitions, and generates, saves and resolves the accessions of each
+         * partition concurrently. Every partition runs on a thread of the executor, so it uses its own database
+         * connection and is not part of any transaction opened by the caller. No two partitions contain the same
+         * hash, so they never compete to save the same object. The calls to the accession generator are serialized.
+         *
+         * @param partitionExecutor  Executor that runs the partitions
+         * @param numberOfPartitions Number of partitions in which large batches are split
+         * @param partitionThreshold Minimum number of unique objects in a batch for it to be split in partitions
+         */
+        public Builder<MODEL, HASH, ACCESSION> partitioning(Executor partitionExecutor, int numberOfPartitions,
+                                                            int partitionThreshold) {
+            this.partitionExecutor = partitionExecutor;
+            this.numberOfPartitions = numberOfPartitions;
+            this.partitionThreshold = partitionThreshold;
+            return this;
+        }
+
+        public BasicAccessioningService<MODEL, HASH, ACCESSION> build() {
+            return new BasicAccessioningService<>(this);
+        }
     }
 
     @Override
     public List<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>> getOrCreate(List<? extends MODEL> messages,
                                                                                  String applicationInstanceId)
             throws AccessionCouldNotBeGeneratedException {
-        return saveAccessions(accessionGenerator.generateAccessions(mapHashOfMessages(messages), applicationInstanceId));
+        return getOrCreateHashes(mapHashOfMessages(messages), applicationInstanceId);
     }
 
     /**
-     * Digests messages using a hash function. If two messages have the same hash, keeps the first one.
+     * The results are written straight into the batch result, without a {@link GetOrCreateAccessionWrapper} per
+     * object. When the batch is split in partitions, every partition writes into its own batch result, and they are
+     * concatenated at the end.
      */
-    private Map<HASH, MODEL> mapHashOfMessages(List<? extends MODEL> messages) {
-        return messages.stream().collect(Collectors.toMap(hashingFunction, e -> e, (r, o) -> r));
+    @Override
+    public AccessionBatchResult<MODEL, HASH, ACCESSION> getOrCreateBatch(List<? extends MODEL> messages,
+                                                                        String applicationInstanceId)
+            throws AccessionCouldNotBeGeneratedException {
+        return getOrCreateHashesBatch(mapHashOfMessages(messages), applicationInstanceId);
+    }
+
+    @Override
+    public List<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>> getOrCreateHashed(
+            Map<HASH, ? extends MODEL> hashedMessages, String applicationInstanceId)
+            throws AccessionCouldNotBeGeneratedException {
+        return getOrCreateHashes(new HashMap<>(hashedMessages), applicationInstanceId);
     }
 
     /**
-     * Execute {@link DatabaseService#save(List)}  This operation will generate two lists on {@link SaveResponse}
-     * saved elements and not saved elements. Not saved elements are elements that could not be stored on database
-     * due to constraint exceptions. This should only happen when elements have been already stored by another
-     * application instance / thread with a different id.
-     * See {@link #getPreexistingAccessions(List)} } for more details.
+     * Each object is hashed only once. The position of the unique hash of every input object is kept in an index
+     * array, which is used to place the saved accessions back in input order.
+     */
+    @Override
+    public List<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>> getOrCreateAligned(
+            List<? extends MODEL> messages, String applicationInstanceId)
+            throws AccessionCouldNotBeGeneratedException {
+        List<HASH> hashes = getHashes(messages);
+        Map<HASH, Integer> uniqueHashIndexes = new HashMap<>();
+        Map<HASH, MODEL> hashToMessage = new HashMap<>();
+        int[] messageIndexes = new int[messages.size()];
+        Iterator<HASH> hashIterator = hashes.iterator();
+        for (int i = 0; i < messageIndexes.length; i++) {
+            HASH hash = hashIterator.next();
+            Integer uniqueHashIndex = uniqueHashIndexes.putIfAbsent(hash, uniqueHashIndexes.size());
+            if (uniqueHashIndex == null) {
+                uniqueHashIndex = uniqueHashIndexes.size() - 1;
+                hashToMessage.put(hash, messages.get(i));
+            }
+            messageIndexes[i] = uniqueHashIndex;
+        }
+
+        List<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>> accessions = getOrCreateHashes(
+                hashToMessage, applicationInstanceId);
+        List<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>> uniqueAccessions =
+                new ArrayList<>(Collections.nCopies(uniqueHashIndexes.size(), null));
+        for (GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION> accession : accessions) {
+            uniqueAccessions.set(uniqueHashIndexes.get(accession.getHash()), accession);
+        }
+        List<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>> alignedAccessions =
+                new ArrayList<>(messageIndexes.length);
+        for (int messageIndex : messageIndexes) {
+            alignedAccessions.add(uniqueAccessions.get(messageIndex));
+        }
+        return alignedAccessions;
+    }
+
+    /**
+     * Pipelined version of {@link #getOrCreate(List, String)}. The hashing, the lookup of pre-existing hashes and the
+     * accession generation of a chunk run while the previous chunk is being saved and resolved, so the database and
+     * the CPU-bound stages overlap. At most one chunk is generated ahead of the chunk being saved. Chunks are saved
+     * one after another in input order, so {@link AccessionGenerator#postSave(SaveResponse)} is called in the same
+     * order as the accessions were generated. The generation of a chunk may run at the same time as the post-save
+     * notification of the previous one, and generators are not thread safe, so both hold the lock of the generator.
+     * If a chunk cannot be saved, the accessions already generated for the next chunk are released.
+     */
+    @Override
+    public CompletableFuture<List<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>>> getOrCreateAsync(
+            List<? extends MODEL> messages, int chunkSize, String applicationInstanceId, Executor executor) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be greater than zero");
+        }
+        final List<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>> results = new ArrayList<>();
+        CompletableFuture<?> previousGenerated = CompletableFuture.completedFuture(null);
+        CompletableFuture<?> previousSaved = CompletableFuture.completedFuture(null);
+        CompletableFuture<?> secondPreviousSaved = CompletableFuture.completedFuture(null);
+        for (int start = 0; start < messages.size(); start += chunkSize) {
+            List<? extends MODEL> chunk = messages.subList(start, Math.min(start + chunkSize, messages.size()));
+            CompletableFuture<GeneratedAccessions> generated = previousGenerated
+                    .thenCombine(secondPreviousSaved, (generatedBefore, savedBefore) -> chunk)
+                    .thenApplyAsync(messagesToGenerate -> generateAccessions(messagesToGenerate,
+                                                                             applicationInstanceId), executor);
+            CompletableFuture<Throwable> previousSaveFailure = previousSaved.handle((saved, failure) -> failure);
+            CompletableFuture<?> saved = generated.thenCombineAsync(previousSaveFailure, (accessions, failure) -> {
+                if (failure != null) {
+                    releaseAccessions(accessions.newAccessions);
+                    throw failure instanceof CompletionException ? (CompletionException) failure :
+                            new CompletionException(failure);
+                }
+                results.addAll(saveAccessions(accessions));
+                return null;
+            }, executor);
+            previousGenerated = generated;
+            secondPreviousSaved = previousSaved;
+            previousSaved = saved;
+        }
+        return previousSaved.thenApply(saved -> results);
+    }
+
+    private GeneratedAccessions generateAccessions(List<? extends MODEL> messages, String applicationInstanceId) {
+        return generateAccessionsInStage(mapHashOfMessages(messages), applicationInstanceId);
+    }
+
+    private GeneratedAccessions generateAccessionsInStage(Map<HASH, MODEL> hashToMessage,
+                                                          String applicationInstanceId) {
+        try {
+            return generateAccessions(hashToMessage, applicationInstanceId);
+        } catch (AccessionCouldNotBeGeneratedException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    private List<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>> getOrCreateHashes(
+            Map<HASH, MODEL> hashToMessage, String applicationInstanceId)
+            throws AccessionCouldNotBeGeneratedException {
+        return getOrCreateHashesBatch(hashToMessage, applicationInstanceId).toList();
+    }
+
+    /**
+     * Large batches are split by hash in partitions when a partition executor has been provided. The accessions of
+     * every partition are generated, saved and resolved concurrently into a batch result per partition, and the
+     * results are concatenated in partition order once all the partitions have finished. If any partition fails, the
+     * first failure is thrown after the rest have finished.
      */
-    private List<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>> saveAccessions(List<AccessionWrapper<MODEL, HASH, ACCESSION>> accessions) {
-        logger.trace("Accessions to save: {}", accessions.stream().map(AccessionWrapper::getAccession).collect(
-                Collectors.toList()));
+    private AccessionBatchResult<MODEL, HASH, ACCESSION> getOrCreateHashesBatch(Map<HASH, MODEL> hashToMessage,
+                                                                               String applicationInstanceId)
+            throws AccessionCouldNotBeGeneratedException {
+        if (partitionExecutor == null || numberOfPartitions < 2 || hashToMessage.size() < partitionThreshold) {
+            return saveAccessions(generateAccessions(hashToMessage, applicationInstanceId), hashToMessage.size());
+        }
+        List<CompletableFuture<AccessionBatchResult<MODEL, HASH, ACCESSION>>> partitionResults =
+                new ArrayList<>(numberOfPartitions);
+        for (Map<HASH, MODEL> partition : partitionByHash(hashToMessage)) {
+            partitionResults.add(CompletableFuture.supplyAsync(
+                    () -> saveAccessions(generateAccessionsInStage(partition, applicationInstanceId),
+                                         partition.size()),
+                    partitionExecutor));
+        }
+        try {
+            CompletableFuture.allOf(partitionResults.toArray(new CompletableFuture<?>[0])).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof AccessionCouldNotBeGeneratedException) {
+                throw (AccessionCouldNotBeGeneratedException) e.getCause();
+            } else if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+        AccessionBatchResult<MODEL, HASH, ACCESSION> result = new AccessionBatchResult<>(hashToMessage.size());
+        for (CompletableFuture<AccessionBatchResult<MODEL, HASH, ACCESSION>> partitionResult : partitionResults) {
+            result.addAll(partitionResult.join());
+        }
+        return result;
+    }
+
+    private List<Map<HASH, MODEL>> partitionByHash(Map<HASH, MODEL> hashToMessage) {
+        List<Map<HASH, MODEL>> partitions = new ArrayList<>(numberOfPartitions);
+        for (int i = 0; i < numberOfPartitions; i++) {
+            partitions.add(new HashMap<>());
+        }
+        hashToMessage.forEach((hash, message) ->
+                partitions.get(Math.floorMod(hash.hashCode(), numberOfPartitions)).put(hash, message));
+        partitions.removeIf(Map::isEmpty);
+        return partitions;
+    }
+
+    /**
+     * Looks up the hashes that may already be stored, according to the save mode, and generates accessions only for
+     * the rest. Hashes stored by another application instance after the lookup are resolved when saving.
+     */
+    private GeneratedAccessions generateAccessions(Map<HASH, MODEL> hashToMessage, String applicationInstanceId)
+            throws AccessionCouldNotBeGeneratedException {
+        Set<HASH> hashesToCheck = getHashesToCheck(hashToMessage.keySet());
+        List<AccessionWrapper<MODEL, HASH, ACCESSION>> preexistingAccessions = hashesToCheck.isEmpty() ?
+                Collections.emptyList() : dbService.findAllByHash(hashesToCheck);
+        Map<HASH, MODEL> messagesToAccession = hashToMessage;
+        if (!preexistingAccessions.isEmpty()) {
+            messagesToAccession = new HashMap<>(hashToMessage);
+            for (AccessionWrapper<MODEL, HASH, ACCESSION> preexistingAccession : preexistingAccessions) {
+                messagesToAccession.remove(preexistingAccession.getHash());
+            }
+        }
+        List<AccessionWrapper<MODEL, HASH, ACCESSION>> newAccessions = messagesToAccession.isEmpty() ?
+                Collections.emptyList() :
+                generateNewAccessions(messagesToAccession, applicationInstanceId);
+        return new GeneratedAccessions(newAccessions, preexistingAccessions);
+    }
+
+    /**
+     * The generator is called while holding its lock, as pipelined chunks and partitions are generated while other
+     * chunks are saved.
+     */
+    private List<AccessionWrapper<MODEL, HASH, ACCESSION>> generateNewAccessions(Map<HASH, MODEL> messages,
+                                                                               String applicationInstanceId)
+            throws AccessionCouldNotBeGeneratedException {
+        synchronized (accessionGenerator) {
+            return accessionGenerator.generateAccessions(messages, applicationInstanceId);
+        }
+    }
+
+    /**
+     * The generator is notified while holding its lock, as partitions and pipelined chunks are saved concurrently.
+     */
+    private void postSave(SaveResponse<ACCESSION> response) {
+        synchronized (accessionGenerator) {
+            accessionGenerator.postSave(response);
+        }
+    }
+
+    private Set<HASH> getHashesToCheck(Set<HASH> hashes) {
         switch (this.accessionSaveMode) {
+            case ADAPTIVE:
+                return saveModeSelector.selectSaveMode() == AccessionSaveMode.PREFILTER_EXISTING ? hashes :
+                        Collections.emptySet();
             case PREFILTER_EXISTING:
-                return saveAccessionsPrefilteringExisting(accessions);
+                return hashes;
+            case PREFILTER_WITH_BLOOM_FILTER:
+                return hashes.stream().filter(existingHashesFilter::mightContain).collect(Collectors.toSet());
             case SAVE_ALL_THEN_RESOLVE:
             default:
-                return saveAllAccessionsThenResolve(accessions);
+                return Collections.emptySet();
         }
     }
 
-    private List<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>> saveAllAccessionsThenResolve(
-            List<AccessionWrapper<MODEL, HASH, ACCESSION>> accessions) {
-        SaveResponse<ACCESSION> response = dbService.save(accessions);
-        accessionGenerator.postSave(response);
+    private void releaseAccessions(List<AccessionWrapper<MODEL, HASH, ACCESSION>> accessions) {
+        Set<ACCESSION> accessionsToRelease = accessions.stream().map(AccessionWrapper::getAccession)
+                .collect(Collectors.toSet());
+        postSave(new SaveResponse<>(Collections.emptySet(), accessionsToRelease));
+    }
 
-        final List<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>> savedAccessions = new ArrayList<>();
-        final List<AccessionWrapper<MODEL, HASH, ACCESSION>> unsavedAccessions = new ArrayList<>();
-        accessions.stream().forEach(accessionModel -> {
-            if (response.isSavedAccession(accessionModel.getAccession())) {
-                savedAccessions.add(GetOrCreateAccessionWrapper.newAccession(accessionModel));
-            } else {
-                unsavedAccessions.add(accessionModel);
-            }
-        });
-        if (!unsavedAccessions.isEmpty()) {
-            getPreexistingAccessions(unsavedAccessions).stream().map(GetOrCreateAccessionWrapper::oldAccession)
-                    .forEach(savedAccessions::add);
+    /**
+     * Digests messages using a hash function. If two messages have the same hash, keeps the first one.
+     */
+    private Map<HASH, MODEL> mapHashOfMessages(List<? extends MODEL> messages) {
+        if (!isParallelHashing(messages)) {
+            return messages.stream().collect(Collectors.toMap(hashingFunction, e -> e, (r, o) -> r));
+        }
+        List<HASH> hashes = getHashes(messages);
+        Map<HASH, MODEL> hashToMessage = new HashMap<>();
+        Iterator<HASH> hashIterator = hashes.iterator();
+        for (MODEL message : messages) {
+            hashToMessage.putIfAbsent(hashIterator.next(), message);
         }
-        return savedAccessions;
+        return hashToMessage;
     }
 
-    private List<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>> saveAccessionsPrefilteringExisting(
-            List<AccessionWrapper<MODEL, HASH, ACCESSION>> accessions) {
-        Set<HASH> allHashes = accessions.stream().map(AccessionWrapper::getHash).collect(Collectors.toSet());
-        List<AccessionWrapper<MODEL, HASH, ACCESSION>> preexistingAccessions = dbService.findAllByHash(allHashes);
-        Set<HASH> preexistingHashes = preexistingAccessions.stream().map(AccessionWrapper::getHash).collect(Collectors.toSet());
-
-        // release accessions associated with pre-existing hashes
-        Set<ACCESSION> accessionsToRelease = accessions
-                .stream()
-                .filter(accession -> preexistingHashes.contains(accession.getHash()))
-                .map(AccessionWrapper::getAccession)
-                .collect(Collectors.toSet());
-        SaveResponse<ACCESSION> response = new SaveResponse<>(Collections.emptySet(), accessionsToRelease);
-        accessionGenerator.postSave(response);
+    private boolean isParallelHashing(List<? extends MODEL> messages) {
+        return hashingPool != null && messages.size() >= parallelHashingThreshold;
+    }
 
-        // save rest of the accessions
-        List<AccessionWrapper<MODEL, HASH, ACCESSION>> accessionsToSave = accessions.stream()
-                .filter(accession -> !preexistingHashes.contains(accession.getHash()))
-                .collect(Collectors.toList());
+    private AccessionBatchResult<MODEL, HASH, ACCESSION> saveAccessions(GeneratedAccessions accessions,
+                                                                        int expectedAccessions) {
+        AccessionBatchResult<MODEL, HASH, ACCESSION> result = new AccessionBatchResult<>(expectedAccessions);
+        saveAccessions(accessions, result::add);
+        return result;
+    }
 
+    private List<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>> saveAccessions(
+            GeneratedAccessions accessions) {
         final List<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>> result = new ArrayList<>();
+        saveAccessions(accessions, (accession, newAccession) -> result.add(
+                newAccession ? GetOrCreateAccessionWrapper.newAccession(accession) :
+                        GetOrCreateAccessionWrapper.oldAccession(accession)));
+        return result;
+    }
 
-        if (!accessionsToSave.isEmpty()) {
-            result.addAll(saveAllAccessionsThenResolve(accessionsToSave));
+    /**
+     * Execute {@link DatabaseService#save(List)} on the new accessions. This operation will generate two lists on
+     * {@link SaveResponse} saved elements and not saved elements. Not saved elements are elements that could not be
+     * stored on database due to constraint exceptions. This should only happen when elements have been already stored
+     * by another application instance / thread with a different id.
+     * See {@link #getPreexistingAccessions(List)} } for more details.
+     *
+     * @param resultConsumer Receives every accession, and whether it has been created by this operation
+     */
+    private void saveAccessions(GeneratedAccessions accessions,
+                                BiConsumer<AccessionWrapper<MODEL, HASH, ACCESSION>, Boolean> resultConsumer) {
+        logger.trace("Accessions to save: {}", accessions.newAccessions.stream().map(AccessionWrapper::getAccession)
+                .collect(Collectors.toList()));
+        int[] counts = new int[2];
+        BiConsumer<AccessionWrapper<MODEL, HASH, ACCESSION>, Boolean> countingConsumer = (accession, newAccession) -> {
+            counts[newAccession ? 0 : 1]++;
+            if (this.accessionSaveMode == AccessionSaveMode.PREFILTER_WITH_BLOOM_FILTER) {
+                existingHashesFilter.put(accession.getHash());
+            }
+            resultConsumer.accept(accession, newAccession);
+        };
+        if (!accessions.newAccessions.isEmpty()) {
+            saveAllAccessionsThenResolve(accessions.newAccessions, countingConsumer);
         }
+        accessions.preexistingAccessions.forEach(accession -> countingConsumer.accept(accession, false));
 
-        // add pre-existing back to result
-        preexistingAccessions.stream().map(GetOrCreateAccessionWrapper::oldAccession).forEach(result::add);
+        if (this.accessionSaveMode == AccessionSaveMode.ADAPTIVE) {
+            saveModeSelector.recordBatch(counts[0] + counts[1], counts[1]);
+        }
+    }
 
-        return result;
+    private void saveAllAccessionsThenResolve(
+            List<AccessionWrapper<MODEL, HASH, ACCESSION>> accessions,
+            BiConsumer<AccessionWrapper<MODEL, HASH, ACCESSION>, Boolean> resultConsumer) {
+        SaveResponse<ACCESSION> response = dbService.save(accessions);
+        postSave(response);
+
+        final List<AccessionWrapper<MODEL, HASH, ACCESSION>> unsavedAccessions = new ArrayList<>();
+        for (AccessionWrapper<MODEL, HASH, ACCESSION> accessionModel : accessions) {
+            if (response.isSavedAccession(accessionModel.getAccession())) {
+                resultConsumer.accept(accessionModel, true);
+            } else {
+                unsavedAccessions.add(accessionModel);
+            }
+        }
+        if (!unsavedAccessions.isEmpty()) {
+            getPreexistingAccessions(unsavedAccessions).forEach(accession -> resultConsumer.accept(accession, false));
+        }
     }
 
     /**
@@ -185,8 +613,20 @@ public class BasicAccessioningService<MODEL, HASH, ACCESSION extends Serializabl
         return dbService.findAllByHash(getHashes(accessionedObjects));
     }
 
-    private List<HASH> getHashes(List<? extends MODEL> accessionObjects) {
-        return accessionObjects.stream().map(hashingFunction).collect(Collectors.toList());
+    @Override
+    public List<AccessionWrapper<MODEL, HASH, ACCESSION>> getHashed(Collection<HASH> hashes) {
+        return dbService.findAllByHash(hashes);
+    }
+
+    /**
+     * Returns the hashes in the same order as the objects. Large lists are hashed in the hashing pool, if any.
+     */
+    List<HASH> getHashes(List<? extends MODEL> accessionObjects) {
+        if (!isParallelHashing(accessionObjects)) {
+            return accessionObjects.stream().map(hashingFunction).collect(Collectors.toList());
+        }
+        return hashingPool.submit(() -> accessionObjects.parallelStream().map(hashingFunction)
+                .collect(Collectors.toList())).join();
     }
 
     @Override
@@ -195,6 +635,11 @@ public class BasicAccessioningService<MODEL, HASH, ACCESSION extends Serializabl
         return dbService.findLastVersionByAccession(accession);
     }
 
+    @Override
+    public List<AccessionStatusWrapper<MODEL, HASH, ACCESSION>> getByAccessions(List<ACCESSION> accessions) {
+        return dbService.findLastVersionByAccessions(accessions);
+    }
+
     @Override
     public AccessionVersionsWrapper<MODEL, HASH, ACCESSION> update(ACCESSION accession, int version, MODEL message)
             throws AccessionDoesNotExistException, HashAlreadyExistsException, AccessionDeprecatedException,
@@ -209,6 +654,38 @@ public class BasicAccessioningService<MODEL, HASH, ACCESSION extends Serializabl
         return dbService.patch(accession, hashingFunction.apply(message), message, PATCH_DEFAULT_REASON);
     }
 
+    /**
+     * The objects are hashed together, in the hashing pool if the batch is large, and all the accessions are updated
+     * in one call to the database service.
+     */
+    @Override
+    public List<OperationOutcome<ACCESSION, AccessionVersionsWrapper<MODEL, HASH, ACCESSION>>> updateAll(
+            Map<ACCESSION, ? extends MODEL> messages, int version) {
+        return dbService.updateAll(toAccessionWrappers(messages, version));
+    }
+
+    /**
+     * The objects are hashed together, in the hashing pool if the batch is large, and all the accessions are patched
+     * in one call to the database service.
+     */
+    @Override
+    public List<OperationOutcome<ACCESSION, AccessionVersionsWrapper<MODEL, HASH, ACCESSION>>> patchAll(
+            Map<ACCESSION, ? extends MODEL> messages) {
+        // The version is assigned by the database service
+        return dbService.patchAll(toAccessionWrappers(messages, 1), PATCH_DEFAULT_REASON);
+    }
+
+    private List<AccessionWrapper<MODEL, HASH, ACCESSION>> toAccessionWrappers(Map<ACCESSION, ? extends MODEL> messages,
+                                                                              int version) {
+        Iterator<HASH> hashIterator = getHashes(new ArrayList<>(messages.values())).iterator();
+        List<AccessionWrapper<MODEL, HASH, ACCESSION>> accessionWrappers = new ArrayList<>(messages.size());
+        for (Map.Entry<ACCESSION, ? extends MODEL> message : messages.entrySet()) {
+            accessionWrappers.add(new AccessionWrapper<>(message.getKey(), hashIterator.next(), message.getValue(),
+                                                         version));
+        }
+        return accessionWrappers;
+    }
+
     @Override
     public AccessionWrapper<MODEL, HASH, ACCESSION> getByAccessionAndVersion(ACCESSION accession, int version)
             throws AccessionDoesNotExistException, AccessionMergedException, AccessionDeprecatedException {
@@ -227,10 +704,28 @@ public class BasicAccessioningService<MODEL, HASH, ACCESSION extends Serializabl
         dbService.merge(accessionOrigin, mergeInto, reason);
     }
 
+    @Override
+    public List<OperationOutcome<ACCESSION, Void>> deprecateAll(List<ACCESSION> accessions, String reason) {
+        return dbService.deprecateAll(accessions, reason);
+    }
+
+    @Override
+    public List<OperationOutcome<ACCESSION, Void>> mergeAll(Map<ACCESSION, ACCESSION> merges, String reason) {
+        return dbService.mergeAll(merges, reason);
+    }
+
     public void shutDownAccessioning() {
         accessionGenerator.shutDownAccessionGenerator();
     }
 
+    /**
+     * @return Selector of the save mode of each batch, or null if the save mode is not
+     * {@link AccessionSaveMode#ADAPTIVE}
+     */
+    public AdaptiveSaveModeSelector getSaveModeSelector() {
+        return saveModeSelector;
+    }
+
     protected AccessionGenerator<MODEL, ACCESSION> getAccessionGenerator() {
         return accessionGenerator;
     }
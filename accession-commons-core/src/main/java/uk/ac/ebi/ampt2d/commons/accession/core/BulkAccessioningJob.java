@@ -0,0 +1,135 @@
+/*
+ *
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.ebi.ampt2d.commons.accession.core;
+
+import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionCouldNotBeGeneratedException;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.GetOrCreateAccessionWrapper;
+import uk.ac.ebi.ampt2d.commons.accession.utils.MappedHashSet;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Accessions an unbounded sequence of objects, such as all the objects of a release file, using a
+ * {@link BasicAccessioningService}. The objects are read and accessioned in chunks, and the hashes of all the objects
+ * already processed are kept in a {@link MappedHashSet} outside the heap. Objects whose hash has been seen before in
+ * the input are collapsed before their accessions are generated, so every hash of the input is accessioned once, even
+ * if its duplicates are in different chunks. The heap used is proportional to the chunk size.
+ * <p>
+ * The files of the set are created in the work directory and deleted when the job finishes. If a chunk fails, the
+ * chunks processed before it are already stored, and running the job again on the same input returns them as
+ * pre-existing accessions. This class is not thread safe.
+ *
+ * @param <MODEL> Type of the objects identified by the accessions
+ * @param <HASH> Type of the hash calculated based on the fields that uniquely identify an accessioned object
+ * @param <ACCESSION> Type of the accession that identifies an object of a particular model
+ */
+public class BulkAccessioningJob<MODEL, HASH, ACCESSION extends Serializable> {
+
+    private final BasicAccessioningService<MODEL, HASH, ACCESSION> accessioningService;
+
+    private final Path workDirectory;
+
+    private final int chunkSize;
+
+    private final long expectedObjects;
+
+    private long readCount;
+
+    private long duplicateCount;
+
+    /**
+     * @param workDirectory   Directory where the set of processed hashes is stored while the job runs
+     * @param chunkSize       Maximum number of objects read and accessioned together
+     * @param expectedObjects Number of unique objects expected in the input, used to size the set of processed hashes
+     */
+    public BulkAccessioningJob(BasicAccessioningService<MODEL, HASH, ACCESSION> accessioningService,
+                               Path workDirectory, int chunkSize, long expectedObjects) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be greater than zero");
+        }
+        this.accessioningService = accessioningService;
+        this.workDirectory = workDirectory;
+        this.chunkSize = chunkSize;
+        this.expectedObjects = expectedObjects;
+    }
+
+    /**
+     * @param messages              Objects to be accessioned or already accessioned
+     * @param applicationInstanceId The id of the application(instance) that is trying to generate the accessions.
+     * @param resultConsumer        Receives the wrapper objects of the unique objects of each chunk, in the same order
+     *                              the chunks are read. Chunks whose objects were all duplicates are skipped.
+     * @throws AccessionCouldNotBeGeneratedException when accession could not be generated
+     * @throws IOException                           when the set of processed hashes could not be read or written
+     */
+    public void run(Iterator<? extends MODEL> messages, String applicationInstanceId,
+                    Consumer<List<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>>> resultConsumer)
+            throws AccessionCouldNotBeGeneratedException, IOException {
+        readCount = 0;
+        duplicateCount = 0;
+        try (MappedHashSet<HASH> processedHashes = new MappedHashSet<>(workDirectory, expectedObjects)) {
+            List<MODEL> chunk = new ArrayList<>(chunkSize);
+            while (messages.hasNext()) {
+                chunk.add(messages.next());
+                if (chunk.size() == chunkSize || !messages.hasNext()) {
+                    accessionChunk(chunk, processedHashes, applicationInstanceId, resultConsumer);
+                    chunk.clear();
+                }
+            }
+        }
+    }
+
+    private void accessionChunk(List<MODEL> chunk, MappedHashSet<HASH> processedHashes, String applicationInstanceId,
+                                Consumer<List<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>>> resultConsumer)
+            throws AccessionCouldNotBeGeneratedException, IOException {
+        Map<HASH, MODEL> uniqueMessages = new LinkedHashMap<>();
+        Iterator<HASH> hashIterator = accessioningService.getHashes(chunk).iterator();
+        for (MODEL message : chunk) {
+            HASH hash = hashIterator.next();
+            if (processedHashes.add(hash)) {
+                uniqueMessages.put(hash, message);
+            }
+        }
+        readCount += chunk.size();
+        duplicateCount += chunk.size() - uniqueMessages.size();
+        if (!uniqueMessages.isEmpty()) {
+            resultConsumer.accept(accessioningService.getOrCreateHashed(uniqueMessages, applicationInstanceId));
+        }
+    }
+
+    /**
+     * @return Number of objects read by the last run
+     */
+    public long getReadCount() {
+        return readCount;
+    }
+
+    /**
+     * @return Number of objects of the last run collapsed because their hash had already been read
+     */
+    public long getDuplicateCount() {
+        return duplicateCount;
+    }
+}
@@ -0,0 +1,315 @@
+/*
+ *
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.ebi.ampt2d.commons.accession.core;
+
+import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionDeprecatedException;
+import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionDoesNotExistException;
+import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionMergedException;
+import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.HashAlreadyExistsException;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionStatusWrapper;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionVersionsWrapper;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionWrapper;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.OperationOutcome;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.SaveResponse;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Decorator of a {@link DatabaseService} that keeps a size-bounded, least recently used cache of the accessioned
+ * objects indexed by hash. The cache is populated by {@link #save(List)} and {@link #findAllByHash(Collection)}, so
+ * objects that are submitted again are resolved without querying the database. All the cached objects of an accession
+ * are invalidated when the accession is patched, updated, deprecated or merged.
+ * <p>
+ * The cache is local to this instance. Modifications done through other instances or applications are not seen until
+ * the affected entries are evicted, so it should only be used when this service is the only writer of the accessions.
+ *
+ * @param <MODEL> Type of the objects identified by the accessions
+ * @param <HASH> Type of the hash calculated based on the fields that uniquely identify an accessioned object
+ * @param <ACCESSION> Type of the accession that identifies an object of a particular model
+ */
+public class CachingDatabaseService<MODEL, HASH, ACCESSION> implements DatabaseService<MODEL, HASH, ACCESSION> {
+
+    private final DatabaseService<MODEL, HASH, ACCESSION> dbService;
+
+    private final int maximumSize;
+
+    private final LinkedHashMap<HASH, AccessionWrapper<MODEL, HASH, ACCESSION>> cache;
+
+    private final Map<ACCESSION, Set<HASH>> hashesByAccession;
+
+    private long invalidations;
+
+    private long hitCount;
+
+    private long missCount;
+
+    private long evictionCount;
+
+    public CachingDatabaseService(DatabaseService<MODEL, HASH, ACCESSION> dbService, int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be greater than zero");
+        }
+        this.dbService = dbService;
+        this.maximumSize = maximumSize;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true);
+        this.hashesByAccession = new HashMap<>();
+    }
+
+    @Override
+    public List<AccessionWrapper<MODEL, HASH, ACCESSION>> findAllByHash(Collection<HASH> hashes) {
+        List<AccessionWrapper<MODEL, HASH, ACCESSION>> accessions = new ArrayList<>();
+        List<HASH> missingHashes = new ArrayList<>();
+        long invalidationsBeforeQuery;
+        synchronized (this) {
+            // Repeated hashes are returned once, as the database service does
+            for (HASH hash : new LinkedHashSet<>(hashes)) {
+                AccessionWrapper<MODEL, HASH, ACCESSION> accession = cache.get(hash);
+                if (accession != null) {
+                    accessions.add(accession);
+                } else {
+                    missingHashes.add(hash);
+                }
+            }
+            hitCount += accessions.size();
+            missCount += missingHashes.size();
+            invalidationsBeforeQuery = invalidations;
+        }
+        if (!missingHashes.isEmpty()) {
+            List<AccessionWrapper<MODEL, HASH, ACCESSION>> foundAccessions = dbService.findAllByHash(missingHashes);
+            accessions.addAll(foundAccessions);
+            synchronized (this) {
+                // Objects read before an invalidation could be stale, so they are not cached
+                if (invalidations == invalidationsBeforeQuery) {
+                    foundAccessions.forEach(this::put);
+                }
+            }
+        }
+        return accessions;
+    }
+
+    @Override
+    public void forEachHash(Consumer<HASH> consumer) {
+        dbService.forEachHash(consumer);
+    }
+
+    @Override
+    public AccessionVersionsWrapper<MODEL, HASH, ACCESSION> findByAccession(ACCESSION accession)
+            throws AccessionDoesNotExistException, AccessionMergedException, AccessionDeprecatedException {
+        return dbService.findByAccession(accession);
+    }
+
+    @Override
+    public AccessionWrapper<MODEL, HASH, ACCESSION> findLastVersionByAccession(ACCESSION accession)
+            throws AccessionDoesNotExistException, AccessionMergedException, AccessionDeprecatedException {
+        return dbService.findLastVersionByAccession(accession);
+    }
+
+    @Override
+    public List<AccessionStatusWrapper<MODEL, HASH, ACCESSION>> findLastVersionByAccessions(
+            List<ACCESSION> accessions) {
+        return dbService.findLastVersionByAccessions(accessions);
+    }
+
+    @Override
+    public AccessionWrapper<MODEL, HASH, ACCESSION> findByAccessionVersion(ACCESSION accession, int version)
+            throws AccessionDoesNotExistException, AccessionDeprecatedException, AccessionMergedException {
+        return dbService.findByAccessionVersion(accession, version);
+    }
+
+    @Override
+    public SaveResponse<ACCESSION> save(List<AccessionWrapper<MODEL, HASH, ACCESSION>> objects) {
+        long invalidationsBeforeSave;
+        synchronized (this) {
+            invalidationsBeforeSave = invalidations;
+        }
+        SaveResponse<ACCESSION> response = dbService.save(objects);
+        synchronized (this) {
+            // An accession invalidated while saving could have been modified after the save, so nothing is cached
+            if (invalidations == invalidationsBeforeSave) {
+                objects.stream()
+                       .filter(object -> response.isSavedAccession(object.getAccession()))
+                       .forEach(this::put);
+            }
+        }
+        return response;
+    }
+
+    @Override
+    public AccessionVersionsWrapper<MODEL, HASH, ACCESSION> patch(ACCESSION accession, HASH hash, MODEL model,
+                                                                  String reason)
+            throws AccessionDoesNotExistException, HashAlreadyExistsException, AccessionDeprecatedException,
+            AccessionMergedException {
+        try {
+            return dbService.patch(accession, hash, model, reason);
+        } finally {
+            invalidate(accession);
+        }
+    }
+
+    @Override
+    public AccessionVersionsWrapper<MODEL, HASH, ACCESSION> update(ACCESSION accession, HASH hash, MODEL model,
+                                                                   int version)
+            throws AccessionDoesNotExistException, HashAlreadyExistsException, AccessionMergedException,
+            AccessionDeprecatedException {
+        try {
+            return dbService.update(accession, hash, model, version);
+        } finally {
+            invalidate(accession);
+        }
+    }
+
+    @Override
+    public List<OperationOutcome<ACCESSION, AccessionVersionsWrapper<MODEL, HASH, ACCESSION>>> patchAll(
+            List<AccessionWrapper<MODEL, HASH, ACCESSION>> patches, String reason) {
+        try {
+            return dbService.patchAll(patches, reason);
+        } finally {
+            patches.forEach(patch -> invalidate(patch.getAccession()));
+        }
+    }
+
+    @Override
+    public List<OperationOutcome<ACCESSION, AccessionVersionsWrapper<MODEL, HASH, ACCESSION>>> updateAll(
+            List<AccessionWrapper<MODEL, HASH, ACCESSION>> objects) {
+        try {
+            return dbService.updateAll(objects);
+        } finally {
+            objects.forEach(object -> invalidate(object.getAccession()));
+        }
+    }
+
+    @Override
+    public void deprecate(ACCESSION accession, String reason) throws AccessionDoesNotExistException,
+            AccessionMergedException, AccessionDeprecatedException {
+        try {
+            dbService.deprecate(accession, reason);
+        } finally {
+            invalidate(accession);
+        }
+    }
+
+    @Override
+    public void merge(ACCESSION accession, ACCESSION mergeInto, String reason) throws AccessionMergedException,
+            AccessionDoesNotExistException, AccessionDeprecatedException {
+        try {
+            dbService.merge(accession, mergeInto, reason);
+        } finally {
+            invalidate(accession);
+            invalidate(mergeInto);
+        }
+    }
+
+    @Override
+    public List<OperationOutcome<ACCESSION, Void>> deprecateAll(List<ACCESSION> accessions, String reason) {
+        try {
+            return dbService.deprecateAll(accessions, reason);
+        } finally {
+            accessions.forEach(this::invalidate);
+        }
+    }
+
+    @Override
+    public List<OperationOutcome<ACCESSION, Void>> mergeAll(Map<ACCESSION, ACCESSION> merges, String reason) {
+        try {
+            return dbService.mergeAll(merges, reason);
+        } finally {
+            merges.forEach((accession, mergeInto) -> {
+                invalidate(accession);
+                invalidate(mergeInto);
+            });
+        }
+    }
+
+    private void put(AccessionWrapper<MODEL, HASH, ACCESSION> accession) {
+        AccessionWrapper<MODEL, HASH, ACCESSION> previous = cache.put(accession.getHash(), accession);
+        if (previous != null) {
+            removeFromAccessionIndex(previous);
+        }
+        hashesByAccession.computeIfAbsent(accession.getAccession(), key -> new HashSet<>()).add(accession.getHash());
+        while (cache.size() > maximumSize) {
+            Map.Entry<HASH, AccessionWrapper<MODEL, HASH, ACCESSION>> eldest = cache.entrySet().iterator().next();
+            cache.remove(eldest.getKey());
+            removeFromAccessionIndex(eldest.getValue());
+            evictionCount++;
+        }
+    }
+
+    private void removeFromAccessionIndex(AccessionWrapper<MODEL, HASH, ACCESSION> accession) {
+        Set<HASH> hashes = hashesByAccession.get(accession.getAccession());
+        if (hashes != null) {
+            hashes.remove(accession.getHash());
+            if (hashes.isEmpty()) {
+                hashesByAccession.remove(accession.getAccession());
+            }
+        }
+    }
+
+    private synchronized void invalidate(ACCESSION accession) {
+        invalidations++;
+        Set<HASH> hashes = hashesByAccession.remove(accession);
+        if (hashes != null) {
+            hashes.forEach(cache::remove);
+        }
+    }
+
+    /**
+     * Removes all the objects from the cache. The statistics are not reset.
+     */
+    public synchronized void invalidateAll() {
+        invalidations++;
+        cache.clear();
+        hashesByAccession.clear();
+    }
+
+    public synchronized int getSize() {
+        return cache.size();
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * @return Ratio of the hashes found in the cache over all the hashes looked up, or 0 if none was looked up
+     */
+    public synchronized double getHitRatio() {
+        long requestCount = hitCount + missCount;
+        return requestCount == 0 ? 0 : (double) hitCount / requestCount;
+    }
+}
@@ -22,12 +22,17 @@ import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionDeprecatedExc
 import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionDoesNotExistException;
 import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionMergedException;
 import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.HashAlreadyExistsException;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionStatusWrapper;
 import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionVersionsWrapper;
 import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionWrapper;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.OperationOutcome;
 import uk.ac.ebi.ampt2d.commons.accession.core.models.SaveResponse;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * Interface to the database service that handles the storage and queries of an object with their hashed version and
@@ -47,6 +52,14 @@ public interface DatabaseService<MODEL, HASH, ACCESSION> {
      */
     List<AccessionWrapper<MODEL, HASH, ACCESSION>> findAllByHash(Collection<HASH> hashes);
 
+    /**
+     * Iterates over the hashes of all the valid accessioned objects, for example to build an in-memory index of the
+     * existing hashes. The hashes are read in pages, so the whole collection is never loaded at once.
+     *
+     * @param consumer Consumer that receives every hash
+     */
+    void forEachHash(Consumer<HASH> consumer);
+
     /**
      * Finds active (neither merged nor deprecated) accessioned objects identified by an accession
      *
@@ -71,6 +84,32 @@ public interface DatabaseService<MODEL, HASH, ACCESSION> {
     AccessionWrapper<MODEL, HASH, ACCESSION> findLastVersionByAccession(ACCESSION accession)
             throws AccessionDoesNotExistException, AccessionMergedException, AccessionDeprecatedException;
 
+    /**
+     * Finds the last version of the objects identified by the provided accessions. Accessions that are merged,
+     * deprecated or do not exist are reported in the result instead of throwing an exception. The default
+     * implementation looks up the accessions one by one with {@link #findLastVersionByAccession(Object)}.
+     *
+     * @param accessions List of accessions that identify the objects
+     * @return One wrapper per provided accession, in the same order, with the status of the accession and the last
+     * version of the object if the accession is active
+     */
+    default List<AccessionStatusWrapper<MODEL, HASH, ACCESSION>> findLastVersionByAccessions(
+            List<ACCESSION> accessions) {
+        List<AccessionStatusWrapper<MODEL, HASH, ACCESSION>> statuses = new ArrayList<>(accessions.size());
+        for (ACCESSION accession : accessions) {
+            try {
+                statuses.add(AccessionStatusWrapper.active(findLastVersionByAccession(accession)));
+            } catch (AccessionMergedException e) {
+                statuses.add(AccessionStatusWrapper.merged(accession, e));
+            } catch (AccessionDeprecatedException e) {
+                statuses.add(AccessionStatusWrapper.deprecated(accession));
+            } catch (AccessionDoesNotExistException e) {
+                statuses.add(AccessionStatusWrapper.doesNotExist(accession));
+            }
+        }
+        return statuses;
+    }
+
     /**
      * Finds the object identified by the provided accession and version.
      *
@@ -130,6 +169,62 @@ public interface DatabaseService<MODEL, HASH, ACCESSION> {
             throws AccessionDoesNotExistException, HashAlreadyExistsException, AccessionMergedException,
             AccessionDeprecatedException;
 
+    /**
+     * Persists a new version of several accessions. Each accession is patched on its own: an accession that can't be
+     * patched is reported in its outcome with the exception that {@link #patch} would throw, and the other accessions
+     * are still patched. An accession can only be patched once per call. The default implementation patches the
+     * accessions one by one; implementations may patch them in bulk.
+     *
+     * @param patches New objects with their accessions and hashes. Their version is ignored, as every patch is
+     *                stored as the version after the last one of its accession
+     * @param reason Reason for creating the new versions
+     * @return One outcome per patch, in the same order, with the new version of the accession if it has been patched.
+     * Implementations may include the previous versions too, as the default implementation does
+     */
+    @Transactional
+    default List<OperationOutcome<ACCESSION, AccessionVersionsWrapper<MODEL, HASH, ACCESSION>>> patchAll(
+            List<AccessionWrapper<MODEL, HASH, ACCESSION>> patches, String reason) {
+        List<OperationOutcome<ACCESSION, AccessionVersionsWrapper<MODEL, HASH, ACCESSION>>> outcomes =
+                new ArrayList<>(patches.size());
+        for (AccessionWrapper<MODEL, HASH, ACCESSION> patch : patches) {
+            try {
+                outcomes.add(OperationOutcome.success(
+                        patch.getAccession(), patch(patch.getAccession(), patch.getHash(), patch.getData(), reason)));
+            } catch (AccessionDoesNotExistException | HashAlreadyExistsException | AccessionDeprecatedException |
+                    AccessionMergedException e) {
+                outcomes.add(OperationOutcome.failure(patch.getAccession(), e));
+            }
+        }
+        return outcomes;
+    }
+
+    /**
+     * Updates specific versions of several accessions, without creating new versions. Each object is updated on its
+     * own: an object that can't be updated is reported in its outcome with the exception that {@link #update} would
+     * throw, and the other objects are still updated. An accession can only be updated once per call. The default
+     * implementation updates the objects one by one; implementations may update them in bulk.
+     *
+     * @param objects New objects with their accessions, hashes and the versions they replace
+     * @return One outcome per object, in the same order, with all the versions of the accession if it has been
+     * updated
+     */
+    @Transactional
+    default List<OperationOutcome<ACCESSION, AccessionVersionsWrapper<MODEL, HASH, ACCESSION>>> updateAll(
+            List<AccessionWrapper<MODEL, HASH, ACCESSION>> objects) {
+        List<OperationOutcome<ACCESSION, AccessionVersionsWrapper<MODEL, HASH, ACCESSION>>> outcomes =
+                new ArrayList<>(objects.size());
+        for (AccessionWrapper<MODEL, HASH, ACCESSION> object : objects) {
+            try {
+                outcomes.add(OperationOutcome.success(object.getAccession(), update(
+                        object.getAccession(), object.getHash(), object.getData(), object.getVersion())));
+            } catch (AccessionDoesNotExistException | HashAlreadyExistsException | AccessionDeprecatedException |
+                    AccessionMergedException e) {
+                outcomes.add(OperationOutcome.failure(object.getAccession(), e));
+            }
+        }
+        return outcomes;
+    }
+
     /**
      * Deprecates an accession.
      *
@@ -158,4 +253,53 @@ public interface DatabaseService<MODEL, HASH, ACCESSION> {
             AccessionMergedException.class})
     void merge(ACCESSION accession, ACCESSION mergeInto, String reason) throws AccessionMergedException,
             AccessionDoesNotExistException, AccessionDeprecatedException;
+
+    /**
+     * Deprecates several accessions. Each accession is deprecated on its own: an accession that can't be deprecated
+     * is reported in its outcome with the exception that {@link #deprecate} would throw, and the other accessions are
+     * still deprecated. An accession repeated in the list is reported as deprecated the second time. The default
+     * implementation deprecates the accessions one by one; implementations may deprecate them in bulk.
+     *
+     * @param accessions Accessions that identify the objects
+     * @param reason the reason for deprecation
+     * @return One outcome per accession, in the same order, without result
+     */
+    @Transactional
+    default List<OperationOutcome<ACCESSION, Void>> deprecateAll(List<ACCESSION> accessions, String reason) {
+        List<OperationOutcome<ACCESSION, Void>> outcomes = new ArrayList<>(accessions.size());
+        for (ACCESSION accession : accessions) {
+            try {
+                deprecate(accession, reason);
+                outcomes.add(OperationOutcome.success(accession, null));
+            } catch (AccessionDoesNotExistException | AccessionDeprecatedException | AccessionMergedException e) {
+                outcomes.add(OperationOutcome.failure(accession, e));
+            }
+        }
+        return outcomes;
+    }
+
+    /**
+     * Merges several accessions into other ones. The merges are applied in the iteration order of the map, as if
+     * {@link #merge} had been called for each of them, so an accession merged by an earlier entry can't be the target
+     * of a later one. A merge that can't be applied is reported in its outcome with the exception that {@link #merge}
+     * would throw, and the other merges are still applied. The default implementation merges the accessions one by
+     * one; implementations may merge them in bulk.
+     *
+     * @param merges Accession the original one will be merged into, by accession which will be merged
+     * @param reason The reason for merging the accessions
+     * @return One outcome per merged accession, in the iteration order of the map, without result
+     */
+    @Transactional
+    default List<OperationOutcome<ACCESSION, Void>> mergeAll(Map<ACCESSION, ACCESSION> merges, String reason) {
+        List<OperationOutcome<ACCESSION, Void>> outcomes = new ArrayList<>(merges.size());
+        for (Map.Entry<ACCESSION, ACCESSION> merge : merges.entrySet()) {
+            try {
+                merge(merge.getKey(), merge.getValue(), reason);
+                outcomes.add(OperationOutcome.success(merge.getKey(), null));
+            } catch (AccessionDoesNotExistException | AccessionDeprecatedException | AccessionMergedException e) {
+                outcomes.add(OperationOutcome.failure(merge.getKey(), e));
+            }
+        }
+        return outcomes;
+    }
 }
\ No newline at end of file
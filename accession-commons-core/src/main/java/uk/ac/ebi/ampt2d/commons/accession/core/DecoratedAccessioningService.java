@@ -22,12 +22,24 @@ import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionDeprecatedExc
 import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionDoesNotExistException;
 import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionMergedException;
 import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.HashAlreadyExistsException;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionBatchResult;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionStatusWrapper;
 import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionVersionsWrapper;
 import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionWrapper;
 import uk.ac.ebi.ampt2d.commons.accession.core.models.GetOrCreateAccessionWrapper;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.OperationOutcome;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -62,6 +74,34 @@ public class DecoratedAccessioningService<MODEL, HASH, DB_ACCESSION, ACCESSION>
         return getOrCreateDecorate(service.getOrCreate(messages, applicationInstanceId));
     }
 
+    @Override
+    public AccessionBatchResult<MODEL, HASH, ACCESSION> getOrCreateBatch(List<? extends MODEL> messages,
+                                                                        String applicationInstanceId)
+            throws AccessionCouldNotBeGeneratedException {
+        return service.getOrCreateBatch(messages, applicationInstanceId).mapAccessions(decoratingFunction);
+    }
+
+    @Override
+    public List<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>> getOrCreateAligned(
+            List<? extends MODEL> messages, String applicationInstanceId)
+            throws AccessionCouldNotBeGeneratedException {
+        return getOrCreateDecorate(service.getOrCreateAligned(messages, applicationInstanceId));
+    }
+
+    @Override
+    public List<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>> getOrCreateHashed(
+            Map<HASH, ? extends MODEL> hashedMessages, String applicationInstanceId)
+            throws AccessionCouldNotBeGeneratedException {
+        return getOrCreateDecorate(service.getOrCreateHashed(hashedMessages, applicationInstanceId));
+    }
+
+    @Override
+    public CompletableFuture<List<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>>> getOrCreateAsync(
+            List<? extends MODEL> messages, int chunkSize, String applicationInstanceId, Executor executor) {
+        return service.getOrCreateAsync(messages, chunkSize, applicationInstanceId, executor)
+                .thenApply(this::getOrCreateDecorate);
+    }
+
     private List<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>> getOrCreateDecorate(
             List<GetOrCreateAccessionWrapper<MODEL, HASH, DB_ACCESSION>> accessionWrappers) {
         return accessionWrappers.stream().map(this::decorate).collect(Collectors.toList());
@@ -88,6 +128,11 @@ public class DecoratedAccessioningService<MODEL, HASH, DB_ACCESSION, ACCESSION>
         return decorate(service.get(accessionedObjects));
     }
 
+    @Override
+    public List<AccessionWrapper<MODEL, HASH, ACCESSION>> getHashed(Collection<HASH> hashes) {
+        return decorate(service.getHashed(hashes));
+    }
+
     @Override
     public AccessionWrapper<MODEL, HASH, ACCESSION> getByAccession(ACCESSION accession)
             throws AccessionDoesNotExistException, AccessionMergedException, AccessionDeprecatedException {
@@ -98,6 +143,32 @@ public class DecoratedAccessioningService<MODEL, HASH, DB_ACCESSION, ACCESSION>
         }
     }
 
+    /**
+     * Accessions that can't be parsed are reported as non-existent without querying the decorated service.
+     */
+    @Override
+    public List<AccessionStatusWrapper<MODEL, HASH, ACCESSION>> getByAccessions(List<ACCESSION> accessions) {
+        List<DB_ACCESSION> dbAccessions = accessions.stream().map(parsingFunction).collect(Collectors.toList());
+        Iterator<AccessionStatusWrapper<MODEL, HASH, DB_ACCESSION>> dbResults = service.getByAccessions(
+                dbAccessions.stream().filter(Objects::nonNull).collect(Collectors.toList())).iterator();
+        List<AccessionStatusWrapper<MODEL, HASH, ACCESSION>> results = new ArrayList<>(accessions.size());
+        for (int i = 0; i < accessions.size(); i++) {
+            if (dbAccessions.get(i) == null) {
+                results.add(AccessionStatusWrapper.doesNotExist(accessions.get(i)));
+            } else {
+                results.add(decorate(dbResults.next()));
+            }
+        }
+        return results;
+    }
+
+    private AccessionStatusWrapper<MODEL, HASH, ACCESSION> decorate(
+            AccessionStatusWrapper<MODEL, HASH, DB_ACCESSION> wrapper) {
+        return new AccessionStatusWrapper<>(decoratingFunction.apply(wrapper.getAccession()), wrapper.getStatus(),
+                wrapper.getLastVersion() == null ? null : decorate(wrapper.getLastVersion()),
+                wrapper.getMergedInto() == null ? null : decoratingFunction.apply(wrapper.getMergedInto()));
+    }
+
     private List<DB_ACCESSION> parse(List<ACCESSION> accessions) {
         return accessions.stream().map(parsingFunction).filter(Objects::nonNull).collect(Collectors.toList());
     }
@@ -148,6 +219,65 @@ public class DecoratedAccessioningService<MODEL, HASH, DB_ACCESSION, ACCESSION>
         }
     }
 
+    /**
+     * Accessions that can't be parsed are reported as non-existent without querying the decorated service.
+     */
+    @Override
+    public List<OperationOutcome<ACCESSION, AccessionVersionsWrapper<MODEL, HASH, ACCESSION>>> updateAll(
+            Map<ACCESSION, ? extends MODEL> messages, int version) {
+        return decorateOutcomes(messages, dbMessages -> service.updateAll(dbMessages, version));
+    }
+
+    /**
+     * Accessions that can't be parsed are reported as non-existent without querying the decorated service.
+     */
+    @Override
+    public List<OperationOutcome<ACCESSION, AccessionVersionsWrapper<MODEL, HASH, ACCESSION>>> patchAll(
+            Map<ACCESSION, ? extends MODEL> messages) {
+        return decorateOutcomes(messages, service::patchAll);
+    }
+
+    private List<OperationOutcome<ACCESSION, AccessionVersionsWrapper<MODEL, HASH, ACCESSION>>> decorateOutcomes(
+            Map<ACCESSION, ? extends MODEL> messages,
+            Function<Map<DB_ACCESSION, MODEL>, List<OperationOutcome<DB_ACCESSION,
+                    AccessionVersionsWrapper<MODEL, HASH, DB_ACCESSION>>>> operation) {
+        Map<DB_ACCESSION, MODEL> dbMessages = new LinkedHashMap<>();
+        for (Map.Entry<ACCESSION, ? extends MODEL> message : messages.entrySet()) {
+            DB_ACCESSION dbAccession = parsingFunction.apply(message.getKey());
+            if (dbAccession != null) {
+                dbMessages.put(dbAccession, message.getValue());
+            }
+        }
+        Map<DB_ACCESSION, OperationOutcome<DB_ACCESSION, AccessionVersionsWrapper<MODEL, HASH, DB_ACCESSION>>>
+                dbOutcomes = new HashMap<>();
+        if (!dbMessages.isEmpty()) {
+            operation.apply(dbMessages).forEach(outcome -> dbOutcomes.put(outcome.getAccession(), outcome));
+        }
+        List<OperationOutcome<ACCESSION, AccessionVersionsWrapper<MODEL, HASH, ACCESSION>>> outcomes =
+                new ArrayList<>(messages.size());
+        for (ACCESSION accession : messages.keySet()) {
+            DB_ACCESSION dbAccession = parsingFunction.apply(accession);
+            if (dbAccession == null) {
+                outcomes.add(OperationOutcome.failure(accession, new AccessionDoesNotExistException(accession)));
+            } else {
+                outcomes.add(decorateOutcome(accession, dbOutcomes.get(dbAccession), this::decorate));
+            }
+        }
+        return outcomes;
+    }
+
+    private <RESULT, DB_RESULT> OperationOutcome<ACCESSION, RESULT> decorateOutcome(
+            ACCESSION accession, OperationOutcome<DB_ACCESSION, DB_RESULT> dbOutcome,
+            Function<DB_RESULT, RESULT> resultDecoratingFunction) {
+        if (!dbOutcome.isSuccessful()) {
+            Exception exception = dbOutcome.getException();
+            return OperationOutcome.failure(accession, exception instanceof AccessionMergedException ?
+                    AccessionMergedExceptionWithDecoratedAccessions((AccessionMergedException) exception) :
+                    exception);
+        }
+        return OperationOutcome.success(accession, resultDecoratingFunction.apply(dbOutcome.getResult()));
+    }
+
     @Override
     public void deprecate(ACCESSION accession, String reason) throws AccessionMergedException,
             AccessionDoesNotExistException, AccessionDeprecatedException {
@@ -168,6 +298,65 @@ public class DecoratedAccessioningService<MODEL, HASH, DB_ACCESSION, ACCESSION>
         }
     }
 
+    /**
+     * Accessions that can't be parsed are reported as non-existent without querying the decorated service.
+     */
+    @Override
+    public List<OperationOutcome<ACCESSION, Void>> deprecateAll(List<ACCESSION> accessions, String reason) {
+        List<DB_ACCESSION> dbAccessions = new ArrayList<>(accessions.size());
+        for (ACCESSION accession : accessions) {
+            DB_ACCESSION dbAccession = parsingFunction.apply(accession);
+            if (dbAccession != null) {
+                dbAccessions.add(dbAccession);
+            }
+        }
+        Iterator<OperationOutcome<DB_ACCESSION, Void>> dbOutcomes = dbAccessions.isEmpty() ?
+                Collections.emptyIterator() : service.deprecateAll(dbAccessions, reason).iterator();
+        List<OperationOutcome<ACCESSION, Void>> outcomes = new ArrayList<>(accessions.size());
+        for (ACCESSION accession : accessions) {
+            if (parsingFunction.apply(accession) == null) {
+                outcomes.add(OperationOutcome.failure(accession, new AccessionDoesNotExistException(accession)));
+            } else {
+                outcomes.add(decorateOutcome(accession, dbOutcomes.next(), Function.identity()));
+            }
+        }
+        return outcomes;
+    }
+
+    /**
+     * Merges with an accession that can't be parsed are reported as non-existent without querying the decorated
+     * service.
+     */
+    @Override
+    public List<OperationOutcome<ACCESSION, Void>> mergeAll(Map<ACCESSION, ACCESSION> merges, String reason) {
+        Map<DB_ACCESSION, DB_ACCESSION> dbMerges = new LinkedHashMap<>();
+        for (Map.Entry<ACCESSION, ACCESSION> merge : merges.entrySet()) {
+            DB_ACCESSION dbAccessionOrigin = parsingFunction.apply(merge.getKey());
+            DB_ACCESSION dbMergeInto = parsingFunction.apply(merge.getValue());
+            if (dbAccessionOrigin != null && dbMergeInto != null) {
+                dbMerges.put(dbAccessionOrigin, dbMergeInto);
+            }
+        }
+        Map<DB_ACCESSION, OperationOutcome<DB_ACCESSION, Void>> dbOutcomes = new HashMap<>();
+        if (!dbMerges.isEmpty()) {
+            service.mergeAll(dbMerges, reason).forEach(outcome -> dbOutcomes.put(outcome.getAccession(), outcome));
+        }
+        List<OperationOutcome<ACCESSION, Void>> outcomes = new ArrayList<>(merges.size());
+        for (Map.Entry<ACCESSION, ACCESSION> merge : merges.entrySet()) {
+            DB_ACCESSION dbAccessionOrigin = parsingFunction.apply(merge.getKey());
+            if (dbAccessionOrigin == null) {
+                outcomes.add(OperationOutcome.failure(merge.getKey(),
+                                                      new AccessionDoesNotExistException(merge.getKey())));
+            } else if (parsingFunction.apply(merge.getValue()) == null) {
+                outcomes.add(OperationOutcome.failure(merge.getKey(),
+                                                      new AccessionDoesNotExistException(merge.getValue())));
+            } else {
+                outcomes.add(decorateOutcome(merge.getKey(), dbOutcomes.get(dbAccessionOrigin), Function.identity()));
+            }
+        }
+        return outcomes;
+    }
+
     public static <MODEL, HASH, DB_ACCESSION> DecoratedAccessioningService<MODEL, HASH, DB_ACCESSION, String>
     buildPrefixAccessionService(AccessioningService<MODEL, HASH, DB_ACCESSION> service, String prefix,
                                 Function<String, DB_ACCESSION> parseFunction) {
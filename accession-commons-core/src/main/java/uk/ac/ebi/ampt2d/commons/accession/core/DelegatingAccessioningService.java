@@ -0,0 +1,196 @@
+/*
+ *
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.ebi.ampt2d.commons.accession.core;
+
+import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionCouldNotBeGeneratedException;
+import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionDeprecatedException;
+import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionDoesNotExistException;
+import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionMergedException;
+import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.HashAlreadyExistsException;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionBatchResult;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionStatusWrapper;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionVersionsWrapper;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionWrapper;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.GetOrCreateAccessionWrapper;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.OperationOutcome;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Base class of the services that add behaviour on top of another {@link AccessioningService}. All the operations
+ * are forwarded to the wrapped service unless overridden.
+ *
+ * @param <MODEL>     Type of the objects identified by the accessions
+ * @param <HASH>      Type of the hash calculated based on the fields that uniquely identify an accessioned object
+ * @param <ACCESSION> Type of the accession that identifies an object of a particular model
+ */
+public abstract class DelegatingAccessioningService<MODEL, HASH, ACCESSION>
+        implements AccessioningService<MODEL, HASH, ACCESSION> {
+
+    private final AccessioningService<MODEL, HASH, ACCESSION> service;
+
+    protected DelegatingAccessioningService(AccessioningService<MODEL, HASH, ACCESSION> service) {
+        this.service = service;
+    }
+
+    protected AccessioningService<MODEL, HASH, ACCESSION> getService() {
+        return service;
+    }
+
+    @Override
+    public List<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>> getOrCreate(List<? extends MODEL> messages,
+                                                                                 String applicationInstanceId)
+            throws AccessionCouldNotBeGeneratedException {
+        return service.getOrCreate(messages, applicationInstanceId);
+    }
+
+    /**
+     * The objects are accessioned through {@link #getOrCreate(List, String)} of this service instead of being
+     * forwarded, so the behaviour that subclasses add to it also applies to batches.
+     */
+    @Override
+    public AccessionBatchResult<MODEL, HASH, ACCESSION> getOrCreateBatch(List<? extends MODEL> messages,
+                                                                        String applicationInstanceId)
+            throws AccessionCouldNotBeGeneratedException {
+        return AccessionBatchResult.of(getOrCreate(messages, applicationInstanceId));
+    }
+
+    @Override
+    public List<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>> getOrCreateAligned(
+            List<? extends MODEL> messages, String applicationInstanceId)
+            throws AccessionCouldNotBeGeneratedException {
+        return service.getOrCreateAligned(messages, applicationInstanceId);
+    }
+
+    /**
+     * Version of {@link #getOrCreateAligned(List, String)} for services that know the hashing function of the wrapped
+     * service. Each object is hashed once, the unique objects are accessioned through
+     * {@link #getOrCreateHashed(Map, String)} of this service, and the results are placed back in input order by hash.
+     */
+    protected List<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>> getOrCreateAligned(
+            List<? extends MODEL> messages, String applicationInstanceId, Function<MODEL, HASH> hashingFunction)
+            throws AccessionCouldNotBeGeneratedException {
+        List<HASH> hashes = new ArrayList<>(messages.size());
+        Map<HASH, MODEL> messagesByHash = new LinkedHashMap<>();
+        for (MODEL message : messages) {
+            HASH hash = hashingFunction.apply(message);
+            hashes.add(hash);
+            messagesByHash.putIfAbsent(hash, message);
+        }
+        Map<HASH, GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>> accessionsByHash = new HashMap<>();
+        getOrCreateHashed(messagesByHash, applicationInstanceId)
+                .forEach(accession -> accessionsByHash.put(accession.getHash(), accession));
+        List<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>> accessions = new ArrayList<>(hashes.size());
+        for (HASH hash : hashes) {
+            GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION> accession = accessionsByHash.get(hash);
+            if (accession == null) {
+                throw new IllegalStateException("No accession returned for hash " + hash);
+            }
+            accessions.add(accession);
+        }
+        return accessions;
+    }
+
+    @Override
+    public List<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>> getOrCreateHashed(
+            Map<HASH, ? extends MODEL> hashedMessages, String applicationInstanceId)
+            throws AccessionCouldNotBeGeneratedException {
+        return service.getOrCreateHashed(hashedMessages, applicationInstanceId);
+    }
+
+    @Override
+    public List<AccessionWrapper<MODEL, HASH, ACCESSION>> get(List<? extends MODEL> accessionedObjects) {
+        return service.get(accessionedObjects);
+    }
+
+    @Override
+    public List<AccessionWrapper<MODEL, HASH, ACCESSION>> getHashed(Collection<HASH> hashes) {
+        return service.getHashed(hashes);
+    }
+
+    @Override
+    public AccessionWrapper<MODEL, HASH, ACCESSION> getByAccession(ACCESSION accession)
+            throws AccessionDoesNotExistException, AccessionMergedException, AccessionDeprecatedException {
+        return service.getByAccession(accession);
+    }
+
+    @Override
+    public List<AccessionStatusWrapper<MODEL, HASH, ACCESSION>> getByAccessions(List<ACCESSION> accessions) {
+        return service.getByAccessions(accessions);
+    }
+
+    @Override
+    public AccessionWrapper<MODEL, HASH, ACCESSION> getByAccessionAndVersion(ACCESSION accession, int version)
+            throws AccessionDoesNotExistException, AccessionMergedException, AccessionDeprecatedException {
+        return service.getByAccessionAndVersion(accession, version);
+    }
+
+    @Override
+    public AccessionVersionsWrapper<MODEL, HASH, ACCESSION> update(ACCESSION accession, int version, MODEL message)
+            throws AccessionDoesNotExistException, HashAlreadyExistsException, AccessionDeprecatedException,
+            AccessionMergedException {
+        return service.update(accession, version, message);
+    }
+
+    @Override
+    public AccessionVersionsWrapper<MODEL, HASH, ACCESSION> patch(ACCESSION accession, MODEL message)
+            throws AccessionDoesNotExistException, HashAlreadyExistsException, AccessionDeprecatedException,
+            AccessionMergedException {
+        return service.patch(accession, message);
+    }
+
+    @Override
+    public List<OperationOutcome<ACCESSION, AccessionVersionsWrapper<MODEL, HASH, ACCESSION>>> updateAll(
+            Map<ACCESSION, ? extends MODEL> messages, int version) {
+        return service.updateAll(messages, version);
+    }
+
+    @Override
+    public List<OperationOutcome<ACCESSION, AccessionVersionsWrapper<MODEL, HASH, ACCESSION>>> patchAll(
+            Map<ACCESSION, ? extends MODEL> messages) {
+        return service.patchAll(messages);
+    }
+
+    @Override
+    public void deprecate(ACCESSION accession, String reason) throws AccessionMergedException,
+            AccessionDoesNotExistException, AccessionDeprecatedException {
+        service.deprecate(accession, reason);
+    }
+
+    @Override
+    public void merge(ACCESSION accessionOrigin, ACCESSION mergeInto, String reason) throws AccessionMergedException,
+            AccessionDoesNotExistException, AccessionDeprecatedException {
+        service.merge(accessionOrigin, mergeInto, reason);
+    }
+
+    @Override
+    public List<OperationOutcome<ACCESSION, Void>> deprecateAll(List<ACCESSION> accessions, String reason) {
+        return service.deprecateAll(accessions, reason);
+    }
+
+    @Override
+    public List<OperationOutcome<ACCESSION, Void>> mergeAll(Map<ACCESSION, ACCESSION> merges, String reason) {
+        return service.mergeAll(merges, reason);
+    }
+}
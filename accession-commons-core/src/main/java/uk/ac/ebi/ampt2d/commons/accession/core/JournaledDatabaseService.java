@@ -0,0 +1,572 @@
+/*
+ *
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.ebi.ampt2d.commons.accession.core;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionDeprecatedException;
+import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionDoesNotExistException;
+import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionMergedException;
+import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.HashAlreadyExistsException;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionStatusWrapper;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionVersionsWrapper;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionWrapper;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.OperationOutcome;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.SaveResponse;
+import uk.ac.ebi.ampt2d.commons.accession.utils.AppendOnlyJournal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Decorator of a {@link DatabaseService} that acknowledges {@link #save(List)} as soon as the objects have been written
+ * to a local append-only journal and synced to disk, and inserts them in the database in the background. Concurrent
+ * saves share the same disk sync. A {@link BasicAccessioningService} uses this mode when it is created with this
+ * service as its database service.
+ * <p>
+ * Until they are inserted in the database, the journaled objects are served from an in-memory index by the queries
+ * by hash and by accession. Objects whose hash is already in the journal, or in the database unless that check has
+ * been disabled, are reported as not saved, so they are resolved as pre-existing accessions. Modifications of an accession that has not been inserted
+ * yet wait for the journal to be drained. When the service is created again on the same directory, for example
+ * after a crash, the objects left in the journal are read back and inserted.
+ * <p>
+ * Objects stored by other applications between the journal write and the database insert are not detected until the
+ * insert fails. These conflicts are logged and reported by {@link #getConflicts()}, so this service should only be
+ * used when it is the only writer of the hashes it accessions. The models, hashes and accessions must be
+ * {@link java.io.Serializable}.
+ *
+ * @param <MODEL> Type of the objects identified by the accessions
+ * @param <HASH> Type of the hash calculated based on the fields that uniquely identify an accessioned object
+ * @param <ACCESSION> Type of the accession that identifies an object of a particular model
+ */
+public class JournaledDatabaseService<MODEL, HASH, ACCESSION>
+        implements DatabaseService<MODEL, HASH, ACCESSION>, Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(JournaledDatabaseService.class);
+
+    public static final long DEFAULT_MAX_SEGMENT_SIZE = 64L * 1024 * 1024;
+
+    public static final int DEFAULT_DRAIN_BATCH_SIZE = 1000;
+
+    public static final long DEFAULT_DRAIN_INTERVAL_MILLIS = 100;
+
+    private class PendingAccession {
+
+        private final AccessionWrapper<MODEL, HASH, ACCESSION> accession;
+
+        private final long segment;
+
+        PendingAccession(AccessionWrapper<MODEL, HASH, ACCESSION> accession, long segment) {
+            this.accession = accession;
+            this.segment = segment;
+        }
+
+    }
+
+    private final DatabaseService<MODEL, HASH, ACCESSION> dbService;
+
+    private final AppendOnlyJournal journal;
+
+    private final int drainBatchSize;
+
+    private final boolean checkStoredHashes;
+
+    /**
+     * Objects not inserted in the database yet, in the same order as in the journal.
+     */
+    private final LinkedHashMap<HASH, PendingAccession> pendingByHash;
+
+    private final Map<ACCESSION, PendingAccession> pendingByAccession;
+
+    private final List<AccessionWrapper<MODEL, HASH, ACCESSION>> conflicts;
+
+    private final Object drainLock = new Object();
+
+    private final ScheduledExecutorService drainExecutor;
+
+    private long drainedCount;
+
+    public JournaledDatabaseService(DatabaseService<MODEL, HASH, ACCESSION> dbService, Path journalDirectory)
+            throws IOException {
+        this(dbService, journalDirectory, DEFAULT_MAX_SEGMENT_SIZE, DEFAULT_DRAIN_BATCH_SIZE,
+             DEFAULT_DRAIN_INTERVAL_MILLIS);
+    }
+
+    /**
+     * @param journalDirectory    Directory of the journal. Objects left in it by a previous instance are inserted in
+     *                            the database in the background.
+     * @param maxSegmentSize      Size in bytes of the journal files. A file is deleted once all its objects have been
+     *                            inserted in the database and a newer file has been started.
+     * @param drainBatchSize      Maximum number of objects inserted in the database in a single save
+     * @param drainIntervalMillis Time between checks for objects to insert, when the journal is empty
+     */
+    public JournaledDatabaseService(DatabaseService<MODEL, HASH, ACCESSION> dbService, Path journalDirectory,
+                                    long maxSegmentSize, int drainBatchSize, long drainIntervalMillis)
+            throws IOException {
+        this(dbService, journalDirectory, maxSegmentSize, drainBatchSize, drainIntervalMillis, true);
+    }
+
+    /**
+     * @param checkStoredHashes Whether {@link #save(List)} looks up the hashes in the database before writing them to
+     *                          the journal. The lookup reduces the conflicts found when the journal is inserted in the
+     *                          database, as objects already stored are reported as not saved instead of journaled.
+     *                          It can be disabled to save a query per batch when the caller has just looked up the
+     *                          same hashes, for example with {@link AccessionSaveMode#PREFILTER_EXISTING}, so that
+     *                          only objects stored in between become conflicts.
+     */
+    public JournaledDatabaseService(DatabaseService<MODEL, HASH, ACCESSION> dbService, Path journalDirectory,
+                                    long maxSegmentSize, int drainBatchSize, long drainIntervalMillis,
+                                    boolean checkStoredHashes)
+            throws IOException {
+        if (drainBatchSize < 1) {
+            throw new IllegalArgumentException("Drain batch size must be greater than zero");
+        }
+        if (drainIntervalMillis < 1) {
+            throw new IllegalArgumentException("Drain interval must be greater than zero");
+        }
+        this.dbService = dbService;
+        this.drainBatchSize = drainBatchSize;
+        this.checkStoredHashes = checkStoredHashes;
+        this.pendingByHash = new LinkedHashMap<>();
+        this.pendingByAccession = new HashMap<>();
+        this.conflicts = new ArrayList<>();
+        this.journal = new AppendOnlyJournal(journalDirectory, maxSegmentSize);
+        try {
+            journal.replay((segment, record) -> {
+                AccessionWrapper<MODEL, HASH, ACCESSION> accession = deserialize(record);
+                if (!pendingByHash.containsKey(accession.getHash())) {
+                    addPending(accession, segment);
+                }
+            });
+        } catch (IOException e) {
+            journal.close();
+            throw e;
+        }
+        if (!pendingByHash.isEmpty()) {
+            logger.info("{} accessions recovered from the journal in {}", pendingByHash.size(), journalDirectory);
+        }
+        this.drainExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "accession-journal-drain");
+            thread.setDaemon(true);
+            return thread;
+        });
+        drainExecutor.scheduleWithFixedDelay(this::drainInBackground, drainIntervalMillis, drainIntervalMillis,
+                                             TimeUnit.MILLISECONDS);
+    }
+
+    private void addPending(AccessionWrapper<MODEL, HASH, ACCESSION> accession, long segment) {
+        PendingAccession pendingAccession = new PendingAccession(accession, segment);
+        pendingByHash.put(accession.getHash(), pendingAccession);
+        pendingByAccession.put(accession.getAccession(), pendingAccession);
+    }
+
+    private static byte[] serialize(AccessionWrapper<?, ?, ?> accession) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream outputStream = new ObjectOutputStream(bytes)) {
+            outputStream.writeObject(accession.getAccession());
+            outputStream.writeObject(accession.getHash());
+            outputStream.writeObject(accession.getData());
+            outputStream.writeInt(accession.getVersion());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Accession " + accession.getAccession() + " could not be serialized", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    @SuppressWarnings("unchecked")
+    private AccessionWrapper<MODEL, HASH, ACCESSION> deserialize(byte[] record) throws IOException {
+        try (ObjectInputStream inputStream = new ObjectInputStream(new ByteArrayInputStream(record))) {
+            ACCESSION accession = (ACCESSION) inputStream.readObject();
+            HASH hash = (HASH) inputStream.readObject();
+            MODEL model = (MODEL) inputStream.readObject();
+            return new AccessionWrapper<>(accession, hash, model, inputStream.readInt());
+        } catch (ClassNotFoundException e) {
+            throw new IOException("Journal record could not be deserialized", e);
+        }
+    }
+
+    @Override
+    public SaveResponse<ACCESSION> save(List<AccessionWrapper<MODEL, HASH, ACCESSION>> objects) {
+        Set<HASH> storedHashes = !checkStoredHashes ? Collections.emptySet() :
+                dbService.findAllByHash(objects.stream().map(AccessionWrapper::getHash).collect(Collectors.toSet()))
+                         .stream().map(AccessionWrapper::getHash).collect(Collectors.toSet());
+        SaveResponse<ACCESSION> response = new SaveResponse<>();
+        List<AccessionWrapper<MODEL, HASH, ACCESSION>> candidates = new ArrayList<>();
+        List<byte[]> candidateRecords = new ArrayList<>();
+        for (AccessionWrapper<MODEL, HASH, ACCESSION> object : objects) {
+            if (storedHashes.contains(object.getHash())) {
+                response.addSaveFailedAccession(object.getAccession());
+            } else {
+                candidates.add(object);
+                candidateRecords.add(serialize(object));
+            }
+        }
+
+        List<AccessionWrapper<MODEL, HASH, ACCESSION>> journaledAccessions = new ArrayList<>();
+        List<byte[]> records = new ArrayList<>();
+        synchronized (this) {
+            Set<HASH> journaledHashes = new HashSet<>();
+            for (int i = 0; i < candidates.size(); i++) {
+                AccessionWrapper<MODEL, HASH, ACCESSION> candidate = candidates.get(i);
+                if (pendingByHash.containsKey(candidate.getHash()) || !journaledHashes.add(candidate.getHash())) {
+                    response.addSaveFailedAccession(candidate.getAccession());
+                } else {
+                    journaledAccessions.add(candidate);
+                    records.add(candidateRecords.get(i));
+                }
+            }
+            if (!records.isEmpty()) {
+                long segment;
+                try {
+                    segment = journal.append(records);
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Accessions could not be written to the journal", e);
+                }
+                journaledAccessions.forEach(accession -> addPending(accession, segment));
+            }
+        }
+        if (!records.isEmpty()) {
+            try {
+                journal.sync();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Accessions could not be synced to the journal", e);
+            }
+        }
+        journaledAccessions.forEach(accession -> response.addSavedAccession(accession.getAccession()));
+        return response;
+    }
+
+    private void drainInBackground() {
+        try {
+            while (drainBatch() == drainBatchSize) {
+                // Keep draining while there are full batches pending
+            }
+        } catch (RuntimeException e) {
+            logger.error("Accessions could not be inserted from the journal, they will be retried", e);
+        }
+    }
+
+    /**
+     * Inserts in the database all the objects that were pending when called, without waiting for the background
+     * drain.
+     */
+    public void flush() {
+        int remaining = getPendingCount();
+        while (remaining > 0) {
+            int drained = drainBatch();
+            if (drained == 0) {
+                break;
+            }
+            remaining -= drained;
+        }
+    }
+
+    /**
+     * Inserts the oldest pending objects in the database. Objects that can't be inserted because their hash is stored
+     * already are checked: if it is stored with the same accession, the object was inserted before a restart;
+     * otherwise it is reported as a conflict.
+     *
+     * @return Number of objects drained from the journal
+     */
+    private int drainBatch() {
+        synchronized (drainLock) {
+            List<PendingAccession> batch = new ArrayList<>(drainBatchSize);
+            synchronized (this) {
+                Iterator<PendingAccession> iterator = pendingByHash.values().iterator();
+                while (iterator.hasNext() && batch.size() < drainBatchSize) {
+                    batch.add(iterator.next());
+                }
+            }
+            if (batch.isEmpty()) {
+                return 0;
+            }
+            List<AccessionWrapper<MODEL, HASH, ACCESSION>> accessions = batch.stream()
+                    .map(pendingAccession -> pendingAccession.accession).collect(Collectors.toList());
+            SaveResponse<ACCESSION> response = dbService.save(accessions);
+            List<AccessionWrapper<MODEL, HASH, ACCESSION>> unsavedAccessions = accessions.stream()
+                    .filter(accession -> !response.isSavedAccession(accession.getAccession()))
+                    .collect(Collectors.toList());
+            if (!unsavedAccessions.isEmpty()) {
+                checkConflicts(unsavedAccessions);
+            }
+
+            long firstPendingSegment;
+            synchronized (this) {
+                for (PendingAccession pendingAccession : batch) {
+                    pendingByHash.remove(pendingAccession.accession.getHash());
+                    pendingByAccession.remove(pendingAccession.accession.getAccession());
+                }
+                drainedCount += batch.size();
+                firstPendingSegment = pendingByHash.isEmpty() ? journal.getCurrentSegment() :
+                        pendingByHash.values().iterator().next().segment;
+            }
+            try {
+                journal.deleteSegmentsBefore(firstPendingSegment);
+            } catch (IOException e) {
+                logger.warn("Drained journal files could not be deleted", e);
+            }
+            return batch.size();
+        }
+    }
+
+    private void checkConflicts(List<AccessionWrapper<MODEL, HASH, ACCESSION>> unsavedAccessions) {
+        Map<HASH, ACCESSION> storedAccessions = new HashMap<>();
+        dbService.findAllByHash(unsavedAccessions.stream().map(AccessionWrapper::getHash).collect(Collectors.toSet()))
+                 .forEach(accession -> storedAccessions.put(accession.getHash(), accession.getAccession()));
+        for (AccessionWrapper<MODEL, HASH, ACCESSION> accession : unsavedAccessions) {
+            ACCESSION storedAccession = storedAccessions.get(accession.getHash());
+            if (!accession.getAccession().equals(storedAccession)) {
+                logger.error("Hash '{}' was journaled with accession '{}', but it is stored with accession '{}'",
+                             accession.getHash(), accession.getAccession(), storedAccession);
+                synchronized (this) {
+                    conflicts.add(accession);
+                }
+            }
+        }
+    }
+
+    /**
+     * Waits for the journal to be drained if any of the accessions has not been inserted in the database yet.
+     */
+    @SafeVarargs
+    private final void flushIfPending(ACCESSION... accessions) {
+        flushIfPending(Arrays.asList(accessions));
+    }
+
+    private void flushIfPending(Collection<ACCESSION> accessions) {
+        boolean pending = false;
+        synchronized (this) {
+            for (ACCESSION accession : accessions) {
+                pending |= pendingByAccession.containsKey(accession);
+            }
+        }
+        if (pending) {
+            flush();
+        }
+    }
+
+    private synchronized AccessionWrapper<MODEL, HASH, ACCESSION> getPending(ACCESSION accession) {
+        PendingAccession pendingAccession = pendingByAccession.get(accession);
+        return pendingAccession != null ? pendingAccession.accession : null;
+    }
+
+    @Override
+    public List<AccessionWrapper<MODEL, HASH, ACCESSION>> findAllByHash(Collection<HASH> hashes) {
+        List<AccessionWrapper<MODEL, HASH, ACCESSION>> accessions = new ArrayList<>();
+        List<HASH> hashesToFind = new ArrayList<>();
+        synchronized (this) {
+            for (HASH hash : hashes) {
+                PendingAccession pendingAccession = pendingByHash.get(hash);
+                if (pendingAccession != null) {
+                    accessions.add(pendingAccession.accession);
+                } else {
+                    hashesToFind.add(hash);
+                }
+            }
+        }
+        if (!hashesToFind.isEmpty()) {
+            accessions.addAll(dbService.findAllByHash(hashesToFind));
+        }
+        return accessions;
+    }
+
+    /**
+     * The hashes of the objects that are still in the journal are listed after the stored ones. Hashes inserted
+     * while listing may be reported twice.
+     */
+    @Override
+    public void forEachHash(Consumer<HASH> consumer) {
+        dbService.forEachHash(consumer);
+        List<HASH> pendingHashes;
+        synchronized (this) {
+            pendingHashes = new ArrayList<>(pendingByHash.keySet());
+        }
+        pendingHashes.forEach(consumer);
+    }
+
+    @Override
+    public AccessionVersionsWrapper<MODEL, HASH, ACCESSION> findByAccession(ACCESSION accession)
+            throws AccessionDoesNotExistException, AccessionMergedException, AccessionDeprecatedException {
+        AccessionWrapper<MODEL, HASH, ACCESSION> pendingAccession = getPending(accession);
+        if (pendingAccession != null) {
+            return new AccessionVersionsWrapper<>(Collections.singletonList(pendingAccession));
+        }
+        return dbService.findByAccession(accession);
+    }
+
+    @Override
+    public AccessionWrapper<MODEL, HASH, ACCESSION> findLastVersionByAccession(ACCESSION accession)
+            throws AccessionDoesNotExistException, AccessionMergedException, AccessionDeprecatedException {
+        AccessionWrapper<MODEL, HASH, ACCESSION> pendingAccession = getPending(accession);
+        if (pendingAccession != null) {
+            return pendingAccession;
+        }
+        return dbService.findLastVersionByAccession(accession);
+    }
+
+    @Override
+    public List<AccessionStatusWrapper<MODEL, HASH, ACCESSION>> findLastVersionByAccessions(
+            List<ACCESSION> accessions) {
+        List<AccessionStatusWrapper<MODEL, HASH, ACCESSION>> result =
+                new ArrayList<>(Collections.nCopies(accessions.size(), null));
+        List<ACCESSION> accessionsToFind = new ArrayList<>();
+        int[] indexesToFind = new int[accessions.size()];
+        for (int i = 0; i < accessions.size(); i++) {
+            AccessionWrapper<MODEL, HASH, ACCESSION> pendingAccession = getPending(accessions.get(i));
+            if (pendingAccession != null) {
+                result.set(i, AccessionStatusWrapper.active(pendingAccession));
+            } else {
+                indexesToFind[accessionsToFind.size()] = i;
+                accessionsToFind.add(accessions.get(i));
+            }
+        }
+        if (!accessionsToFind.isEmpty()) {
+            List<AccessionStatusWrapper<MODEL, HASH, ACCESSION>> storedAccessions =
+                    dbService.findLastVersionByAccessions(accessionsToFind);
+            for (int i = 0; i < storedAccessions.size(); i++) {
+                result.set(indexesToFind[i], storedAccessions.get(i));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public AccessionWrapper<MODEL, HASH, ACCESSION> findByAccessionVersion(ACCESSION accession, int version)
+            throws AccessionDoesNotExistException, AccessionDeprecatedException, AccessionMergedException {
+        AccessionWrapper<MODEL, HASH, ACCESSION> pendingAccession = getPending(accession);
+        if (pendingAccession != null) {
+            if (pendingAccession.getVersion() != version) {
+                throw new AccessionDoesNotExistException(accession.toString(), version);
+            }
+            return pendingAccession;
+        }
+        return dbService.findByAccessionVersion(accession, version);
+    }
+
+    @Override
+    public AccessionVersionsWrapper<MODEL, HASH, ACCESSION> patch(ACCESSION accession, HASH hash, MODEL model,
+                                                                  String reason)
+            throws AccessionDoesNotExistException, HashAlreadyExistsException, AccessionDeprecatedException,
+            AccessionMergedException {
+        flushIfPending(accession);
+        return dbService.patch(accession, hash, model, reason);
+    }
+
+    @Override
+    public AccessionVersionsWrapper<MODEL, HASH, ACCESSION> update(ACCESSION accession, HASH hash, MODEL model,
+                                                                   int version)
+            throws AccessionDoesNotExistException, HashAlreadyExistsException, AccessionMergedException,
+            AccessionDeprecatedException {
+        flushIfPending(accession);
+        return dbService.update(accession, hash, model, version);
+    }
+
+    @Override
+    public List<OperationOutcome<ACCESSION, AccessionVersionsWrapper<MODEL, HASH, ACCESSION>>> patchAll(
+            List<AccessionWrapper<MODEL, HASH, ACCESSION>> patches, String reason) {
+        flushIfPending(patches.stream().map(AccessionWrapper::getAccession).collect(Collectors.toList()));
+        return dbService.patchAll(patches, reason);
+    }
+
+    @Override
+    public List<OperationOutcome<ACCESSION, AccessionVersionsWrapper<MODEL, HASH, ACCESSION>>> updateAll(
+            List<AccessionWrapper<MODEL, HASH, ACCESSION>> objects) {
+        flushIfPending(objects.stream().map(AccessionWrapper::getAccession).collect(Collectors.toList()));
+        return dbService.updateAll(objects);
+    }
+
+    @Override
+    public void deprecate(ACCESSION accession, String reason) throws AccessionDoesNotExistException,
+            AccessionMergedException, AccessionDeprecatedException {
+        flushIfPending(accession);
+        dbService.deprecate(accession, reason);
+    }
+
+    @Override
+    public void merge(ACCESSION accession, ACCESSION mergeInto, String reason) throws AccessionMergedException,
+            AccessionDoesNotExistException, AccessionDeprecatedException {
+        flushIfPending(accession, mergeInto);
+        dbService.merge(accession, mergeInto, reason);
+    }
+
+    @Override
+    public List<OperationOutcome<ACCESSION, Void>> deprecateAll(List<ACCESSION> accessions, String reason) {
+        flushIfPending(accessions);
+        return dbService.deprecateAll(accessions, reason);
+    }
+
+    @Override
+    public List<OperationOutcome<ACCESSION, Void>> mergeAll(Map<ACCESSION, ACCESSION> merges, String reason) {
+        List<ACCESSION> accessions = new ArrayList<>(merges.keySet());
+        accessions.addAll(merges.values());
+        flushIfPending(accessions);
+        return dbService.mergeAll(merges, reason);
+    }
+
+    /**
+     * Stops the background drain and inserts the pending objects in the database. Objects that can't be inserted are
+     * kept in the journal and inserted when the service is created again.
+     */
+    @Override
+    public void close() throws IOException {
+        drainExecutor.shutdown();
+        try {
+            flush();
+        } finally {
+            journal.close();
+        }
+    }
+
+    public synchronized int getPendingCount() {
+        return pendingByHash.size();
+    }
+
+    public synchronized long getDrainedCount() {
+        return drainedCount;
+    }
+
+    /**
+     * @return Objects acknowledged by this service whose hash was stored with another accession before they could be
+     * inserted in the database
+     */
+    public synchronized List<AccessionWrapper<MODEL, HASH, ACCESSION>> getConflicts() {
+        return new ArrayList<>(conflicts);
+    }
+}
@@ -0,0 +1,284 @@
+/*
+ *
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.ebi.ampt2d.commons.accession.core;
+
+import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionCouldNotBeGeneratedException;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.GetOrCreateAccessionWrapper;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Service that groups concurrent small {@link #getOrCreate(List, String)} and
+ * {@link #getOrCreateHashed(Map, String)} calls of the same application instance into a single call to the wrapped
+ * service, so they share the accession generation and the database transaction.
+ * <p>
+ * The first call of a batch waits until the batch reaches the maximum size or the maximum wait time has passed, and
+ * then accessions the objects of all the calls in the batch. Each caller receives the accessions of its own objects.
+ * An object requested by more than one call of the same batch is reported as a new accession only to the first one.
+ * If the batch fails, all its callers receive the exception. Calls with at least as many objects as the maximum batch
+ * size are not batched.
+ * <p>
+ * The summary and hashing functions must be the same as the ones of the wrapped service.
+ *
+ * @param <MODEL>     Type of the objects identified by the accessions
+ * @param <HASH>      Type of the hash calculated based on the fields that uniquely identify an accessioned object
+ * @param <ACCESSION> Type of the accession that identifies an object of a particular model
+ */
+public class MicroBatchingAccessioningService<MODEL, HASH, ACCESSION>
+        extends DelegatingAccessioningService<MODEL, HASH, ACCESSION> {
+
+    public static final int DEFAULT_MAX_BATCH_SIZE = 1000;
+
+    public static final long DEFAULT_MAX_WAIT_MILLIS = 5;
+
+    private class PendingRequest {
+
+        private final Map<HASH, ? extends MODEL> messages;
+
+        private final CompletableFuture<List<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>>> result;
+
+        PendingRequest(Map<HASH, ? extends MODEL> messages) {
+            this.messages = messages;
+            this.result = new CompletableFuture<>();
+        }
+
+    }
+
+    private class PendingBatch {
+
+        private final List<PendingRequest> requests = new ArrayList<>();
+
+        private int size;
+
+        private boolean closed;
+
+    }
+
+    private final Function<MODEL, HASH> hashingFunction;
+
+    private final int maxBatchSize;
+
+    private final long maxWaitNanos;
+
+    private final Object lock;
+
+    private final Map<String, PendingBatch> pendingBatches;
+
+    private final AtomicLong batchCount;
+
+    private final AtomicLong requestCount;
+
+    public MicroBatchingAccessioningService(AccessioningService<MODEL, HASH, ACCESSION> service,
+                                            Function<MODEL, String> summaryFunction,
+                                            Function<String, HASH> hashingFunction) {
+        this(service, summaryFunction, hashingFunction, DEFAULT_MAX_BATCH_SIZE, DEFAULT_MAX_WAIT_MILLIS);
+    }
+
+    public MicroBatchingAccessioningService(AccessioningService<MODEL, HASH, ACCESSION> service,
+                                            Function<MODEL, String> summaryFunction,
+                                            Function<String, HASH> hashingFunction, int maxBatchSize,
+                                            long maxWaitMillis) {
+        super(service);
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Maximum batch size must be greater than zero");
+        }
+        if (maxWaitMillis < 0) {
+            throw new IllegalArgumentException("Maximum wait time can't be negative");
+        }
+        this.hashingFunction = summaryFunction.andThen(hashingFunction);
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+        this.lock = new Object();
+        this.pendingBatches = new HashMap<>();
+        this.batchCount = new AtomicLong();
+        this.requestCount = new AtomicLong();
+    }
+
+    @Override
+    public List<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>> getOrCreate(List<? extends MODEL> messages,
+                                                                                 String applicationInstanceId)
+            throws AccessionCouldNotBeGeneratedException {
+        if (messages.isEmpty() || messages.size() >= maxBatchSize) {
+            return getService().getOrCreate(messages, applicationInstanceId);
+        }
+        Map<HASH, MODEL> messagesByHash = new LinkedHashMap<>();
+        for (MODEL message : messages) {
+            messagesByHash.putIfAbsent(hashingFunction.apply(message), message);
+        }
+        return batch(messagesByHash, applicationInstanceId);
+    }
+
+    @Override
+    public List<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>> getOrCreateHashed(
+            Map<HASH, ? extends MODEL> hashedMessages, String applicationInstanceId)
+            throws AccessionCouldNotBeGeneratedException {
+        if (hashedMessages.isEmpty() || hashedMessages.size() >= maxBatchSize) {
+            return getService().getOrCreateHashed(hashedMessages, applicationInstanceId);
+        }
+        return batch(hashedMessages, applicationInstanceId);
+    }
+
+    /**
+     * The objects are accessioned through {@link #getOrCreateHashed(Map, String)}, so they are batched with the ones
+     * of concurrent calls, and the result is aligned by hash.
+     */
+    @Override
+    public List<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>> getOrCreateAligned(
+            List<? extends MODEL> messages, String applicationInstanceId)
+            throws AccessionCouldNotBeGeneratedException {
+        return getOrCreateAligned(messages, applicationInstanceId, hashingFunction);
+    }
+
+    /**
+     * Each object is hashed once, when the call joins a batch, and the wrapped service receives the hashes of the
+     * whole batch through {@link AccessioningService#getOrCreateHashed(Map, String)}.
+     */
+    private List<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>> batch(Map<HASH, ? extends MODEL> messages,
+                                                                          String applicationInstanceId)
+            throws AccessionCouldNotBeGeneratedException {
+        PendingRequest request = new PendingRequest(messages);
+        PendingBatch batch;
+        boolean leader = false;
+        synchronized (lock) {
+            batch = pendingBatches.get(applicationInstanceId);
+            if (batch == null || batch.size + messages.size() > maxBatchSize) {
+                if (batch != null) {
+                    close(batch, applicationInstanceId);
+                }
+                batch = new PendingBatch();
+                pendingBatches.put(applicationInstanceId, batch);
+                leader = true;
+            }
+            batch.requests.add(request);
+            batch.size += messages.size();
+            if (batch.size >= maxBatchSize) {
+                close(batch, applicationInstanceId);
+            }
+        }
+
+        if (leader) {
+            awaitBatch(batch, applicationInstanceId);
+            flush(batch.requests, applicationInstanceId);
+        }
+        return getResult(request);
+    }
+
+    private void close(PendingBatch batch, String applicationInstanceId) {
+        batch.closed = true;
+        pendingBatches.remove(applicationInstanceId, batch);
+        lock.notifyAll();
+    }
+
+    private void awaitBatch(PendingBatch batch, String applicationInstanceId) {
+        long deadline = System.nanoTime() + maxWaitNanos;
+        synchronized (lock) {
+            try {
+                long remaining = maxWaitNanos;
+                while (!batch.closed && remaining > 0) {
+                    TimeUnit.NANOSECONDS.timedWait(lock, remaining);
+                    remaining = deadline - System.nanoTime();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                if (!batch.closed) {
+                    close(batch, applicationInstanceId);
+                }
+            }
+        }
+    }
+
+    private void flush(List<PendingRequest> requests, String applicationInstanceId) {
+        batchCount.incrementAndGet();
+        requestCount.addAndGet(requests.size());
+        Map<HASH, MODEL> messagesByHash = new LinkedHashMap<>();
+        for (PendingRequest request : requests) {
+            request.messages.forEach(messagesByHash::putIfAbsent);
+        }
+
+        try {
+            Map<HASH, GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>> accessionsByHash = new HashMap<>();
+            getService().getOrCreateHashed(messagesByHash, applicationInstanceId)
+                    .forEach(accession -> accessionsByHash.put(accession.getHash(), accession));
+            Set<HASH> returnedHashes = new HashSet<>();
+            for (PendingRequest request : requests) {
+                request.result.complete(getRequestAccessions(request, accessionsByHash, returnedHashes));
+            }
+        } catch (AccessionCouldNotBeGeneratedException | RuntimeException e) {
+            requests.forEach(request -> request.result.completeExceptionally(e));
+        }
+    }
+
+    private List<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>> getRequestAccessions(
+            PendingRequest request, Map<HASH, GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>> accessionsByHash,
+            Set<HASH> returnedHashes) {
+        List<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>> requestAccessions = new ArrayList<>();
+        for (HASH hash : request.messages.keySet()) {
+            GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION> accession = accessionsByHash.get(hash);
+            if (accession == null) {
+                throw new IllegalStateException("No accession returned for hash " + hash);
+            }
+            if (!returnedHashes.add(hash) && accession.isNewAccession()) {
+                accession = new GetOrCreateAccessionWrapper<>(accession.getAccession(), accession.getHash(),
+                                                              accession.getData(), accession.getVersion(), false);
+            }
+            requestAccessions.add(accession);
+        }
+        return requestAccessions;
+    }
+
+    private List<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>> getResult(PendingRequest request)
+            throws AccessionCouldNotBeGeneratedException {
+        try {
+            return request.result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof AccessionCouldNotBeGeneratedException) {
+                throw (AccessionCouldNotBeGeneratedException) e.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * @return Number of batches sent to the wrapped service
+     */
+    public long getBatchCount() {
+        return batchCount.get();
+    }
+
+    /**
+     * @return Number of calls that have been grouped into batches
+     */
+    public long getBatchedRequestCount() {
+        return requestCount.get();
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ *
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.ebi.ampt2d.commons.accession.core;
+
+import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionCouldNotBeGeneratedException;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.GetOrCreateAccessionWrapper;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Service that coalesces concurrent {@link #getOrCreate(List, String)} and {@link #getOrCreateHashed(Map, String)}
+ * calls of the same objects within this JVM.
+ * The first call that requests a hash accessions it, and any other call that requests the same hash while the first
+ * one is in progress waits for its result instead of generating and saving another accession for it. Awaited objects
+ * are reported as old accessions to the waiting callers.
+ * <p>
+ * The summary and hashing functions must be the same as the ones of the wrapped service. A call only waits after its
+ * own objects have been accessioned, so concurrent calls can't block each other.
+ *
+ * @param <MODEL>     Type of the objects identified by the accessions
+ * @param <HASH>      Type of the hash calculated based on the fields that uniquely identify an accessioned object
+ * @param <ACCESSION> Type of the accession that identifies an object of a particular model
+ */
+public class SingleFlightAccessioningService<MODEL, HASH, ACCESSION>
+        extends DelegatingAccessioningService<MODEL, HASH, ACCESSION> {
+
+    private final Function<MODEL, HASH> hashingFunction;
+
+    private final ConcurrentMap<HASH, CompletableFuture<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>>>
+            inFlightHashes;
+
+    private final AtomicLong coalescedCount;
+
+    public SingleFlightAccessioningService(AccessioningService<MODEL, HASH, ACCESSION> service,
+                                           Function<MODEL, String> summaryFunction,
+                                           Function<String, HASH> hashingFunction) {
+        super(service);
+        this.hashingFunction = summaryFunction.andThen(hashingFunction);
+        this.inFlightHashes = new ConcurrentHashMap<>();
+        this.coalescedCount = new AtomicLong();
+    }
+
+    @Override
+    public List<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>> getOrCreate(List<? extends MODEL> messages,
+                                                                                 String applicationInstanceId)
+            throws AccessionCouldNotBeGeneratedException {
+        Map<HASH, MODEL> messagesByHash = new LinkedHashMap<>();
+        for (MODEL message : messages) {
+            messagesByHash.putIfAbsent(hashingFunction.apply(message), message);
+        }
+        return getOrCreateCoalesced(messagesByHash, applicationInstanceId, false);
+    }
+
+    /**
+     * The provided hashes are coalesced with the ones of concurrent {@link #getOrCreate(List, String)} calls, and the
+     * objects of this call are accessioned through {@link AccessioningService#getOrCreateHashed(Map, String)} of the
+     * wrapped service.
+     */
+    @Override
+    public List<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>> getOrCreateHashed(
+            Map<HASH, ? extends MODEL> hashedMessages, String applicationInstanceId)
+            throws AccessionCouldNotBeGeneratedException {
+        return getOrCreateCoalesced(hashedMessages, applicationInstanceId, true);
+    }
+
+    /**
+     * The objects are accessioned through {@link #getOrCreateHashed(Map, String)}, so they are coalesced with the ones
+     * of concurrent calls, and the result is aligned by hash.
+     */
+    @Override
+    public List<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>> getOrCreateAligned(
+            List<? extends MODEL> messages, String applicationInstanceId)
+            throws AccessionCouldNotBeGeneratedException {
+        return getOrCreateAligned(messages, applicationInstanceId, hashingFunction);
+    }
+
+    private List<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>> getOrCreateCoalesced(
+            Map<HASH, ? extends MODEL> messages, String applicationInstanceId, boolean hashed)
+            throws AccessionCouldNotBeGeneratedException {
+        Map<HASH, MODEL> ownMessages = new LinkedHashMap<>();
+        Map<HASH, CompletableFuture<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>>> ownFutures =
+                new LinkedHashMap<>();
+        Map<HASH, MODEL> awaitedMessages = new LinkedHashMap<>();
+        Map<HASH, CompletableFuture<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>>> awaitedFutures =
+                new LinkedHashMap<>();
+        for (Map.Entry<HASH, ? extends MODEL> message : messages.entrySet()) {
+            HASH hash = message.getKey();
+            CompletableFuture<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>> future = new CompletableFuture<>();
+            CompletableFuture<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>> inFlightFuture =
+                    inFlightHashes.putIfAbsent(hash, future);
+            if (inFlightFuture == null) {
+                ownMessages.put(hash, message.getValue());
+                ownFutures.put(hash, future);
+            } else {
+                awaitedMessages.put(hash, message.getValue());
+                awaitedFutures.put(hash, inFlightFuture);
+            }
+        }
+
+        List<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>> accessions = new ArrayList<>();
+        if (!ownMessages.isEmpty()) {
+            accessions.addAll(getOrCreateOwnMessages(ownMessages, ownFutures, applicationInstanceId, hashed));
+        }
+        if (!awaitedMessages.isEmpty()) {
+            accessions.addAll(awaitInFlightMessages(awaitedMessages, awaitedFutures, applicationInstanceId, hashed));
+        }
+        return accessions;
+    }
+
+    private List<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>> getOrCreateOwnMessages(
+            Map<HASH, MODEL> ownMessages,
+            Map<HASH, CompletableFuture<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>>> ownFutures,
+            String applicationInstanceId, boolean hashed) throws AccessionCouldNotBeGeneratedException {
+        try {
+            List<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>> accessions = hashed ?
+                    getService().getOrCreateHashed(ownMessages, applicationInstanceId) :
+                    getService().getOrCreate(new ArrayList<>(ownMessages.values()), applicationInstanceId);
+            for (GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION> accession : accessions) {
+                CompletableFuture<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>> future =
+                        ownFutures.get(accession.getHash());
+                if (future != null) {
+                    future.complete(accession);
+                }
+            }
+            return accessions;
+        } catch (AccessionCouldNotBeGeneratedException | RuntimeException e) {
+            ownFutures.values().forEach(future -> future.completeExceptionally(e));
+            throw e;
+        } finally {
+            ownFutures.forEach((hash, future) -> {
+                // Only happens if the wrapped service does not return all the hashes
+                future.completeExceptionally(new IllegalStateException("No accession returned for hash " + hash));
+                inFlightHashes.remove(hash, future);
+            });
+        }
+    }
+
+    /**
+     * Objects whose in-flight call failed are accessioned again by this call.
+     */
+    private List<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>> awaitInFlightMessages(
+            Map<HASH, MODEL> awaitedMessages,
+            Map<HASH, CompletableFuture<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>>> awaitedFutures,
+            String applicationInstanceId, boolean hashed) throws AccessionCouldNotBeGeneratedException {
+        List<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>> accessions = new ArrayList<>();
+        Map<HASH, MODEL> failedMessages = new LinkedHashMap<>();
+        for (Map.Entry<HASH, CompletableFuture<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>>> entry :
+                awaitedFutures.entrySet()) {
+            try {
+                GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION> accession = entry.getValue().join();
+                accessions.add(new GetOrCreateAccessionWrapper<>(accession.getAccession(), accession.getHash(),
+                                                                 accession.getData(), accession.getVersion(), false));
+                coalescedCount.incrementAndGet();
+            } catch (CompletionException | CancellationException e) {
+                failedMessages.put(entry.getKey(), awaitedMessages.get(entry.getKey()));
+            }
+        }
+        if (!failedMessages.isEmpty()) {
+            accessions.addAll(getOrCreateCoalesced(failedMessages, applicationInstanceId, hashed));
+        }
+        return accessions;
+    }
+
+    /**
+     * @return Number of objects whose accession was taken from a concurrent call instead of being requested again
+     */
+    public long getCoalescedCount() {
+        return coalescedCount.get();
+    }
+
+    /**
+     * @return Number of hashes that are being accessioned at the moment
+     */
+    public int getInFlightCount() {
+        return inFlightHashes.size();
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ *
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.ebi.ampt2d.commons.accession.core.exceptions;
+
+/**
+ * Exception thrown when a request is rejected because the accessioning service is working at full capacity.
+ */
+public class AccessioningOverloadedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public AccessioningOverloadedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * @return Number of seconds the client is advised to wait before retrying the request
+     */
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ *
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.ebi.ampt2d.commons.accession.core.models;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Result of a get or create operation on a batch of objects, stored as one array per field instead of one
+ * {@link GetOrCreateAccessionWrapper} per object, so that large batches do not allocate a wrapper for each result.
+ *
+ * @param <MODEL>     Type of the objects identified by the accessions
+ * @param <HASH>      Type of the hash calculated based on the fields that uniquely identify an accessioned object
+ * @param <ACCESSION> Type of the accession that identifies an object of a particular model
+ */
+public class AccessionBatchResult<MODEL, HASH, ACCESSION> {
+
+    private Object[] accessions;
+
+    private Object[] hashes;
+
+    private Object[] models;
+
+    private int[] versions;
+
+    private final BitSet newAccessions;
+
+    private int size;
+
+    public AccessionBatchResult(int initialCapacity) {
+        this.accessions = new Object[initialCapacity];
+        this.hashes = new Object[initialCapacity];
+        this.models = new Object[initialCapacity];
+        this.versions = new int[initialCapacity];
+        this.newAccessions = new BitSet(initialCapacity);
+    }
+
+    private AccessionBatchResult(Object[] accessions, Object[] hashes, Object[] models, int[] versions,
+                                 BitSet newAccessions, int size) {
+        this.accessions = accessions;
+        this.hashes = hashes;
+        this.models = models;
+        this.versions = versions;
+        this.newAccessions = newAccessions;
+        this.size = size;
+    }
+
+    public static <MODEL, HASH, ACCESSION> AccessionBatchResult<MODEL, HASH, ACCESSION> of(
+            List<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>> accessionWrappers) {
+        AccessionBatchResult<MODEL, HASH, ACCESSION> result = new AccessionBatchResult<>(accessionWrappers.size());
+        accessionWrappers.forEach(wrapper -> result.add(wrapper, wrapper.isNewAccession()));
+        return result;
+    }
+
+    public void add(AccessionWrapper<MODEL, HASH, ACCESSION> accessionWrapper, boolean newAccession) {
+        add(accessionWrapper.getAccession(), accessionWrapper.getHash(), accessionWrapper.getData(),
+            accessionWrapper.getVersion(), newAccession);
+    }
+
+    public void add(ACCESSION accession, HASH hash, MODEL model, int version, boolean newAccession) {
+        ensureCapacity(size + 1);
+        accessions[size] = accession;
+        hashes[size] = hash;
+        models[size] = model;
+        versions[size] = version;
+        newAccessions.set(size, newAccession);
+        size++;
+    }
+
+    /**
+     * Appends all the results of another batch, copying its arrays instead of adding its objects one by one.
+     */
+    public void addAll(AccessionBatchResult<MODEL, HASH, ACCESSION> other) {
+        ensureCapacity(size + other.size);
+        System.arraycopy(other.accessions, 0, accessions, size, other.size);
+        System.arraycopy(other.hashes, 0, hashes, size, other.size);
+        System.arraycopy(other.models, 0, models, size, other.size);
+        System.arraycopy(other.versions, 0, versions, size, other.size);
+        for (int i = other.newAccessions.nextSetBit(0); i >= 0 && i < other.size;
+             i = other.newAccessions.nextSetBit(i + 1)) {
+            newAccessions.set(size + i);
+        }
+        size += other.size;
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > versions.length) {
+            int capacity = Math.max(minCapacity, Math.max(16, size + (size >> 1)));
+            accessions = Arrays.copyOf(accessions, capacity);
+            hashes = Arrays.copyOf(hashes, capacity);
+            models = Arrays.copyOf(models, capacity);
+            versions = Arrays.copyOf(versions, capacity);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    public ACCESSION getAccession(int index) {
+        checkIndex(index);
+        return (ACCESSION) accessions[index];
+    }
+
+    @SuppressWarnings("unchecked")
+    public HASH getHash(int index) {
+        checkIndex(index);
+        return (HASH) hashes[index];
+    }
+
+    @SuppressWarnings("unchecked")
+    public MODEL getData(int index) {
+        checkIndex(index);
+        return (MODEL) models[index];
+    }
+
+    public int getVersion(int index) {
+        checkIndex(index);
+        return versions[index];
+    }
+
+    public boolean isNewAccession(int index) {
+        checkIndex(index);
+        return newAccessions.get(index);
+    }
+
+    /**
+     * @return Number of accessions that have been created by the operation
+     */
+    public int getNewAccessionCount() {
+        return newAccessions.cardinality();
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    /**
+     * Returns a result with the accessions transformed by the provided function. The rest of the fields are shared
+     * with this result, which must not be modified afterwards.
+     */
+    public <OTHER_ACCESSION> AccessionBatchResult<MODEL, HASH, OTHER_ACCESSION> mapAccessions(
+            Function<ACCESSION, OTHER_ACCESSION> function) {
+        Object[] mappedAccessions = new Object[size];
+        for (int i = 0; i < size; i++) {
+            mappedAccessions[i] = function.apply(getAccession(i));
+        }
+        return new AccessionBatchResult<>(mappedAccessions, hashes, models, versions, newAccessions, size);
+    }
+
+    public List<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>> toList() {
+        List<GetOrCreateAccessionWrapper<MODEL, HASH, ACCESSION>> accessionWrappers = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            accessionWrappers.add(new GetOrCreateAccessionWrapper<>(getAccession(i), getHash(i), getData(i),
+                                                                    getVersion(i), isNewAccession(i)));
+        }
+        return accessionWrappers;
+    }
+
+}
@@ -0,0 +1,33 @@
+/*
+ *
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.ebi.ampt2d.commons.accession.core.models;
+
+public enum AccessionStatus {
+
+    // the accession has at least one valid object
+    ACTIVE,
+
+    // the accession has been merged into another one
+    MERGED,
+
+    // the accession is no longer valid
+    DEPRECATED,
+
+    // the accession has never existed, or has no valid objects and was neither merged nor deprecated
+    DOES_NOT_EXIST
+}
@@ -0,0 +1,114 @@
+/*
+ *
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.ebi.ampt2d.commons.accession.core.models;
+
+import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionMergedException;
+
+/**
+ * Result of looking up one accession in a batch. Instead of throwing an exception, it reports whether the accession
+ * is active, merged, deprecated or does not exist. Active accessions carry their last version, and merged accessions
+ * carry the accession they were merged into.
+ *
+ * @param <MODEL> Type of the objects identified by the accessions
+ * @param <HASH> Type of the hash calculated based on the fields that uniquely identify an accessioned object
+ * @param <ACCESSION> Type of the accession that identifies an object of a particular model
+ */
+public class AccessionStatusWrapper<MODEL, HASH, ACCESSION> {
+
+    private final ACCESSION accession;
+
+    private final AccessionStatus status;
+
+    private final AccessionWrapper<MODEL, HASH, ACCESSION> lastVersion;
+
+    private final ACCESSION mergedInto;
+
+    public AccessionStatusWrapper(ACCESSION accession, AccessionStatus status,
+                                  AccessionWrapper<MODEL, HASH, ACCESSION> lastVersion, ACCESSION mergedInto) {
+        this.accession = accession;
+        this.status = status;
+        this.lastVersion = lastVersion;
+        this.mergedInto = mergedInto;
+    }
+
+    public static <MODEL, HASH, ACCESSION> AccessionStatusWrapper<MODEL, HASH, ACCESSION> active(
+            AccessionWrapper<MODEL, HASH, ACCESSION> lastVersion) {
+        return new AccessionStatusWrapper<>(lastVersion.getAccession(), AccessionStatus.ACTIVE, lastVersion, null);
+    }
+
+    public static <MODEL, HASH, ACCESSION> AccessionStatusWrapper<MODEL, HASH, ACCESSION> merged(
+            ACCESSION accession, ACCESSION mergedInto) {
+        return new AccessionStatusWrapper<>(accession, AccessionStatus.MERGED, null, mergedInto);
+    }
+
+    /**
+     * Status of an accession whose lookup threw an {@link AccessionMergedException}. The exception only has the text
+     * of the accession it was merged into, so it is kept only if the accessions are strings.
+     */
+    @SuppressWarnings("unchecked")
+    public static <MODEL, HASH, ACCESSION> AccessionStatusWrapper<MODEL, HASH, ACCESSION> merged(
+            ACCESSION accession, AccessionMergedException exception) {
+        ACCESSION mergedInto = accession instanceof String ? (ACCESSION) exception.getDestinationAccessionId() : null;
+        return merged(accession, mergedInto);
+    }
+
+    public static <MODEL, HASH, ACCESSION> AccessionStatusWrapper<MODEL, HASH, ACCESSION> deprecated(
+            ACCESSION accession) {
+        return new AccessionStatusWrapper<>(accession, AccessionStatus.DEPRECATED, null, null);
+    }
+
+    public static <MODEL, HASH, ACCESSION> AccessionStatusWrapper<MODEL, HASH, ACCESSION> doesNotExist(
+            ACCESSION accession) {
+        return new AccessionStatusWrapper<>(accession, AccessionStatus.DOES_NOT_EXIST, null, null);
+    }
+
+    public ACCESSION getAccession() {
+        return accession;
+    }
+
+    public AccessionStatus getStatus() {
+        return status;
+    }
+
+    public boolean isActive() {
+        return status == AccessionStatus.ACTIVE;
+    }
+
+    /**
+     * @return Last version of the accessioned object, or null if the accession is not active
+     */
+    public AccessionWrapper<MODEL, HASH, ACCESSION> getLastVersion() {
+        return lastVersion;
+    }
+
+    /**
+     * @return Accession this one was merged into, or null if the accession has not been merged
+     */
+    public ACCESSION getMergedInto() {
+        return mergedInto;
+    }
+
+    @Override
+    public String toString() {
+        return "AccessionStatusWrapper{" +
+                "accession=" + accession +
+                ", status=" + status +
+                ", mergedInto=" + mergedInto +
+                '}';
+    }
+}
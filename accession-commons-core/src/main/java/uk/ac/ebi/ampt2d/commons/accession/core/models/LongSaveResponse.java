@@ -0,0 +1,141 @@
+/*
+ *
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.ebi.ampt2d.commons.accession.core.models;
+
+import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.UnsavedAccessionException;
+import uk.ac.ebi.ampt2d.commons.accession.utils.LongHashSet;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * {@link SaveResponse} for long accessions that keeps them in primitive sets, so that a batch does not box its
+ * accessions after the database insert. The sets of {@link #getSavedAccessions()} and
+ * {@link #getSaveFailedAccessions()} are boxed copies, built on the first call and kept until the response is
+ * modified; the array accessors should be used instead.
+ */
+public class LongSaveResponse extends SaveResponse<Long> {
+
+    private final LongHashSet savedAccessions;
+
+    private final LongHashSet saveFailedAccessions;
+
+    private Set<Long> boxedSavedAccessions;
+
+    private Set<Long> boxedSaveFailedAccessions;
+
+    public LongSaveResponse() {
+        this(new LongHashSet(), new LongHashSet());
+    }
+
+    /**
+     * @param expectedAccessions Number of accessions that are going to be added to the response
+     */
+    public LongSaveResponse(int expectedAccessions) {
+        this(new LongHashSet(expectedAccessions), new LongHashSet());
+    }
+
+    private LongSaveResponse(LongHashSet savedAccessions, LongHashSet saveFailedAccessions) {
+        super(Collections.emptySet(), Collections.emptySet());
+        this.savedAccessions = savedAccessions;
+        this.saveFailedAccessions = saveFailedAccessions;
+    }
+
+    /**
+     * Converts a response of long accessions, reusing it if it is a {@link LongSaveResponse} already.
+     */
+    public static LongSaveResponse of(SaveResponse<Long> response) {
+        if (response instanceof LongSaveResponse) {
+            return (LongSaveResponse) response;
+        }
+        LongSaveResponse longResponse = new LongSaveResponse(response.getSavedAccessions().size());
+        response.getSavedAccessions().forEach(longResponse::addSavedAccession);
+        response.getSaveFailedAccessions().forEach(longResponse::addSaveFailedAccession);
+        return longResponse;
+    }
+
+    @Override
+    public Set<Long> getSavedAccessions() {
+        if (boxedSavedAccessions == null) {
+            boxedSavedAccessions = toBoxedSet(savedAccessions);
+        }
+        return boxedSavedAccessions;
+    }
+
+    @Override
+    public Set<Long> getSaveFailedAccessions() {
+        if (boxedSaveFailedAccessions == null) {
+            boxedSaveFailedAccessions = toBoxedSet(saveFailedAccessions);
+        }
+        return boxedSaveFailedAccessions;
+    }
+
+    private static Set<Long> toBoxedSet(LongHashSet accessions) {
+        Set<Long> boxedAccessions = new HashSet<>();
+        for (long accession : accessions.toArray()) {
+            boxedAccessions.add(accession);
+        }
+        return Collections.unmodifiableSet(boxedAccessions);
+    }
+
+    public long[] getSavedAccessionArray() {
+        return savedAccessions.toArray();
+    }
+
+    public long[] getSaveFailedAccessionArray() {
+        return saveFailedAccessions.toArray();
+    }
+
+    @Override
+    public boolean isSavedAccession(Long accession) {
+        return isSavedAccession(accession.longValue());
+    }
+
+    public boolean isSavedAccession(long accession) {
+        if (savedAccessions.contains(accession)) {
+            return true;
+        } else {
+            if (saveFailedAccessions.contains(accession)) {
+                return false;
+            } else {
+                throw new UnsavedAccessionException(accession);
+            }
+        }
+    }
+
+    @Override
+    public void addSavedAccession(Long accession) {
+        addSavedAccession(accession.longValue());
+    }
+
+    public void addSavedAccession(long accession) {
+        savedAccessions.add(accession);
+        boxedSavedAccessions = null;
+    }
+
+    @Override
+    public void addSaveFailedAccession(Long accession) {
+        addSaveFailedAccession(accession.longValue());
+    }
+
+    public void addSaveFailedAccession(long accession) {
+        saveFailedAccessions.add(accession);
+        boxedSaveFailedAccessions = null;
+    }
+}
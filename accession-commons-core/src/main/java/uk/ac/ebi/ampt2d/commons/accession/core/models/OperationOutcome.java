@@ -0,0 +1,81 @@
+/*
+ *
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.ebi.ampt2d.commons.accession.core.models;
+
+/**
+ * Outcome of the operation on one accession of a bulk operation. It holds either the result of the operation or the
+ * exception that prevented it, so that one accession failing does not abort the operation on the others.
+ *
+ * @param <ACCESSION> Type of the accession that identifies an object of a particular model
+ * @param <RESULT> Type of the result of the operation
+ */
+public class OperationOutcome<ACCESSION, RESULT> {
+
+    private final ACCESSION accession;
+
+    private final RESULT result;
+
+    private final Exception exception;
+
+    private OperationOutcome(ACCESSION accession, RESULT result, Exception exception) {
+        this.accession = accession;
+        this.result = result;
+        this.exception = exception;
+    }
+
+    public static <ACCESSION, RESULT> OperationOutcome<ACCESSION, RESULT> success(ACCESSION accession,
+                                                                                  RESULT result) {
+        return new OperationOutcome<>(accession, result, null);
+    }
+
+    public static <ACCESSION, RESULT> OperationOutcome<ACCESSION, RESULT> failure(ACCESSION accession,
+                                                                                  Exception exception) {
+        return new OperationOutcome<>(accession, null, exception);
+    }
+
+    public ACCESSION getAccession() {
+        return accession;
+    }
+
+    public boolean isSuccessful() {
+        return exception == null;
+    }
+
+    /**
+     * @return Result of the operation, or null if it failed or has no result
+     */
+    public RESULT getResult() {
+        return result;
+    }
+
+    /**
+     * @return Exception that prevented the operation, or null if it succeeded
+     */
+    public Exception getException() {
+        return exception;
+    }
+
+    @Override
+    public String toString() {
+        return "OperationOutcome{" +
+                "accession=" + accession +
+                ", result=" + result +
+                ", exception=" + exception +
+                '}';
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.ampt2d.commons.accession.persistence.models;
+
+import uk.ac.ebi.ampt2d.commons.accession.core.models.EventType;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of an event with only the fields needed to know the status of an accession, so the inactive objects
+ * of the event are not loaded.
+ *
+ * @param <ACCESSION> Type of the accession that identifies an object of a particular model
+ */
+public interface EventStatusProjection<ACCESSION> {
+
+    ACCESSION getAccession();
+
+    EventType getEventType();
+
+    ACCESSION getMergeInto();
+
+    ACCESSION getSplitInto();
+
+    LocalDateTime getCreatedDate();
+}
@@ -20,7 +20,9 @@ package uk.ac.ebi.ampt2d.commons.accession.persistence.repositories;
 import uk.ac.ebi.ampt2d.commons.accession.persistence.models.IAccessionedObject;
 import uk.ac.ebi.ampt2d.commons.accession.core.models.SaveResponse;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface IAccessionedObjectCustomRepository<ACCESSION,
         ENTITY extends IAccessionedObject<?, String, ACCESSION>> {
@@ -30,4 +32,18 @@ public interface IAccessionedObjectCustomRepository<ACCESSION,
      */
     SaveResponse<ACCESSION> insert(List<ENTITY> entities);
 
+    /**
+     * Bulk delete of accessioned objects, identified by their hashes, with one statement per chunk of objects instead
+     * of one per object.
+     */
+    void bulkDelete(Collection<ENTITY> entities);
+
+    /**
+     * Finds the last version of several accessions with a max-version projection grouped by accession, without
+     * loading the objects of the accessions.
+     *
+     * @return Last version of each accession that has objects. Accessions without objects are not included
+     */
+    Map<ACCESSION, Integer> findLastVersions(Collection<ACCESSION> accessions);
+
 }
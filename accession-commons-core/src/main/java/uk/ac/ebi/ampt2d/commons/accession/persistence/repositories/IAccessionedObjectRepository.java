@@ -17,9 +17,11 @@
  */
 package uk.ac.ebi.ampt2d.commons.accession.persistence.repositories;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.NoRepositoryBean;
 import uk.ac.ebi.ampt2d.commons.accession.persistence.models.AccessionProjection;
+import uk.ac.ebi.ampt2d.commons.accession.persistence.models.HashProjection;
 import uk.ac.ebi.ampt2d.commons.accession.persistence.models.IAccessionedObject;
 
 import java.io.Serializable;
@@ -36,9 +38,15 @@ public interface IAccessionedObjectRepository<
 
     List<ENTITY> findByAccessionIn(Collection<ACCESSION> accessions);
 
+    List<ENTITY> findByAccessionOrHashedMessage(ACCESSION accession, String hashedMessage);
+
     List<AccessionProjection<ACCESSION>> findByAccessionGreaterThanEqualAndAccessionLessThanEqual(ACCESSION start,
                                                                                                   ACCESSION end);
 
     ENTITY findByAccessionAndVersion(ACCESSION accession, int version);
 
+    ENTITY findTopByAccessionOrderByVersionDesc(ACCESSION accession);
+
+    List<HashProjection> findByHashedMessageGreaterThan(String hashedMessage, Pageable pageable);
+
 }
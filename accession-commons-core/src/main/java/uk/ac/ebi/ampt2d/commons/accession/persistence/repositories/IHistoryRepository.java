@@ -19,8 +19,10 @@ package uk.ac.ebi.ampt2d.commons.accession.persistence.repositories;
 
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.NoRepositoryBean;
+import uk.ac.ebi.ampt2d.commons.accession.persistence.models.EventStatusProjection;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.List;
 
 @NoRepositoryBean
@@ -31,6 +33,8 @@ public interface IHistoryRepository<ACCESSION, OPERATION_ENTITY, ID extends Seri
 
     List<OPERATION_ENTITY> findAllByAccession(ACCESSION accession);
 
+    List<EventStatusProjection<ACCESSION>> findEventStatusByAccessionIn(Collection<ACCESSION> accessions);
+
     List<OPERATION_ENTITY> findAllByAccessionOrMergeIntoOrSplitInto(ACCESSION accession, ACCESSION mergeInto, ACCESSION splitInto);
 
     default List<OPERATION_ENTITY> findAllInvolvedIn(ACCESSION accession) {
@@ -18,12 +18,17 @@
 package uk.ac.ebi.ampt2d.commons.accession.persistence.services;
 
 import uk.ac.ebi.ampt2d.commons.accession.core.models.EventType;
+import uk.ac.ebi.ampt2d.commons.accession.persistence.models.EventStatusProjection;
 import uk.ac.ebi.ampt2d.commons.accession.persistence.models.IAccessionedObject;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -40,6 +45,8 @@ public abstract class BasicInactiveAccessionService<
         >
         implements InactiveAccessionService<MODEL, ACCESSION, ACCESSION_ENTITY> {
 
+    private static final int EVENT_QUERY_CHUNK_SIZE = 1000;
+
     private Function<ACCESSION_ENTITY, ACCESSION_INACTIVE_ENTITY> toInactiveEntity;
 
     public BasicInactiveAccessionService(
@@ -47,9 +54,12 @@ public abstract class BasicInactiveAccessionService<
         this.toInactiveEntity = toInactiveEntity;
     }
 
+    /**
+     * Saved through {@link #saveHistories}, so that the event and its inactive object are written in one batch.
+     */
     @Override
     public void update(ACCESSION_ENTITY entity, String reason) {
-        saveHistory(UPDATED, entity.getAccession(), reason, Arrays.asList(toInactiveEntity.apply(entity)));
+        updateAll(Collections.singletonList(entity), reason);
     }
 
     private void saveHistory(EventType type, ACCESSION accession, String reason,
@@ -73,11 +83,131 @@ public abstract class BasicInactiveAccessionService<
                 toInactiveEntities(accessionEntities));
     }
 
+    /**
+     * Saved through {@link #saveHistories}, like {@link #update}.
+     */
     @Override
     public void patch(ACCESSION accession, String reason) {
-        saveHistory(PATCHED, accession, reason, null);
+        patchAll(Collections.singletonList(accession), reason);
+    }
+
+    @Override
+    public void updateAll(Collection<ACCESSION_ENTITY> entities, String reason) {
+        saveHistories(entities.stream()
+                              .map(entity -> new HistoryEntry(UPDATED, entity.getAccession(), null, reason,
+                                                              Arrays.asList(toInactiveEntity.apply(entity))))
+                              .collect(Collectors.toList()));
+    }
+
+    @Override
+    public void patchAll(Collection<ACCESSION> accessions, String reason) {
+        saveHistories(accessions.stream().map(accession -> new HistoryEntry(PATCHED, accession, null, reason, null))
+                                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public void deprecateAll(Map<ACCESSION, List<ACCESSION_ENTITY>> entities, String reason) {
+        saveHistories(entities.entrySet().stream()
+                              .map(entry -> new HistoryEntry(DEPRECATED, entry.getKey(), null, reason,
+                                                             toInactiveEntities(entry.getValue())))
+                              .collect(Collectors.toList()));
+    }
+
+    @Override
+    public void mergeAll(Map<ACCESSION, ACCESSION> merges, Map<ACCESSION, List<ACCESSION_ENTITY>> entities,
+                         String reason) {
+        saveHistories(merges.entrySet().stream()
+                            .map(merge -> new HistoryEntry(MERGED, merge.getKey(), merge.getValue(), reason,
+                                                           toInactiveEntities(entities.get(merge.getKey()))))
+                            .collect(Collectors.toList()));
+    }
+
+    @Override
+    public Map<ACCESSION, EventStatusProjection<ACCESSION>> getLastEventStatuses(Collection<ACCESSION> accessions) {
+        List<ACCESSION> accessionList = new ArrayList<>(accessions);
+        Map<ACCESSION, EventStatusProjection<ACCESSION>> lastEvents = new HashMap<>();
+        for (int start = 0; start < accessionList.size(); start += EVENT_QUERY_CHUNK_SIZE) {
+            List<ACCESSION> chunk = accessionList.subList(
+                    start, Math.min(start + EVENT_QUERY_CHUNK_SIZE, accessionList.size()));
+            for (EventStatusProjection<ACCESSION> event : findEventStatuses(chunk)) {
+                lastEvents.merge(event.getAccession(), event, (last, other) -> isAfter(last, other) ? last : other);
+            }
+        }
+        return lastEvents;
+    }
+
+    /**
+     * Events without creation date (for example, inserted in bulk) are considered older than any dated event.
+     */
+    private boolean isAfter(EventStatusProjection<ACCESSION> event, EventStatusProjection<ACCESSION> otherEvent) {
+        if (event.getCreatedDate() == null || otherEvent.getCreatedDate() == null) {
+            return otherEvent.getCreatedDate() == null;
+        }
+        return event.getCreatedDate().isAfter(otherEvent.getCreatedDate());
     }
 
+    /**
+     * @return Status of all the events of the accessions, in one query
+     */
+    protected abstract List<EventStatusProjection<ACCESSION>> findEventStatuses(Collection<ACCESSION> accessions);
+
     protected abstract void saveHistory(EventType type, ACCESSION accession, ACCESSION mergeInto,
                                         String reason, List<ACCESSION_INACTIVE_ENTITY> entities);
+
+    /**
+     * Saves several events. The default implementation saves them one by one with {@link #saveHistory}, and
+     * implementations can override it to save them in batch.
+     */
+    protected void saveHistories(List<HistoryEntry> entries) {
+        entries.forEach(entry -> saveHistory(entry.getType(), entry.getAccession(), entry.getMergeInto(),
+                                             entry.getReason(), entry.getEntities()));
+    }
+
+    /**
+     * Event of an accession to be saved in the history, with the objects that became inactive in the event.
+     */
+    protected class HistoryEntry {
+
+        private final EventType type;
+
+        private final ACCESSION accession;
+
+        private final ACCESSION mergeInto;
+
+        private final String reason;
+
+        private final List<ACCESSION_INACTIVE_ENTITY> entities;
+
+        HistoryEntry(EventType type, ACCESSION accession, ACCESSION mergeInto, String reason,
+                     List<ACCESSION_INACTIVE_ENTITY> entities) {
+            this.type = type;
+            this.accession = accession;
+            this.mergeInto = mergeInto;
+            this.reason = reason;
+            this.entities = entities;
+        }
+
+        public EventType getType() {
+            return type;
+        }
+
+        public ACCESSION getAccession() {
+            return accession;
+        }
+
+        public ACCESSION getMergeInto() {
+            return mergeInto;
+        }
+
+        public String getReason() {
+            return reason;
+        }
+
+        /**
+         * @return Objects that became inactive in the event, or null if there are none
+         */
+        public List<ACCESSION_INACTIVE_ENTITY> getEntities() {
+            return entities;
+        }
+    }
 }
@@ -17,15 +17,21 @@
  */
 package uk.ac.ebi.ampt2d.commons.accession.persistence.services;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import uk.ac.ebi.ampt2d.commons.accession.core.DatabaseService;
 import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionDeprecatedException;
 import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionDoesNotExistException;
 import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionMergedException;
 import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.HashAlreadyExistsException;
+import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.UnsavedAccessionException;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionStatusWrapper;
 import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionVersionsWrapper;
 import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionWrapper;
-import uk.ac.ebi.ampt2d.commons.accession.core.models.EventType;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.OperationOutcome;
 import uk.ac.ebi.ampt2d.commons.accession.core.models.SaveResponse;
+import uk.ac.ebi.ampt2d.commons.accession.persistence.models.EventStatusProjection;
+import uk.ac.ebi.ampt2d.commons.accession.persistence.models.HashProjection;
 import uk.ac.ebi.ampt2d.commons.accession.persistence.models.IAccessionedObject;
 import uk.ac.ebi.ampt2d.commons.accession.persistence.repositories.IAccessionedObjectRepository;
 
@@ -33,8 +39,16 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -54,6 +68,10 @@ public class BasicSpringDataRepositoryDatabaseService<
         ACCESSION_ENTITY extends IAccessionedObject<MODEL, String, ACCESSION>>
         implements DatabaseService<MODEL, String, ACCESSION> {
 
+    private static final int HASH_PAGE_SIZE = 10000;
+
+    private static final int ACCESSION_QUERY_CHUNK_SIZE = 1000;
+
     private final IAccessionedObjectRepository<ACCESSION_ENTITY, ACCESSION> repository;
 
     private final Function<AccessionWrapper<MODEL, String, ACCESSION>, ACCESSION_ENTITY> toEntityFunction;
@@ -77,6 +95,26 @@ public class BasicSpringDataRepositoryDatabaseService<
         return wrappedAccessions;
     }
 
+    /**
+     * Hashes are read in pages sorted by hash, each page starting after the last hash of the previous one, so every
+     * page is an index range scan regardless of how many hashes have been read already.
+     */
+    @Override
+    public void forEachHash(Consumer<String> consumer) {
+        PageRequest pageRequest = PageRequest.of(0, HASH_PAGE_SIZE, Sort.by("hashedMessage"));
+        String lastHash = "";
+        List<HashProjection> page;
+        do {
+            page = repository.findByHashedMessageGreaterThan(lastHash, pageRequest);
+            for (HashProjection projection : page) {
+                consumer.accept(projection.getHashedMessage());
+            }
+            if (!page.isEmpty()) {
+                lastHash = page.get(page.size() - 1).getHashedMessage();
+            }
+        } while (page.size() == HASH_PAGE_SIZE);
+    }
+
     private AccessionWrapper<MODEL, String, ACCESSION> toModelWrapper(ACCESSION_ENTITY entity) {
         return new AccessionWrapper<>(entity.getAccession(), entity.getHashedMessage(), entity.getModel(),
                 entity.getVersion());
@@ -99,12 +137,14 @@ public class BasicSpringDataRepositoryDatabaseService<
 
     private void checkAccessionNotMergedOrDeprecated(ACCESSION accession) throws AccessionDoesNotExistException,
             AccessionMergedException, AccessionDeprecatedException {
-        EventType eventType = inactiveAccessionService.getLastEventType(accession).orElseThrow(() -> new
-                AccessionDoesNotExistException(accession.toString()));
-        switch (eventType) {
+        EventStatusProjection<ACCESSION> lastEvent = inactiveAccessionService
+                .getLastEventStatuses(Collections.singleton(accession)).get(accession);
+        if (lastEvent == null) {
+            throw new AccessionDoesNotExistException(accession.toString());
+        }
+        switch (lastEvent.getEventType()) {
             case MERGED:
-                throw new AccessionMergedException(accession.toString(),
-                        inactiveAccessionService.getLastEvent(accession).getMergedInto().toString());
+                throw new AccessionMergedException(accession.toString(), lastEvent.getMergeInto().toString());
             case DEPRECATED:
                 throw new AccessionDeprecatedException(accession.toString());
         }
@@ -116,12 +156,64 @@ public class BasicSpringDataRepositoryDatabaseService<
         return new AccessionVersionsWrapper<>(models);
     }
 
+    /**
+     * Only the last version is read, which is resolved by the index on accession and version if the table or
+     * collection has one.
+     */
     @Override
     public AccessionWrapper<MODEL, String, ACCESSION> findLastVersionByAccession(ACCESSION accession)
             throws AccessionDoesNotExistException, AccessionMergedException, AccessionDeprecatedException {
-        final List<ACCESSION_ENTITY> acessionEntities = repository.findByAccession(accession);
-        checkAccessionIsActive(acessionEntities, accession);
-        return toModelWrapper(filterOldVersions(acessionEntities));
+        final ACCESSION_ENTITY lastVersionEntity = repository.findTopByAccessionOrderByVersionDesc(accession);
+        if (lastVersionEntity == null) {
+            checkAccessionNotMergedOrDeprecated(accession);
+            throw new AccessionDoesNotExistException(accession.toString());
+        }
+        return toModelWrapper(lastVersionEntity);
+    }
+
+    /**
+     * The active accessions are resolved with one query per chunk of accessions, and the status of the accessions
+     * without valid objects with one query per chunk to the history of inactive accessions.
+     */
+    @Override
+    public List<AccessionStatusWrapper<MODEL, String, ACCESSION>> findLastVersionByAccessions(
+            List<ACCESSION> accessions) {
+        List<ACCESSION> distinctAccessions = accessions.stream().distinct().collect(Collectors.toList());
+        Map<ACCESSION, AccessionStatusWrapper<MODEL, String, ACCESSION>> results = new HashMap<>();
+        for (int start = 0; start < distinctAccessions.size(); start += ACCESSION_QUERY_CHUNK_SIZE) {
+            List<ACCESSION> chunk = distinctAccessions.subList(
+                    start, Math.min(start + ACCESSION_QUERY_CHUNK_SIZE, distinctAccessions.size()));
+            Map<ACCESSION, ACCESSION_ENTITY> lastVersions = new HashMap<>();
+            for (ACCESSION_ENTITY entity : repository.findByAccessionIn(chunk)) {
+                lastVersions.merge(entity.getAccession(), entity,
+                                   (last, other) -> other.getVersion() >= last.getVersion() ? other : last);
+            }
+            List<ACCESSION> inactiveAccessions = chunk.stream().filter(accession -> !lastVersions.containsKey(accession))
+                    .collect(Collectors.toList());
+            Map<ACCESSION, EventStatusProjection<ACCESSION>> lastEvents = inactiveAccessions.isEmpty() ?
+                    Collections.emptyMap() : inactiveAccessionService.getLastEventStatuses(inactiveAccessions);
+            for (ACCESSION accession : chunk) {
+                ACCESSION_ENTITY lastVersion = lastVersions.get(accession);
+                results.put(accession, lastVersion != null ? AccessionStatusWrapper.active(toModelWrapper(lastVersion))
+                        : toInactiveAccessionStatus(accession, lastEvents.get(accession)));
+            }
+        }
+        return accessions.stream().map(results::get).collect(Collectors.toList());
+    }
+
+    private AccessionStatusWrapper<MODEL, String, ACCESSION> toInactiveAccessionStatus(
+            ACCESSION accession, EventStatusProjection<ACCESSION> lastEvent) {
+        if (lastEvent == null) {
+            return AccessionStatusWrapper.doesNotExist(accession);
+        }
+        switch (lastEvent.getEventType()) {
+            case MERGED:
+                return AccessionStatusWrapper.merged(accession, lastEvent.getMergeInto());
+            case DEPRECATED:
+                return AccessionStatusWrapper.deprecated(accession);
+            default:
+                return AccessionStatusWrapper.doesNotExist(accession);
+        }
     }
 
     private ACCESSION_ENTITY filterOldVersions(List<ACCESSION_ENTITY> accessionedElements) {
@@ -164,34 +256,52 @@ public class BasicSpringDataRepositoryDatabaseService<
         return result;
     }
 
+    /**
+     * The versions of the accession and the object with the same hash, if any, are read in a single query, and the
+     * returned versions are built from them without reading the accession again. All the versions are read, instead of
+     * only the last one, because all of them are returned. The patch takes three statements in one transaction: the
+     * read, the insert and the patch event. They can't be fewer: the read provides the next version number and the
+     * checks that the accession is active, the event must only be written once the insert has been confirmed, and the
+     * history is kept in a different table or collection than the accessioned objects.
+     */
     @Override
     public AccessionVersionsWrapper<MODEL, String, ACCESSION> patch(ACCESSION accession, String hash, MODEL model,
                                                                     String reason)
             throws AccessionDoesNotExistException, HashAlreadyExistsException, AccessionDeprecatedException,
             AccessionMergedException {
-        List<ACCESSION_ENTITY> entities = getAccession(accession);
-        checkHashDoesNotExist(hash);
-        int maxVersion = 1;
-        for (ACCESSION_ENTITY entity : entities) {
-            if (entity.getVersion() >= maxVersion) {
-                maxVersion = entity.getVersion();
-            }
-        }
-        maxVersion = maxVersion + 1;
-        checkedInsert(accession, hash, model, maxVersion);
+        List<ACCESSION_ENTITY> entities = getAccessionWithoutHash(accession, hash);
+        AccessionWrapper<MODEL, String, ACCESSION> newVersion = new AccessionWrapper<>(
+                accession, hash, model, filterOldVersions(entities).getVersion() + 1);
+        checkedInsert(newVersion);
         inactiveAccessionService.patch(accession, reason);
-        return findByAccession(accession);
+
+        List<AccessionWrapper<MODEL, String, ACCESSION>> versions = entities.stream().map(this::toModelWrapper)
+                .collect(Collectors.toList());
+        versions.add(newVersion);
+        return new AccessionVersionsWrapper<>(versions);
     }
 
-    private void checkedInsert(ACCESSION accession, String hash, MODEL model, int maxVersion)
+    /**
+     * Inserts the object, reporting an insert rejected by the repository as an exception so that callers don't write
+     * history or delete old versions for an object that was not stored. Repositories usually report duplicated keys
+     * in the save response instead of throwing.
+     *
+     * @throws HashAlreadyExistsException when another object with the same hash has been inserted concurrently
+     * @throws UnsavedAccessionException when the object could not be inserted for any other reason
+     */
+    private void checkedInsert(AccessionWrapper<MODEL, String, ACCESSION> accessionWrapper)
             throws HashAlreadyExistsException {
+        SaveResponse<ACCESSION> response;
         try {
-            repository.insert(Arrays.asList(toEntityFunction.apply(
-                    new AccessionWrapper<>(accession, hash, model, maxVersion))));
+            response = repository.insert(Arrays.asList(toEntityFunction.apply(accessionWrapper)));
         } catch (RuntimeException e) {
-            checkHashDoesNotExist(hash);
+            checkHashDoesNotExist(accessionWrapper.getHash());
             throw e;
         }
+        if (!response.isSavedAccession(accessionWrapper.getAccession())) {
+            checkHashDoesNotExist(accessionWrapper.getHash());
+            throw new UnsavedAccessionException(accessionWrapper.getAccession());
+        }
     }
 
     private void checkHashDoesNotExist(String hash)
@@ -217,17 +327,265 @@ public class BasicSpringDataRepositoryDatabaseService<
         return accessionedElements;
     }
 
+    /**
+     * Same as {@link #getAccession}, but also checks in the same query that no object has the provided hash.
+     *
+     * @throws HashAlreadyExistsException when an object with the same hash exists already
+     */
+    private List<ACCESSION_ENTITY> getAccessionWithoutHash(ACCESSION accessionId, String hash)
+            throws AccessionDoesNotExistException, AccessionDeprecatedException, AccessionMergedException,
+            HashAlreadyExistsException {
+        List<ACCESSION_ENTITY> accessionedElements = new ArrayList<>();
+        ACCESSION_ENTITY entityWithHash = null;
+        for (ACCESSION_ENTITY entity : repository.findByAccessionOrHashedMessage(accessionId, hash)) {
+            if (entity.getHashedMessage().equals(hash)) {
+                entityWithHash = entity;
+            }
+            if (entity.getAccession().equals(accessionId)) {
+                accessionedElements.add(entity);
+            }
+        }
+        checkAccessionIsActive(accessionedElements, accessionId);
+        if (entityWithHash != null) {
+            throw new HashAlreadyExistsException(entityWithHash.getHashedMessage(), entityWithHash.getAccession());
+        }
+        return accessionedElements;
+    }
+
+    /**
+     * The versions of the accession and the object with the same hash, if any, are read in a single query. The new
+     * object is inserted before the old one is deleted, and the old one is only deleted if the insert succeeded, so a
+     * concurrent insert of the same hash leaves the accession untouched. The update event and the inactive copy of the
+     * old object are saved in one batch, and the old object is deleted with a single {@link
+     * IAccessionedObjectRepository#bulkDelete} statement, all in one transaction. The read, the insert, the history
+     * and the delete can't be merged for the same reasons as in {@link #patch}, and JPA repositories save the inactive
+     * copy in a statement after the event because it references the generated id of the event.
+     */
     @Override
     public AccessionVersionsWrapper<MODEL, String, ACCESSION> update(ACCESSION accession, String hash, MODEL model, int version)
             throws AccessionDoesNotExistException, HashAlreadyExistsException, AccessionMergedException,
             AccessionDeprecatedException {
-        ACCESSION_ENTITY oldVersion = doFindAccessionVersion(accession, version);
-        checkHashDoesNotExist(hash);
-
+        List<ACCESSION_ENTITY> entities = getAccessionWithoutHash(accession, hash);
+        ACCESSION_ENTITY oldVersion = entities.stream().filter(entity -> entity.getVersion() == version).findFirst()
+                .orElseThrow(() -> new AccessionDoesNotExistException(accession.toString(), version));
+        AccessionWrapper<MODEL, String, ACCESSION> newVersion = new AccessionWrapper<>(accession, hash, model, version);
+        checkedInsert(newVersion);
         inactiveAccessionService.update(oldVersion, "Version update");
-        repository.delete(oldVersion);
-        checkedInsert(accession, hash, model, version);
-        return findByAccession(accession);
+        repository.bulkDelete(Collections.singletonList(oldVersion));
+
+        List<AccessionWrapper<MODEL, String, ACCESSION>> versions = entities.stream()
+                .filter(entity -> entity != oldVersion).map(this::toModelWrapper).collect(Collectors.toList());
+        versions.add(newVersion);
+        return new AccessionVersionsWrapper<>(versions);
+    }
+
+    /**
+     * The last version of the accessions and the objects with the same hashes are read with one query each per chunk
+     * of accessions, using {@link IAccessionedObjectRepository#findLastVersions} so that the previous versions are not
+     * loaded. All the new versions are inserted together, and their patch events are saved in one batch. The outcomes
+     * only contain the new version of each patched accession.
+     */
+    @Override
+    public List<OperationOutcome<ACCESSION, AccessionVersionsWrapper<MODEL, String, ACCESSION>>> patchAll(
+            List<AccessionWrapper<MODEL, String, ACCESSION>> patches, String reason) {
+        List<Modification> modifications = prepareModifications(patches, false);
+        for (Modification modification : modifications) {
+            if (modification.isValid()) {
+                AccessionWrapper<MODEL, String, ACCESSION> patch = modification.object;
+                modification.newVersion = new AccessionWrapper<>(patch.getAccession(), patch.getHash(),
+                                                                  patch.getData(), modification.lastVersion + 1);
+            }
+        }
+        insertNewVersions(modifications);
+        List<ACCESSION> patchedAccessions = modifications.stream().filter(Modification::isValid)
+                .map(modification -> modification.object.getAccession()).collect(Collectors.toList());
+        if (!patchedAccessions.isEmpty()) {
+            inactiveAccessionService.patchAll(patchedAccessions, reason);
+        }
+        return modifications.stream().map(Modification::toOutcome).collect(Collectors.toList());
+    }
+
+    /**
+     * The versions of the accessions and the objects with the same hashes are read with one query each per chunk of
+     * accessions. All the new objects are inserted together before the old ones are deleted with one statement per
+     * chunk, and the update events are saved in one batch.
+     */
+    @Override
+    public List<OperationOutcome<ACCESSION, AccessionVersionsWrapper<MODEL, String, ACCESSION>>> updateAll(
+            List<AccessionWrapper<MODEL, String, ACCESSION>> objects) {
+        List<Modification> modifications = prepareModifications(objects, true);
+        for (Modification modification : modifications) {
+            if (modification.isValid()) {
+                AccessionWrapper<MODEL, String, ACCESSION> object = modification.object;
+                modification.oldVersion = modification.entities.stream()
+                        .filter(entity -> entity.getVersion() == object.getVersion()).findFirst().orElse(null);
+                if (modification.oldVersion == null) {
+                    modification.exception = new AccessionDoesNotExistException(object.getAccession().toString(),
+                                                                                 object.getVersion());
+                } else {
+                    modification.newVersion = object;
+                }
+            }
+        }
+        insertNewVersions(modifications);
+        List<ACCESSION_ENTITY> oldVersions = modifications.stream().filter(Modification::isValid)
+                .map(modification -> modification.oldVersion).collect(Collectors.toList());
+        if (!oldVersions.isEmpty()) {
+            inactiveAccessionService.updateAll(oldVersions, "Version update");
+            repository.bulkDelete(oldVersions);
+        }
+        return modifications.stream().map(Modification::toOutcome).collect(Collectors.toList());
+    }
+
+    /**
+     * Reads the versions of the accessions to modify, and rejects the modifications of accessions that are not active,
+     * that are modified more than once, or whose new hash exists already.
+     *
+     * @param readAllVersions Whether to load all the versions of the accessions, or only their last version number
+     */
+    private List<Modification> prepareModifications(List<AccessionWrapper<MODEL, String, ACCESSION>> objects,
+                                                    boolean readAllVersions) {
+        List<Modification> modifications = objects.stream().map(Modification::new).collect(Collectors.toList());
+        Set<ACCESSION> modifiedAccessions = new HashSet<>();
+        Map<String, ACCESSION> newHashes = new HashMap<>();
+        for (Modification modification : modifications) {
+            ACCESSION accession = modification.object.getAccession();
+            if (!modifiedAccessions.add(accession)) {
+                modification.exception = new IllegalArgumentException(
+                        "Accession '" + accession + "' can only be modified once per call");
+                continue;
+            }
+            ACCESSION hashAccession = newHashes.putIfAbsent(modification.object.getHash(), accession);
+            if (hashAccession != null) {
+                modification.exception = new HashAlreadyExistsException(modification.object.getHash(), hashAccession);
+            }
+        }
+        List<Modification> validModifications = modifications.stream().filter(Modification::isValid)
+                .collect(Collectors.toList());
+        for (int start = 0; start < validModifications.size(); start += ACCESSION_QUERY_CHUNK_SIZE) {
+            checkModifications(validModifications.subList(
+                    start, Math.min(start + ACCESSION_QUERY_CHUNK_SIZE, validModifications.size())), readAllVersions);
+        }
+        return modifications;
+    }
+
+    private void checkModifications(List<Modification> modifications, boolean readAllVersions) {
+        Map<ACCESSION, List<ACCESSION_ENTITY>> entitiesByAccession = new HashMap<>();
+        List<ACCESSION> accessions = modifications.stream().map(modification -> modification.object.getAccession())
+                .collect(Collectors.toList());
+        Map<ACCESSION, Integer> lastVersions;
+        if (readAllVersions) {
+            for (ACCESSION_ENTITY entity : repository.findByAccessionIn(accessions)) {
+                entitiesByAccession.computeIfAbsent(entity.getAccession(), key -> new ArrayList<>()).add(entity);
+            }
+            lastVersions = new HashMap<>();
+            entitiesByAccession.forEach((accession, entities) -> lastVersions.put(
+                    accession, filterOldVersions(entities).getVersion()));
+        } else {
+            lastVersions = repository.findLastVersions(accessions);
+        }
+        List<ACCESSION> inactiveAccessions = accessions.stream()
+                .filter(accession -> !lastVersions.containsKey(accession)).collect(Collectors.toList());
+        Map<ACCESSION, EventStatusProjection<ACCESSION>> lastEvents = inactiveAccessions.isEmpty() ?
+                Collections.emptyMap() : inactiveAccessionService.getLastEventStatuses(inactiveAccessions);
+        Map<String, ACCESSION> existingHashes = new HashMap<>();
+        findAllByHash(modifications.stream().map(modification -> modification.object.getHash())
+                              .collect(Collectors.toList()))
+                .forEach(existing -> existingHashes.put(existing.getHash(), existing.getAccession()));
+        for (Modification modification : modifications) {
+            ACCESSION accession = modification.object.getAccession();
+            modification.entities = entitiesByAccession.getOrDefault(accession, Collections.emptyList());
+            if (!lastVersions.containsKey(accession)) {
+                modification.exception = toInactiveAccessionException(accession, lastEvents.get(accession));
+            } else if (existingHashes.containsKey(modification.object.getHash())) {
+                String hash = modification.object.getHash();
+                modification.exception = new HashAlreadyExistsException(hash, existingHashes.get(hash));
+            } else {
+                modification.lastVersion = lastVersions.get(accession);
+            }
+        }
+    }
+
+    private Exception toInactiveAccessionException(ACCESSION accession, EventStatusProjection<ACCESSION> lastEvent) {
+        if (lastEvent != null) {
+            switch (lastEvent.getEventType()) {
+                case MERGED:
+                    return new AccessionMergedException(accession.toString(), lastEvent.getMergeInto().toString());
+                case DEPRECATED:
+                    return new AccessionDeprecatedException(accession.toString());
+            }
+        }
+        return new AccessionDoesNotExistException(accession.toString());
+    }
+
+    /**
+     * Inserts the new versions of the valid modifications together. The modifications whose new version could not be
+     * inserted are rejected, usually because another object with the same hash has been inserted concurrently.
+     */
+    private void insertNewVersions(List<Modification> modifications) {
+        List<Modification> validModifications = modifications.stream().filter(Modification::isValid)
+                .collect(Collectors.toList());
+        if (validModifications.isEmpty()) {
+            return;
+        }
+        SaveResponse<ACCESSION> response = repository.insert(validModifications.stream()
+                .map(modification -> toEntityFunction.apply(modification.newVersion)).collect(Collectors.toList()));
+        List<Modification> failedModifications = validModifications.stream()
+                .filter(modification -> !response.isSavedAccession(modification.object.getAccession()))
+                .collect(Collectors.toList());
+        if (failedModifications.isEmpty()) {
+            return;
+        }
+        Map<String, ACCESSION> existingHashes = new HashMap<>();
+        findAllByHash(failedModifications.stream().map(modification -> modification.object.getHash())
+                              .collect(Collectors.toList()))
+                .forEach(existing -> existingHashes.put(existing.getHash(), existing.getAccession()));
+        for (Modification modification : failedModifications) {
+            ACCESSION hashAccession = existingHashes.get(modification.object.getHash());
+            modification.exception = hashAccession != null ?
+                    new HashAlreadyExistsException(modification.object.getHash(), hashAccession) :
+                    new UnsavedAccessionException(modification.object.getAccession());
+        }
+    }
+
+    /**
+     * Modification of an accession in a bulk patch or update.
+     */
+    private class Modification {
+
+        private final AccessionWrapper<MODEL, String, ACCESSION> object;
+
+        /**
+         * Versions of the accession, or empty if only the number of its last version has been read
+         */
+        private List<ACCESSION_ENTITY> entities;
+
+        private int lastVersion;
+
+        private ACCESSION_ENTITY oldVersion;
+
+        private AccessionWrapper<MODEL, String, ACCESSION> newVersion;
+
+        private Exception exception;
+
+        Modification(AccessionWrapper<MODEL, String, ACCESSION> object) {
+            this.object = object;
+        }
+
+        boolean isValid() {
+            return exception == null;
+        }
+
+        OperationOutcome<ACCESSION, AccessionVersionsWrapper<MODEL, String, ACCESSION>> toOutcome() {
+            if (!isValid()) {
+                return OperationOutcome.failure(object.getAccession(), exception);
+            }
+            List<AccessionWrapper<MODEL, String, ACCESSION>> versions = entities.stream()
+                    .filter(entity -> entity != oldVersion).map(entity -> toModelWrapper(entity))
+                    .collect(Collectors.toList());
+            versions.add(newVersion);
+            return OperationOutcome.success(object.getAccession(), new AccessionVersionsWrapper<>(versions));
+        }
     }
 
     @Override
@@ -247,4 +605,104 @@ public class BasicSpringDataRepositoryDatabaseService<
         repository.deleteAll(accessionedElements);
     }
 
+    /**
+     * The objects of the accessions are read in chunks, the deprecation events are saved in one batch and the objects
+     * are deleted with one statement per chunk.
+     */
+    @Override
+    public List<OperationOutcome<ACCESSION, Void>> deprecateAll(List<ACCESSION> accessions, String reason) {
+        Map<ACCESSION, List<ACCESSION_ENTITY>> activeEntities = findActiveEntities(accessions);
+        Map<ACCESSION, Exception> inactiveAccessions = findInactiveAccessions(accessions, activeEntities);
+        Map<ACCESSION, List<ACCESSION_ENTITY>> deprecatedEntities = new LinkedHashMap<>();
+        List<OperationOutcome<ACCESSION, Void>> outcomes = new ArrayList<>(accessions.size());
+        for (ACCESSION accession : accessions) {
+            Exception exception = inactiveAccessions.get(accession);
+            if (exception != null) {
+                outcomes.add(OperationOutcome.failure(accession, exception));
+                continue;
+            }
+            deprecatedEntities.put(accession, activeEntities.get(accession));
+            inactiveAccessions.put(accession, new AccessionDeprecatedException(accession.toString()));
+            outcomes.add(OperationOutcome.success(accession, null));
+        }
+        if (!deprecatedEntities.isEmpty()) {
+            inactiveAccessionService.deprecateAll(deprecatedEntities, reason);
+            repository.bulkDelete(flatten(deprecatedEntities.values()));
+        }
+        return outcomes;
+    }
+
+    /**
+     * The objects of the merged accessions and of the accessions they are merged into are read in chunks, the merge
+     * events are saved in one batch and the objects are deleted with one statement per chunk. The state of the
+     * accessions merged by earlier entries of the map is tracked in memory, so that the merges are checked as if they
+     * had been applied one by one.
+     */
+    @Override
+    public List<OperationOutcome<ACCESSION, Void>> mergeAll(Map<ACCESSION, ACCESSION> merges, String reason) {
+        Set<ACCESSION> accessions = new LinkedHashSet<>(merges.keySet());
+        accessions.addAll(merges.values());
+        Map<ACCESSION, List<ACCESSION_ENTITY>> activeEntities = findActiveEntities(accessions);
+        Map<ACCESSION, Exception> inactiveAccessions = findInactiveAccessions(accessions, activeEntities);
+        Map<ACCESSION, ACCESSION> appliedMerges = new LinkedHashMap<>();
+        Map<ACCESSION, List<ACCESSION_ENTITY>> mergedEntities = new HashMap<>();
+        List<OperationOutcome<ACCESSION, Void>> outcomes = new ArrayList<>(merges.size());
+        for (Map.Entry<ACCESSION, ACCESSION> merge : merges.entrySet()) {
+            ACCESSION accession = merge.getKey();
+            Exception exception = inactiveAccessions.getOrDefault(accession, inactiveAccessions.get(merge.getValue()));
+            if (exception != null) {
+                outcomes.add(OperationOutcome.failure(accession, exception));
+                continue;
+            }
+            appliedMerges.put(accession, merge.getValue());
+            mergedEntities.put(accession, activeEntities.get(accession));
+            inactiveAccessions.put(accession, new AccessionMergedException(accession.toString(),
+                                                                           merge.getValue().toString()));
+            outcomes.add(OperationOutcome.success(accession, null));
+        }
+        if (!appliedMerges.isEmpty()) {
+            inactiveAccessionService.mergeAll(appliedMerges, mergedEntities, reason);
+            repository.bulkDelete(flatten(mergedEntities.values()));
+        }
+        return outcomes;
+    }
+
+    /**
+     * @return Objects of the accessions that are active, by accession, read with one query per chunk of accessions
+     */
+    private Map<ACCESSION, List<ACCESSION_ENTITY>> findActiveEntities(Collection<ACCESSION> accessions) {
+        List<ACCESSION> distinctAccessions = new ArrayList<>(new LinkedHashSet<>(accessions));
+        Map<ACCESSION, List<ACCESSION_ENTITY>> entitiesByAccession = new HashMap<>();
+        for (int start = 0; start < distinctAccessions.size(); start += ACCESSION_QUERY_CHUNK_SIZE) {
+            List<ACCESSION> chunk = distinctAccessions.subList(
+                    start, Math.min(start + ACCESSION_QUERY_CHUNK_SIZE, distinctAccessions.size()));
+            for (ACCESSION_ENTITY entity : repository.findByAccessionIn(chunk)) {
+                entitiesByAccession.computeIfAbsent(entity.getAccession(), key -> new ArrayList<>()).add(entity);
+            }
+        }
+        return entitiesByAccession;
+    }
+
+    /**
+     * @return Exception that explains why each accession without active objects can't be modified, by accession
+     */
+    private Map<ACCESSION, Exception> findInactiveAccessions(Collection<ACCESSION> accessions,
+                                                             Map<ACCESSION, List<ACCESSION_ENTITY>> activeEntities) {
+        Set<ACCESSION> inactiveAccessions = accessions.stream()
+                .filter(accession -> !activeEntities.containsKey(accession)).collect(Collectors.toSet());
+        Map<ACCESSION, Exception> exceptions = new HashMap<>();
+        if (!inactiveAccessions.isEmpty()) {
+            Map<ACCESSION, EventStatusProjection<ACCESSION>> lastEvents =
+                    inactiveAccessionService.getLastEventStatuses(inactiveAccessions);
+            for (ACCESSION accession : inactiveAccessions) {
+                exceptions.put(accession, toInactiveAccessionException(accession, lastEvents.get(accession)));
+            }
+        }
+        return exceptions;
+    }
+
+    private List<ACCESSION_ENTITY> flatten(Collection<List<ACCESSION_ENTITY>> entities) {
+        return entities.stream().flatMap(List::stream).collect(Collectors.toList());
+    }
+
 }
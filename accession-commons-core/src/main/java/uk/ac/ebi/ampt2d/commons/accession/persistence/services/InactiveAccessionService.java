@@ -20,11 +20,13 @@ package uk.ac.ebi.ampt2d.commons.accession.persistence.services;
 import org.springframework.transaction.annotation.Transactional;
 import uk.ac.ebi.ampt2d.commons.accession.core.models.EventType;
 import uk.ac.ebi.ampt2d.commons.accession.core.models.IEvent;
+import uk.ac.ebi.ampt2d.commons.accession.persistence.models.EventStatusProjection;
 import uk.ac.ebi.ampt2d.commons.accession.persistence.models.IAccessionedObject;
 
 import java.io.Serializable;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface InactiveAccessionService<
@@ -38,16 +40,63 @@ public interface InactiveAccessionService<
     @Transactional
     void patch(ACCESSION accession, String reason);
 
+    /**
+     * Saves the update events of several objects in one batch. The default implementation saves them one by one.
+     */
+    @Transactional
+    default void updateAll(Collection<ACCESSION_ENTITY> entities, String reason) {
+        entities.forEach(entity -> update(entity, reason));
+    }
+
+    /**
+     * Saves the patch events of several accessions in one batch. The default implementation saves them one by one.
+     */
+    @Transactional
+    default void patchAll(Collection<ACCESSION> accessions, String reason) {
+        accessions.forEach(accession -> patch(accession, reason));
+    }
+
     @Transactional
     void deprecate(ACCESSION accession, Collection<ACCESSION_ENTITY> entities, String reason);
 
     @Transactional
     void merge(ACCESSION accessionOrigin, ACCESSION accession, List<ACCESSION_ENTITY> entities, String reason);
 
+    /**
+     * Saves the deprecation events of several accessions in one batch. The default implementation saves them one by
+     * one.
+     *
+     * @param entities Objects of each deprecated accession, by accession
+     */
+    @Transactional
+    default void deprecateAll(Map<ACCESSION, List<ACCESSION_ENTITY>> entities, String reason) {
+        entities.forEach((accession, accessionEntities) -> deprecate(accession, accessionEntities, reason));
+    }
+
+    /**
+     * Saves the merge events of several accessions in one batch. The default implementation saves them one by one.
+     *
+     * @param merges Accession each one is merged into, by merged accession
+     * @param entities Objects of each merged accession, by accession
+     */
+    @Transactional
+    default void mergeAll(Map<ACCESSION, ACCESSION> merges, Map<ACCESSION, List<ACCESSION_ENTITY>> entities,
+                          String reason) {
+        merges.forEach((accession, mergeInto) -> merge(accession, mergeInto, entities.get(accession), reason));
+    }
+
     Optional<EventType> getLastEventType(ACCESSION accession);
 
     IEvent<MODEL, ACCESSION> getLastEvent(ACCESSION accession);
 
+    /**
+     * Finds the last event of each accession, without loading the inactive objects of the events.
+     *
+     * @param accessions Accessions whose last event is requested
+     * @return Last event type and merge/split target indexed by accession. Accessions without events are not included
+     */
+    Map<ACCESSION, EventStatusProjection<ACCESSION>> getLastEventStatuses(Collection<ACCESSION> accessions);
+
     List<? extends IEvent<MODEL, ACCESSION>> getEvents(ACCESSION accession);
 
     List<? extends IEvent<MODEL, ACCESSION>> getAllEventsInvolvedIn(ACCESSION accession);
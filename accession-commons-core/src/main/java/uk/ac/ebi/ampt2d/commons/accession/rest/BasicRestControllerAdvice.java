@@ -20,6 +20,7 @@ package uk.ac.ebi.ampt2d.commons.accession.rest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -35,6 +36,7 @@ import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionDeprecatedExc
 import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionDoesNotExistException;
 import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionIsNotPendingException;
 import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionMergedException;
+import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessioningOverloadedException;
 import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.HashAlreadyExistsException;
 import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.MissingUnsavedAccessionsException;
 import uk.ac.ebi.ampt2d.commons.accession.rest.controllers.BasicRestController;
@@ -130,6 +132,14 @@ public class BasicRestControllerAdvice {
         return buildResponseEntity(HttpStatus.GONE, ex, "This accession has been deprecated");
     }
 
+    @ExceptionHandler(value = AccessioningOverloadedException.class)
+    public ResponseEntity<ErrorMessage> handleOverloadErrors(AccessioningOverloadedException ex) {
+        logger.warn(ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                             .header(HttpHeaders.RETRY_AFTER, Long.toString(ex.getRetryAfterSeconds()))
+                             .body(new ErrorMessage(HttpStatus.SERVICE_UNAVAILABLE, ex, ex.getMessage()));
+    }
+
     @ExceptionHandler(value = {IllegalArgumentException.class})
     public ResponseEntity<ErrorMessage> handleIllegalArgumentErrors(Exception ex) {
         return buildResponseEntity(HttpStatus.BAD_REQUEST, ex, ex.getMessage());
@@ -29,12 +29,15 @@ import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionDeprecatedExc
 import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionDoesNotExistException;
 import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionMergedException;
 import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.HashAlreadyExistsException;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.OperationOutcome;
 import uk.ac.ebi.ampt2d.commons.accession.rest.dto.AccessionResponseDTO;
 import uk.ac.ebi.ampt2d.commons.accession.rest.dto.AccessionVersionsResponseDTO;
-import uk.ac.ebi.ampt2d.commons.accession.rest.dto.GetOrCreateAccessionResponseDTO;
+import uk.ac.ebi.ampt2d.commons.accession.rest.dto.GetOrCreateAccessionsResponseDTO;
+import uk.ac.ebi.ampt2d.commons.accession.rest.dto.OperationOutcomeResponseDTO;
 
 import javax.validation.Valid;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -57,14 +60,16 @@ public class BasicRestController<DTO extends MODEL, MODEL, HASH, ACCESSION> {
         return modelToDTO;
     }
 
+    /**
+     * The batch result is serialized as it is, without creating a response object per accession.
+     */
     @RequestMapping(value = "/{applicationInstanceId}", method = RequestMethod.POST, produces = "application/json",
             consumes = "application/json")
-    public List<GetOrCreateAccessionResponseDTO<DTO, MODEL, HASH, ACCESSION>> generateAccessions(
+    public GetOrCreateAccessionsResponseDTO<DTO, MODEL, HASH, ACCESSION> generateAccessions(
             @PathVariable String applicationInstanceId, @RequestBody @Valid List<DTO> dtos)
             throws AccessionCouldNotBeGeneratedException {
-        return service.getOrCreate(dtos, applicationInstanceId).stream()
-                .map(accessionModel -> new GetOrCreateAccessionResponseDTO<>(accessionModel, modelToDTO))
-                .collect(Collectors.toList());
+        return new GetOrCreateAccessionsResponseDTO<>(service.getOrCreateBatch(dtos, applicationInstanceId),
+                                                      modelToDTO);
     }
 
     @RequestMapping(value = "/{accession}", method = RequestMethod.GET, produces = "application/json")
@@ -115,4 +120,35 @@ public class BasicRestController<DTO extends MODEL, MODEL, HASH, ACCESSION> {
         service.merge(accessionOrigin, mergeInto, reason);
     }
 
+    /**
+     * Deprecates several accessions. Accessions that can't be deprecated are reported in the response and don't
+     * prevent the deprecation of the others.
+     */
+    @RequestMapping(value = "/bulk/deprecate", method = RequestMethod.POST, produces = "application/json",
+            consumes = "application/json")
+    public List<OperationOutcomeResponseDTO<ACCESSION>> deprecateAll(
+            @RequestBody List<ACCESSION> accessions,
+            @RequestParam(required = false, defaultValue = "Deprecated") String reason) {
+        return toResponse(service.deprecateAll(accessions, reason));
+    }
+
+    /**
+     * Merges several accessions, provided as a map from each accession to the one it is merged into. Merges that
+     * can't be applied are reported in the response and don't prevent the others.
+     */
+    @RequestMapping(value = "/bulk/merge", method = RequestMethod.POST, produces = "application/json",
+            consumes = "application/json")
+    public List<OperationOutcomeResponseDTO<ACCESSION>> mergeAll(
+            @RequestBody Map<ACCESSION, ACCESSION> merges,
+            @RequestParam(name = "reason", required = false, defaultValue = "Merge") String reason)
+            throws IllegalArgumentException {
+        merges.forEach((accessionOrigin, mergeInto) ->
+                               Assert.isTrue(!accessionOrigin.equals(mergeInto), "Accessions cannot be self merged"));
+        return toResponse(service.mergeAll(merges, reason));
+    }
+
+    private List<OperationOutcomeResponseDTO<ACCESSION>> toResponse(List<OperationOutcome<ACCESSION, Void>> outcomes) {
+        return outcomes.stream().map(OperationOutcomeResponseDTO::new).collect(Collectors.toList());
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,86 @@
+/*
+ *
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.ebi.ampt2d.commons.accession.rest.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionBatchResult;
+
+import java.io.IOException;
+import java.util.function.Function;
+
+/**
+ * Response of a get or create operation on a batch of objects. It is serialized as the list of
+ * {@link GetOrCreateAccessionResponseDTO} of the batch, but it is written straight from the
+ * {@link AccessionBatchResult} without creating a response object per accession.
+ *
+ * @param <DTO> Data Transfer Object accession model
+ * @param <MODEL> Type of the objects identified by the accessions
+ * @param <HASH> Type of the hash calculated based on the fields that uniquely identify an accessioned object
+ * @param <ACCESSION> Type of the accession that identifies an object of a particular model
+ */
+@JsonSerialize(using = GetOrCreateAccessionsResponseDTO.Serializer.class)
+public class GetOrCreateAccessionsResponseDTO<DTO, MODEL, HASH, ACCESSION> {
+
+    private final AccessionBatchResult<MODEL, HASH, ACCESSION> batchResult;
+
+    private final Function<MODEL, DTO> modelToDto;
+
+    public GetOrCreateAccessionsResponseDTO(AccessionBatchResult<MODEL, HASH, ACCESSION> batchResult,
+                                            Function<MODEL, DTO> modelToDto) {
+        this.batchResult = batchResult;
+        this.modelToDto = modelToDto;
+    }
+
+    public AccessionBatchResult<MODEL, HASH, ACCESSION> getBatchResult() {
+        return batchResult;
+    }
+
+    public Function<MODEL, DTO> getModelToDto() {
+        return modelToDto;
+    }
+
+    public static class Serializer extends JsonSerializer<GetOrCreateAccessionsResponseDTO<?, ?, ?, ?>> {
+
+        @Override
+        public void serialize(GetOrCreateAccessionsResponseDTO<?, ?, ?, ?> response, JsonGenerator generator,
+                              SerializerProvider provider) throws IOException {
+            serializeBatch(response, generator, provider);
+        }
+
+        private <DTO, MODEL, HASH, ACCESSION> void serializeBatch(
+                GetOrCreateAccessionsResponseDTO<DTO, MODEL, HASH, ACCESSION> response, JsonGenerator generator,
+                SerializerProvider provider) throws IOException {
+            AccessionBatchResult<MODEL, HASH, ACCESSION> batchResult = response.getBatchResult();
+            generator.writeStartArray();
+            for (int i = 0; i < batchResult.size(); i++) {
+                generator.writeStartObject();
+                provider.defaultSerializeField("accession", batchResult.getAccession(i), generator);
+                generator.writeNumberField("version", batchResult.getVersion(i));
+                provider.defaultSerializeField("data", response.getModelToDto().apply(batchResult.getData(i)),
+                                               generator);
+                generator.writeBooleanField("newAccession", batchResult.isNewAccession(i));
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+        }
+    }
+
+}
@@ -0,0 +1,68 @@
+/*
+ *
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.ebi.ampt2d.commons.accession.rest.dto;
+
+import uk.ac.ebi.ampt2d.commons.accession.core.models.OperationOutcome;
+
+/**
+ * Response with the outcome of the operation on one accession of a bulk operation that has no result, such as a
+ * deprecation or a merge. To be used at the REST API layer.
+ *
+ * @param <ACCESSION> Type of the accession that identifies an object of a particular model
+ */
+public class OperationOutcomeResponseDTO<ACCESSION> {
+
+    private ACCESSION accession;
+
+    private boolean successful;
+
+    private String exception;
+
+    private String message;
+
+    OperationOutcomeResponseDTO() {
+    }
+
+    public OperationOutcomeResponseDTO(OperationOutcome<ACCESSION, ?> outcome) {
+        this.accession = outcome.getAccession();
+        this.successful = outcome.isSuccessful();
+        if (!successful) {
+            this.exception = outcome.getException().getClass().getCanonicalName();
+            this.message = outcome.getException().getMessage();
+        }
+    }
+
+    public ACCESSION getAccession() {
+        return accession;
+    }
+
+    public boolean isSuccessful() {
+        return successful;
+    }
+
+    /**
+     * @return Class of the exception that prevented the operation, or null if it succeeded
+     */
+    public String getException() {
+        return exception;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
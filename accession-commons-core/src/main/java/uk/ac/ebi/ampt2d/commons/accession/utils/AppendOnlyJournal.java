@@ -0,0 +1,313 @@
+/*
+ *
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.ebi.ampt2d.commons.accession.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only log of records stored in a directory as a sequence of segment files. Records are only appended to the
+ * last segment, which is replaced by a new one when it grows over the maximum segment size. Segments that are no
+ * longer needed are deleted by the caller with {@link #deleteSegmentsBefore(long)}.
+ * <p>
+ * Every record is written with its length and checksum, so a record left half written by a crash is detected and
+ * ignored when the journal is read again. Appended records are made durable with {@link #sync()}; concurrent calls
+ * share a single fsync of the segment.
+ */
+public class AppendOnlyJournal implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(AppendOnlyJournal.class);
+
+    private static final String SEGMENT_PREFIX = "journal-";
+
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private static final String LOCK_FILE = "journal.lock";
+
+    private static final int RECORD_HEADER_SIZE = Integer.BYTES + Long.BYTES;
+
+    @FunctionalInterface
+    public interface RecordConsumer {
+
+        void accept(long segment, byte[] record) throws IOException;
+
+    }
+
+    private final Path directory;
+
+    private final long maxSegmentSize;
+
+    /**
+     * Segments written before this instance was opened, which are only read.
+     */
+    private final TreeMap<Long, Path> previousSegments;
+
+    private final FileChannel lockChannel;
+
+    private final Object syncLock = new Object();
+
+    /**
+     * Oldest segment written by this instance that has not been deleted.
+     */
+    private long oldestSegment;
+
+    private long currentSegment;
+
+    private FileChannel channel;
+
+    private long currentSegmentSize;
+
+    private long writtenBytes;
+
+    private long syncedBytes;
+
+    /**
+     * Opens the journal of the directory, which is created if it does not exist. New records are written to a new
+     * segment, so the segments of previous instances are never modified. The directory is locked until the journal is
+     * closed.
+     *
+     * @param maxSegmentSize Size in bytes after which a new segment is started
+     * @throws IOException if the directory is being used by another journal
+     */
+    public AppendOnlyJournal(Path directory, long maxSegmentSize) throws IOException {
+        if (maxSegmentSize < 1) {
+            throw new IllegalArgumentException("The maximum segment size must be greater than zero");
+        }
+        this.directory = Files.createDirectories(directory);
+        this.maxSegmentSize = maxSegmentSize;
+        this.lockChannel = lockDirectory(directory);
+        this.previousSegments = new TreeMap<>();
+        try {
+            try (DirectoryStream<Path> segments = Files.newDirectoryStream(directory,
+                                                                           SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+                for (Path segment : segments) {
+                    previousSegments.put(getSegmentNumber(segment), segment);
+                }
+            }
+            oldestSegment = previousSegments.isEmpty() ? 0 : previousSegments.lastKey() + 1;
+            openSegment(oldestSegment);
+        } catch (IOException e) {
+            lockChannel.close();
+            throw e;
+        }
+    }
+
+    private static FileChannel lockDirectory(Path directory) throws IOException {
+        FileChannel lockChannel = FileChannel.open(directory.resolve(LOCK_FILE), StandardOpenOption.CREATE,
+                                                   StandardOpenOption.WRITE);
+        FileLock lock;
+        try {
+            lock = lockChannel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            lock = null;
+        }
+        if (lock == null) {
+            lockChannel.close();
+            throw new IOException("Journal directory " + directory + " is used by another journal");
+        }
+        return lockChannel;
+    }
+
+    private static long getSegmentNumber(Path segment) {
+        String fileName = segment.getFileName().toString();
+        return Long.parseLong(fileName.substring(SEGMENT_PREFIX.length(),
+                                                 fileName.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private Path getSegmentPath(long segment) {
+        return directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, segment, SEGMENT_SUFFIX));
+    }
+
+    private void openSegment(long segment) throws IOException {
+        currentSegment = segment;
+        currentSegmentSize = 0;
+        channel = FileChannel.open(getSegmentPath(segment), StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+    }
+
+    /**
+     * Reads the records of the segments written before this instance was opened, in the order they were appended.
+     * The records after a corrupt or half written one are skipped, as well as the rest of its segment.
+     */
+    public void replay(RecordConsumer consumer) throws IOException {
+        List<Path> segments;
+        synchronized (this) {
+            segments = new ArrayList<>(previousSegments.values());
+        }
+        for (Path segment : segments) {
+            if (Files.exists(segment)) {
+                replaySegment(getSegmentNumber(segment), ByteBuffer.wrap(Files.readAllBytes(segment)), consumer);
+            }
+        }
+    }
+
+    private void replaySegment(long segment, ByteBuffer buffer, RecordConsumer consumer) throws IOException {
+        while (buffer.remaining() >= RECORD_HEADER_SIZE) {
+            int length = buffer.getInt();
+            long checksum = buffer.getLong();
+            if (length < 0 || length > buffer.remaining()) {
+                logger.warn("Journal segment {} ends with an incomplete record", segment);
+                return;
+            }
+            byte[] record = new byte[length];
+            buffer.get(record);
+            if (checksum(record) != checksum) {
+                logger.warn("Journal segment {} has a corrupt record, the rest of the segment is skipped", segment);
+                return;
+            }
+            consumer.accept(segment, record);
+        }
+        if (buffer.hasRemaining()) {
+            logger.warn("Journal segment {} ends with an incomplete record", segment);
+        }
+    }
+
+    private static long checksum(byte[] record) {
+        CRC32 crc = new CRC32();
+        crc.update(record, 0, record.length);
+        return crc.getValue();
+    }
+
+    /**
+     * Appends the records to the current segment. They are not durable until {@link #sync()} has been called.
+     *
+     * @return Segment the records have been written to
+     */
+    public synchronized long append(List<byte[]> records) throws IOException {
+        int size = 0;
+        for (byte[] record : records) {
+            size += RECORD_HEADER_SIZE + record.length;
+        }
+        if (currentSegmentSize > 0 && currentSegmentSize + size > maxSegmentSize) {
+            rollSegment();
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        for (byte[] record : records) {
+            buffer.putInt(record.length);
+            buffer.putLong(checksum(record));
+            buffer.put(record);
+        }
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            // Remove the partial write, otherwise the records appended afterwards could not be replayed
+            try {
+                channel.truncate(currentSegmentSize);
+                channel.position(currentSegmentSize);
+            } catch (IOException truncateException) {
+                e.addSuppressed(truncateException);
+            }
+            throw e;
+        }
+        currentSegmentSize += size;
+        writtenBytes += size;
+        return currentSegment;
+    }
+
+    /**
+     * The records of the previous segment are made durable before it is closed.
+     */
+    private void rollSegment() throws IOException {
+        channel.force(false);
+        channel.close();
+        openSegment(currentSegment + 1);
+    }
+
+    /**
+     * Makes durable all the records appended before this call. If another thread is already syncing the journal,
+     * this call waits for it and only syncs again if its records were appended after that sync started.
+     */
+    public void sync() throws IOException {
+        long bytesToSync;
+        synchronized (this) {
+            bytesToSync = writtenBytes;
+        }
+        synchronized (syncLock) {
+            if (syncedBytes >= bytesToSync) {
+                return;
+            }
+            FileChannel channelToSync;
+            long bytesSynced;
+            synchronized (this) {
+                channelToSync = channel;
+                bytesSynced = writtenBytes;
+            }
+            try {
+                channelToSync.force(false);
+            } catch (ClosedChannelException e) {
+                // The segment has been rolled, and its records were made durable before closing it
+            }
+            syncedBytes = bytesSynced;
+        }
+    }
+
+    public synchronized long getCurrentSegment() {
+        return currentSegment;
+    }
+
+    /**
+     * Deletes the segments older than the provided one. The current segment is never deleted.
+     */
+    public void deleteSegmentsBefore(long segment) throws IOException {
+        List<Path> segmentsToDelete = new ArrayList<>();
+        synchronized (this) {
+            long lastSegmentToDelete = Math.min(segment, currentSegment) - 1;
+            Map<Long, Path> previousSegmentsToDelete = previousSegments.headMap(lastSegmentToDelete, true);
+            segmentsToDelete.addAll(previousSegmentsToDelete.values());
+            previousSegmentsToDelete.clear();
+            for (; oldestSegment <= lastSegmentToDelete; oldestSegment++) {
+                segmentsToDelete.add(getSegmentPath(oldestSegment));
+            }
+        }
+        for (Path path : segmentsToDelete) {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            if (channel.isOpen()) {
+                channel.force(false);
+                channel.close();
+            }
+        } finally {
+            lockChannel.close();
+        }
+    }
+
+}
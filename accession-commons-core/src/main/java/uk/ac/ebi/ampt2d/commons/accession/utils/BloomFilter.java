@@ -0,0 +1,191 @@
+/*
+ *
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.ebi.ampt2d.commons.accession.utils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Probabilistic set of elements that can tell that an element has definitely not been added, or that it might have
+ * been added. The elements are identified by their {@link Object#toString()} representation. Elements can be added
+ * and queried concurrently.
+ *
+ * @param <T> Type of the elements
+ */
+public class BloomFilter<T> {
+
+    private static final int FORMAT_VERSION = 1;
+
+    private final AtomicLongArray bits;
+
+    private final long numberOfBits;
+
+    private final int numberOfHashFunctions;
+
+    private BloomFilter(AtomicLongArray bits, int numberOfHashFunctions) {
+        this.bits = bits;
+        this.numberOfBits = (long) bits.length() * Long.SIZE;
+        this.numberOfHashFunctions = numberOfHashFunctions;
+    }
+
+    /**
+     * @param expectedElements Number of elements expected to be added to the filter
+     * @param falsePositiveProbability Expected probability of {@link #mightContain(Object)} returning true for an
+     *                                 element that has not been added, once the expected elements have been added
+     */
+    public static <T> BloomFilter<T> create(long expectedElements, double falsePositiveProbability) {
+        if (expectedElements < 1) {
+            throw new IllegalArgumentException("The number of expected elements must be greater than zero");
+        }
+        if (falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+            throw new IllegalArgumentException("The false positive probability must be between 0 and 1");
+        }
+        long numberOfBits = (long) Math.ceil(
+                -expectedElements * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+        long numberOfWords = (numberOfBits + Long.SIZE - 1) / Long.SIZE;
+        if (numberOfWords > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("The filter is too big for " + expectedElements + " elements");
+        }
+        int numberOfHashFunctions = Math.max(1, (int) Math.round((double) numberOfBits / expectedElements
+                                                                         * Math.log(2)));
+        return new BloomFilter<>(new AtomicLongArray((int) numberOfWords), numberOfHashFunctions);
+    }
+
+    public void put(T element) {
+        long hash = hash(element);
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32);
+        for (int i = 1; i <= numberOfHashFunctions; i++) {
+            setBit(bitIndex(hash1, hash2, i));
+        }
+    }
+
+    /**
+     * @return false if the element has definitely not been added to the filter, true if it might have been added
+     */
+    public boolean mightContain(T element) {
+        long hash = hash(element);
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32);
+        for (int i = 1; i <= numberOfHashFunctions; i++) {
+            if (!isBitSet(bitIndex(hash1, hash2, i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long bitIndex(int hash1, int hash2, int i) {
+        long combinedHash = hash1 + (long) i * hash2;
+        return (combinedHash & Long.MAX_VALUE) % numberOfBits;
+    }
+
+    private void setBit(long bitIndex) {
+        int wordIndex = (int) (bitIndex >>> 6);
+        long mask = 1L << bitIndex;
+        long word;
+        do {
+            word = bits.get(wordIndex);
+            if ((word & mask) != 0) {
+                return;
+            }
+        } while (!bits.compareAndSet(wordIndex, word, word | mask));
+    }
+
+    private boolean isBitSet(long bitIndex) {
+        return (bits.get((int) (bitIndex >>> 6)) & (1L << bitIndex)) != 0;
+    }
+
+    /**
+     * 64-bit FNV-1a of the characters of the element, followed by the MurmurHash3 finalizer to spread the bits.
+     */
+    private static long hash(Object element) {
+        String value = element.toString();
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    public long getNumberOfBits() {
+        return numberOfBits;
+    }
+
+    public int getNumberOfHashFunctions() {
+        return numberOfHashFunctions;
+    }
+
+    public void writeTo(OutputStream outputStream) throws IOException {
+        DataOutputStream dataOutputStream = new DataOutputStream(new BufferedOutputStream(outputStream));
+        dataOutputStream.writeInt(FORMAT_VERSION);
+        dataOutputStream.writeInt(numberOfHashFunctions);
+        dataOutputStream.writeInt(bits.length());
+        for (int i = 0; i < bits.length(); i++) {
+            dataOutputStream.writeLong(bits.get(i));
+        }
+        dataOutputStream.flush();
+    }
+
+    public static <T> BloomFilter<T> readFrom(InputStream inputStream) throws IOException {
+        DataInputStream dataInputStream = new DataInputStream(new BufferedInputStream(inputStream));
+        int formatVersion = dataInputStream.readInt();
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IOException("Unsupported bloom filter format version " + formatVersion);
+        }
+        int numberOfHashFunctions = dataInputStream.readInt();
+        AtomicLongArray bits = new AtomicLongArray(dataInputStream.readInt());
+        for (int i = 0; i < bits.length(); i++) {
+            bits.set(i, dataInputStream.readLong());
+        }
+        return new BloomFilter<>(bits, numberOfHashFunctions);
+    }
+
+    /**
+     * Writes the filter to a temporary file that then replaces the given file, so a previously saved filter is never
+     * left half written.
+     */
+    public void save(Path path) throws IOException {
+        Path temporaryPath = path.resolveSibling(path.getFileName() + ".tmp");
+        try (OutputStream outputStream = Files.newOutputStream(temporaryPath)) {
+            writeTo(outputStream);
+        }
+        Files.move(temporaryPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public static <T> BloomFilter<T> load(Path path) throws IOException {
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            return readFrom(inputStream);
+        }
+    }
+}
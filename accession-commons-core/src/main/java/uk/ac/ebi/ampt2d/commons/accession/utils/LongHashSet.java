@@ -0,0 +1,217 @@
+/*
+ *
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.ebi.ampt2d.commons.accession.utils;
+
+import java.util.Arrays;
+
+/**
+ * Set of primitive long values, implemented as an open addressing hash table with linear probing, so that the values
+ * are not boxed. This class is not thread safe.
+ */
+public class LongHashSet {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    /**
+     * Empty slots are marked with zero, so zero itself is tracked separately.
+     */
+    private long[] values;
+
+    private boolean containsZero;
+
+    private int size;
+
+    private int mask;
+
+    public LongHashSet() {
+        this(MIN_CAPACITY / 2);
+    }
+
+    /**
+     * @param expectedSize Number of values that can be added before the table needs to grow
+     */
+    public LongHashSet(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("The expected size can't be negative");
+        }
+        allocate(capacityFor(expectedSize));
+    }
+
+    private static int capacityFor(int expectedSize) {
+        // Keep the load factor at or below one half
+        long capacity = Long.highestOneBit(Math.max(MIN_CAPACITY, 2L * expectedSize) - 1) << 1;
+        if (capacity > 1 << 30) {
+            throw new IllegalArgumentException("Too many values for a LongHashSet: " + expectedSize);
+        }
+        return (int) capacity;
+    }
+
+    private void allocate(int capacity) {
+        values = new long[capacity];
+        mask = capacity - 1;
+    }
+
+    private int slot(long value) {
+        long hash = value * HASH_MULTIPLIER;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    /**
+     * @return true if the value was not already in the set
+     */
+    public boolean add(long value) {
+        if (value == 0) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            size++;
+            return true;
+        }
+        int slot = slot(value);
+        while (values[slot] != 0) {
+            if (values[slot] == value) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        values[slot] = value;
+        size++;
+        if (2 * size > values.length) {
+            rehash(values.length << 1);
+        }
+        return true;
+    }
+
+    public void addAll(long... values) {
+        for (long value : values) {
+            add(value);
+        }
+    }
+
+    public boolean contains(long value) {
+        if (value == 0) {
+            return containsZero;
+        }
+        int slot = slot(value);
+        while (values[slot] != 0) {
+            if (values[slot] == value) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * @return true if the value was in the set
+     */
+    public boolean remove(long value) {
+        if (value == 0) {
+            if (!containsZero) {
+                return false;
+            }
+            containsZero = false;
+            size--;
+            return true;
+        }
+        int slot = slot(value);
+        while (values[slot] != value) {
+            if (values[slot] == 0) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        shiftBack(slot);
+        size--;
+        return true;
+    }
+
+    public void removeAll(long... values) {
+        for (long value : values) {
+            remove(value);
+        }
+    }
+
+    /**
+     * Fills the emptied slot with the next values of the probe sequence that would not be found otherwise.
+     */
+    private void shiftBack(int emptySlot) {
+        int slot = (emptySlot + 1) & mask;
+        while (values[slot] != 0) {
+            int idealSlot = slot(values[slot]);
+            boolean probeStartsAfterEmptySlot = emptySlot <= slot
+                    ? emptySlot < idealSlot && idealSlot <= slot
+                    : emptySlot < idealSlot || idealSlot <= slot;
+            if (!probeStartsAfterEmptySlot) {
+                values[emptySlot] = values[slot];
+                emptySlot = slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        values[emptySlot] = 0;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldValues = values;
+        allocate(capacity);
+        for (long value : oldValues) {
+            if (value != 0) {
+                int slot = slot(value);
+                while (values[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                values[slot] = value;
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(values, 0);
+        containsZero = false;
+        size = 0;
+    }
+
+    /**
+     * @return The values of the set, in no particular order
+     */
+    public long[] toArray() {
+        long[] array = new long[size];
+        int i = 0;
+        if (containsZero) {
+            array[i++] = 0;
+        }
+        for (long value : values) {
+            if (value != 0) {
+                array[i++] = value;
+            }
+        }
+        return array;
+    }
+
+}
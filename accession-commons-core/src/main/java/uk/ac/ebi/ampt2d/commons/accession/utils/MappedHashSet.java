@@ -0,0 +1,330 @@
+/*
+ *
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.ebi.ampt2d.commons.accession.utils;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Set of elements stored outside the heap, so that the number of elements is bounded by the disk space instead of the
+ * heap size. The elements are identified by their {@link Object#toString()} representation.
+ * <p>
+ * The set is an open addressing hash table with linear probing, held in a memory-mapped file. Each slot stores a
+ * 64-bit fingerprint of the element and the position of the element in a second file, where the elements are
+ * appended. Elements with the same fingerprint are compared with the stored ones, so fingerprint collisions never
+ * drop an element. The files are created in the given directory and deleted when the set is closed.
+ * This class is not thread safe.
+ *
+ * @param <T> Type of the elements
+ */
+public class MappedHashSet<T> implements Closeable {
+
+    private static final long MIN_CAPACITY = 1024;
+
+    /**
+     * A slot stores the fingerprint of the element and the position of the element in the elements file. Empty slots
+     * have a zero fingerprint.
+     */
+    private static final int SLOT_SIZE = 2 * Long.BYTES;
+
+    private static final int SLOTS_PER_REGION_BITS = 26;
+
+    private static final long SLOTS_PER_REGION = 1L << SLOTS_PER_REGION_BITS;
+
+    private static final int ELEMENT_BUFFER_SIZE = 1 << 20;
+
+    private final Path directory;
+
+    private final Path elementsPath;
+
+    private final FileChannel elementsChannel;
+
+    /**
+     * Elements appended but not yet written to the elements file.
+     */
+    private final ByteBuffer elementBuffer;
+
+    private ByteBuffer readBuffer;
+
+    private long elementsFileSize;
+
+    private Path tablePath;
+
+    private FileChannel tableChannel;
+
+    private MappedByteBuffer[] regions;
+
+    private long capacity;
+
+    private long size;
+
+    /**
+     * @param directory        Directory where the files of the set are created
+     * @param expectedElements Number of elements that can be added before the table needs to grow
+     */
+    public MappedHashSet(Path directory, long expectedElements) throws IOException {
+        if (expectedElements < 0) {
+            throw new IllegalArgumentException("The expected number of elements can't be negative");
+        }
+        this.directory = directory;
+        this.elementsPath = Files.createTempFile(directory, "hash-set-elements-", ".bin");
+        this.elementsChannel = FileChannel.open(elementsPath, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.elementBuffer = ByteBuffer.allocateDirect(ELEMENT_BUFFER_SIZE);
+        this.readBuffer = ByteBuffer.allocate(256);
+        try {
+            allocateTable(capacityFor(expectedElements));
+        } catch (IOException | RuntimeException e) {
+            elementsChannel.close();
+            Files.deleteIfExists(elementsPath);
+            throw e;
+        }
+    }
+
+    private static long capacityFor(long expectedElements) {
+        // Keep the load factor at or below one half
+        return Long.highestOneBit(Math.max(MIN_CAPACITY, 2 * expectedElements) - 1) << 1;
+    }
+
+    private void allocateTable(long capacity) throws IOException {
+        Path tablePath = Files.createTempFile(directory, "hash-set-table-", ".bin");
+        FileChannel tableChannel = FileChannel.open(tablePath, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            long regionSlots = Math.min(capacity, SLOTS_PER_REGION);
+            MappedByteBuffer[] regions = new MappedByteBuffer[(int) (capacity / regionSlots)];
+            for (int i = 0; i < regions.length; i++) {
+                regions[i] = tableChannel.map(FileChannel.MapMode.READ_WRITE, i * regionSlots * SLOT_SIZE,
+                                              regionSlots * SLOT_SIZE);
+            }
+            this.tablePath = tablePath;
+            this.tableChannel = tableChannel;
+            this.regions = regions;
+            this.capacity = capacity;
+        } catch (IOException | RuntimeException e) {
+            tableChannel.close();
+            Files.deleteIfExists(tablePath);
+            throw e;
+        }
+    }
+
+    /**
+     * @return true if the element was not already in the set
+     */
+    public boolean add(T element) throws IOException {
+        byte[] bytes = toBytes(element);
+        long fingerprint = fingerprint(bytes);
+        long slot = findSlot(fingerprint, bytes);
+        if (getFingerprint(slot) != 0) {
+            return false;
+        }
+        if (size + 1 > capacity / 2) {
+            grow();
+            slot = findSlot(fingerprint, bytes);
+        }
+        setSlot(slot, fingerprint, appendElement(bytes));
+        size++;
+        return true;
+    }
+
+    public boolean contains(T element) throws IOException {
+        byte[] bytes = toBytes(element);
+        return getFingerprint(findSlot(fingerprint(bytes), bytes)) != 0;
+    }
+
+    public long size() {
+        return size;
+    }
+
+    /**
+     * @return The slot that contains the element, or the empty slot where it should be added
+     */
+    private long findSlot(long fingerprint, byte[] bytes) throws IOException {
+        long mask = capacity - 1;
+        long slot = fingerprint & mask;
+        long slotFingerprint;
+        while ((slotFingerprint = getFingerprint(slot)) != 0) {
+            if (slotFingerprint == fingerprint && elementEquals(getPosition(slot), bytes)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void grow() throws IOException {
+        Path oldTablePath = tablePath;
+        FileChannel oldTableChannel = tableChannel;
+        MappedByteBuffer[] oldRegions = regions;
+        long oldCapacity = capacity;
+        allocateTable(capacity * 2);
+        long mask = capacity - 1;
+        for (long oldSlot = 0; oldSlot < oldCapacity; oldSlot++) {
+            ByteBuffer oldRegion = oldRegions[(int) (oldSlot >>> SLOTS_PER_REGION_BITS)];
+            int offset = (int) (oldSlot & (SLOTS_PER_REGION - 1)) * SLOT_SIZE;
+            long fingerprint = oldRegion.getLong(offset);
+            if (fingerprint != 0) {
+                long slot = fingerprint & mask;
+                while (getFingerprint(slot) != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                setSlot(slot, fingerprint, oldRegion.getLong(offset + Long.BYTES));
+            }
+        }
+        oldTableChannel.close();
+        Files.deleteIfExists(oldTablePath);
+    }
+
+    private ByteBuffer region(long slot) {
+        return regions[(int) (slot >>> SLOTS_PER_REGION_BITS)];
+    }
+
+    private static int offset(long slot) {
+        return (int) (slot & (SLOTS_PER_REGION - 1)) * SLOT_SIZE;
+    }
+
+    private long getFingerprint(long slot) {
+        return region(slot).getLong(offset(slot));
+    }
+
+    private long getPosition(long slot) {
+        return region(slot).getLong(offset(slot) + Long.BYTES);
+    }
+
+    private void setSlot(long slot, long fingerprint, long position) {
+        ByteBuffer region = region(slot);
+        int offset = offset(slot);
+        region.putLong(offset + Long.BYTES, position);
+        region.putLong(offset, fingerprint);
+    }
+
+    /**
+     * @return Position of the element in the elements file
+     */
+    private long appendElement(byte[] bytes) throws IOException {
+        int recordSize = Integer.BYTES + bytes.length;
+        if (recordSize > elementBuffer.remaining()) {
+            flushElementBuffer();
+        }
+        long position = elementsFileSize + elementBuffer.position();
+        if (recordSize > elementBuffer.capacity()) {
+            ByteBuffer record = ByteBuffer.allocate(recordSize);
+            record.putInt(bytes.length).put(bytes).flip();
+            writeFully(record, position);
+            elementsFileSize += recordSize;
+        } else {
+            elementBuffer.putInt(bytes.length).put(bytes);
+        }
+        return position;
+    }
+
+    private void flushElementBuffer() throws IOException {
+        elementBuffer.flip();
+        int bufferedBytes = elementBuffer.remaining();
+        writeFully(elementBuffer, elementsFileSize);
+        elementsFileSize += bufferedBytes;
+        elementBuffer.clear();
+    }
+
+    private void writeFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += elementsChannel.write(buffer, position);
+        }
+    }
+
+    private boolean elementEquals(long position, byte[] bytes) throws IOException {
+        ByteBuffer record;
+        if (position >= elementsFileSize) {
+            record = elementBuffer.duplicate();
+            record.position((int) (position - elementsFileSize));
+        } else {
+            record = readElement(position);
+        }
+        if (record.getInt() != bytes.length) {
+            return false;
+        }
+        for (byte value : bytes) {
+            if (record.get() != value) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private ByteBuffer readElement(long position) throws IOException {
+        readBuffer.clear().limit(Integer.BYTES);
+        readFully(readBuffer, position);
+        int length = readBuffer.getInt(0);
+        if (readBuffer.capacity() < Integer.BYTES + length) {
+            readBuffer = ByteBuffer.allocate(Integer.BYTES + length);
+        }
+        readBuffer.clear().limit(Integer.BYTES + length);
+        readFully(readBuffer, position);
+        readBuffer.flip();
+        return readBuffer;
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = elementsChannel.read(buffer, position);
+            if (read < 0) {
+                throw new EOFException("Element at position " + position + " is truncated in " + elementsPath);
+            }
+            position += read;
+        }
+    }
+
+    private static byte[] toBytes(Object element) {
+        return element.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static long fingerprint(byte[] bytes) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte value : bytes) {
+            hash ^= value & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash != 0 ? hash : 1;
+    }
+
+    /**
+     * Closes and deletes the files of the set. The space of the memory-mapped table is released by the operating
+     * system once the mapping is garbage collected.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            elementsChannel.close();
+            tableChannel.close();
+        } finally {
+            Files.deleteIfExists(elementsPath);
+            Files.deleteIfExists(tablePath);
+        }
+    }
+}
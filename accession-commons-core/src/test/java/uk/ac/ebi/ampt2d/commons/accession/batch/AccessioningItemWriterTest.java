@@ -0,0 +1,111 @@
+/*
+ *
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.ebi.ampt2d.commons.accession.batch;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.item.ExecutionContext;
+import uk.ac.ebi.ampt2d.commons.accession.core.AccessioningService;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.GetOrCreateAccessionWrapper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class AccessioningItemWriterTest {
+
+    private static final String APPLICATION_INSTANCE_ID = "test";
+
+    private AccessioningService<String, String, String> accessioningService;
+
+    private StepExecution stepExecution;
+
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() throws Exception {
+        accessioningService = Mockito.mock(AccessioningService.class);
+        when(accessioningService.getOrCreate(anyList(), eq(APPLICATION_INSTANCE_ID))).thenReturn(Arrays.asList(
+                new GetOrCreateAccessionWrapper<>("id-1", "hash-1", "object-1", true),
+                new GetOrCreateAccessionWrapper<>("id-2", "hash-2", "object-2", false)));
+        when(accessioningService.getOrCreateHashed(anyMap(), eq(APPLICATION_INSTANCE_ID))).thenReturn(Arrays.asList(
+                new GetOrCreateAccessionWrapper<>("id-1", "hash-1", "object-1", true)));
+        stepExecution = new StepExecution("accessioning", new JobExecution(1L));
+        executor = Executors.newFixedThreadPool(2);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    public void chunksAreAccessionedAndReported() throws Exception {
+        List<List<GetOrCreateAccessionWrapper<String, String, String>>> results = new ArrayList<>();
+        AccessioningItemWriter<String, String, String> writer =
+                new AccessioningItemWriter<>(accessioningService, APPLICATION_INSTANCE_ID, results::add);
+        writer.beforeStep(stepExecution);
+        writer.write(Arrays.asList("object-1", "object-2"));
+        writer.write(Arrays.asList("object-1", "object-2"));
+
+        assertEquals(2, results.size());
+        ExecutionContext context = stepExecution.getExecutionContext();
+        assertEquals(2, context.getLong(AbstractAccessioningItemWriter.CHUNK_COUNT_KEY));
+        assertEquals(4, context.getLong(AbstractAccessioningItemWriter.ITEM_COUNT_KEY));
+        assertEquals(2, context.getLong(AbstractAccessioningItemWriter.NEW_ACCESSION_COUNT_KEY));
+        assertTrue(context.containsKey(AbstractAccessioningItemWriter.LAST_CHUNK_ITEMS_PER_SECOND_KEY));
+    }
+
+    @Test
+    public void hashedItemsAreAccessionedWithoutHashingAgain() throws Exception {
+        AsyncAccessioningItemProcessor<String, String> processor = new AsyncAccessioningItemProcessor<>(
+                Function.identity(), message -> message.replace("object", "hash"), executor);
+        AsyncAccessioningItemWriter<String, String, String> writer =
+                new AsyncAccessioningItemWriter<>(accessioningService, APPLICATION_INSTANCE_ID);
+        writer.beforeStep(stepExecution);
+        List<Future<Map.Entry<String, String>>> items = new ArrayList<>();
+        for (String message : Arrays.asList("object-1", "object-2", "object-1")) {
+            items.add(processor.process(message));
+        }
+        writer.write(items);
+
+        Map<String, String> expectedMessages = new LinkedHashMap<>();
+        expectedMessages.put("hash-1", "object-1");
+        expectedMessages.put("hash-2", "object-2");
+        verify(accessioningService).getOrCreateHashed(expectedMessages, APPLICATION_INSTANCE_ID);
+        assertEquals(3, stepExecution.getExecutionContext().getLong(AbstractAccessioningItemWriter.ITEM_COUNT_KEY));
+    }
+}
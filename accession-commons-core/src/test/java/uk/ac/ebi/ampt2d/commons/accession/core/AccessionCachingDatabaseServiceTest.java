@@ -0,0 +1,159 @@
+/*
+ *
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.ebi.ampt2d.commons.accession.core;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionDoesNotExistException;
+import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionMergedException;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionStatusWrapper;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionVersionsWrapper;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionWrapper;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class AccessionCachingDatabaseServiceTest {
+
+    private static final long TIME_TO_LIVE_MILLIS = 3600000;
+
+    private DatabaseService<String, String, Long> dbService;
+
+    private AccessionCachingDatabaseService<String, String, Long> service;
+
+    @Before
+    public void setUp() {
+        dbService = Mockito.mock(DatabaseService.class);
+        when(dbService.findLastVersionByAccessions(anyList())).thenAnswer(invocation -> {
+            List<Long> accessions = invocation.getArgument(0);
+            return accessions.stream().map(this::getStatus).collect(Collectors.toList());
+        });
+        service = new AccessionCachingDatabaseService<>(dbService, 10, TIME_TO_LIVE_MILLIS);
+    }
+
+    private AccessionStatusWrapper<String, String, Long> getStatus(Long accession) {
+        if (accession == 1L || accession == 2L) {
+            return AccessionStatusWrapper.active(
+                    new AccessionWrapper<>(accession, "hash-" + accession, "object-" + accession, 1));
+        } else if (accession == 3L) {
+            return AccessionStatusWrapper.merged(3L, 1L);
+        }
+        return AccessionStatusWrapper.doesNotExist(accession);
+    }
+
+    @Test
+    public void lastVersionIsReadOnce() throws Exception {
+        assertEquals("object-1", service.findLastVersionByAccession(1L).getData());
+        assertEquals("object-1", service.findLastVersionByAccession(1L).getData());
+        verify(dbService, times(1)).findLastVersionByAccessions(anyList());
+        assertEquals(1, service.getHitCount());
+        assertEquals(1, service.getMissCount());
+    }
+
+    @Test
+    public void onlyMissingAccessionsAreLookedUp() {
+        service.findLastVersionByAccessions(Collections.singletonList(1L));
+        List<AccessionStatusWrapper<String, String, Long>> statuses =
+                service.findLastVersionByAccessions(Arrays.asList(1L, 2L, 3L));
+        assertEquals(Arrays.asList(1L, 2L, 3L),
+                     statuses.stream().map(AccessionStatusWrapper::getAccession).collect(Collectors.toList()));
+        verify(dbService).findLastVersionByAccessions(Arrays.asList(2L, 3L));
+    }
+
+    @Test
+    public void inactiveAccessionsAreCached() throws Exception {
+        service.findLastVersionByAccessions(Arrays.asList(3L, 4L));
+        try {
+            service.findLastVersionByAccession(3L);
+            fail("Merged accession expected");
+        } catch (AccessionMergedException e) {
+            assertEquals("1", e.getDestinationAccessionId());
+        }
+        try {
+            service.findByAccession(4L);
+            fail("Missing accession expected");
+        } catch (AccessionDoesNotExistException e) {
+            // expected
+        }
+        verify(dbService, times(1)).findLastVersionByAccessions(anyList());
+        verify(dbService, times(0)).findByAccession(4L);
+        assertEquals(2, service.getHitCount());
+    }
+
+    @Test
+    public void allVersionsAreCached() throws Exception {
+        AccessionVersionsWrapper<String, String, Long> versions = new AccessionVersionsWrapper<>(
+                Arrays.asList(new AccessionWrapper<>(1L, "hash-1", "object-1", 1),
+                              new AccessionWrapper<>(1L, "hash-5", "object-5", 2)));
+        when(dbService.findByAccession(1L)).thenReturn(versions);
+        assertEquals(versions, service.findByAccession(1L));
+        assertEquals("object-5", service.findLastVersionByAccession(1L).getData());
+        assertEquals("object-1", service.findByAccessionVersion(1L, 1).getData());
+        verify(dbService, times(1)).findByAccession(1L);
+        verify(dbService, times(0)).findLastVersionByAccessions(anyList());
+        verify(dbService, times(0)).findByAccessionVersion(1L, 1);
+    }
+
+    @Test
+    public void modifiedAccessionsAreInvalidated() throws Exception {
+        service.findLastVersionByAccessions(Arrays.asList(1L, 2L, 3L));
+        service.merge(2L, 1L, "reason");
+        service.findLastVersionByAccessions(Arrays.asList(1L, 2L, 3L));
+        verify(dbService).findLastVersionByAccessions(Arrays.asList(1L, 2L));
+    }
+
+    @Test
+    public void savedAccessionsAreNoLongerMissing() throws Exception {
+        service.findLastVersionByAccessions(Collections.singletonList(4L));
+        service.save(Collections.singletonList(new AccessionWrapper<>(4L, "hash-4", "object-4", 1)));
+        service.findLastVersionByAccessions(Collections.singletonList(4L));
+        verify(dbService, times(2)).findLastVersionByAccessions(Collections.singletonList(4L));
+    }
+
+    @Test
+    public void expiredAccessionsAreLookedUpAgain() throws Exception {
+        service = new AccessionCachingDatabaseService<>(dbService, 10, TIME_TO_LIVE_MILLIS, 1);
+        service.findLastVersionByAccessions(Arrays.asList(1L, 4L));
+        Thread.sleep(5);
+        service.findLastVersionByAccessions(Arrays.asList(1L, 4L));
+        verify(dbService, times(1)).findLastVersionByAccessions(Arrays.asList(1L, 4L));
+        verify(dbService, times(1)).findLastVersionByAccessions(Collections.singletonList(4L));
+    }
+
+    @Test
+    public void leastRecentlyUsedAccessionsAreEvicted() {
+        service = new AccessionCachingDatabaseService<>(dbService, 2, TIME_TO_LIVE_MILLIS);
+        service.findLastVersionByAccessions(Arrays.asList(1L, 2L));
+        service.findLastVersionByAccessions(Collections.singletonList(1L));
+        service.findLastVersionByAccessions(Collections.singletonList(3L));
+        assertEquals(2, service.getSize());
+        assertEquals(1, service.getEvictionCount());
+        service.findLastVersionByAccessions(Arrays.asList(1L, 2L));
+        verify(dbService, times(1)).findLastVersionByAccessions(Collections.singletonList(2L));
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ *
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.ebi.ampt2d.commons.accession.core;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class AdaptiveSaveModeSelectorTest {
+
+    private static final double DELTA = 0.000001;
+
+    @Test
+    public void newDataIsSavedWithoutPrefiltering() {
+        AdaptiveSaveModeSelector selector = new AdaptiveSaveModeSelector(0.5, 0.2);
+        assertEquals(AccessionSaveMode.SAVE_ALL_THEN_RESOLVE, selector.selectSaveMode());
+        selector.recordBatch(10, 1);
+        assertEquals(0.05, selector.getDuplicateRatio(), DELTA);
+        assertEquals(AccessionSaveMode.SAVE_ALL_THEN_RESOLVE, selector.selectSaveMode());
+        assertEquals(2, selector.getSaveAllThenResolveCount());
+        assertEquals(0, selector.getPrefilterExistingCount());
+    }
+
+    @Test
+    public void switchToPrefilteringWhenMostDataIsKnown() {
+        AdaptiveSaveModeSelector selector = new AdaptiveSaveModeSelector(0.5, 0.2);
+        selector.recordBatch(10, 9);
+        assertEquals(0.45, selector.getDuplicateRatio(), DELTA);
+        assertEquals(AccessionSaveMode.PREFILTER_EXISTING, selector.selectSaveMode());
+        assertEquals(AccessionSaveMode.PREFILTER_EXISTING, selector.getLastSaveMode());
+        assertEquals(1, selector.getPrefilterExistingCount());
+    }
+
+    @Test
+    public void switchBackWhenDataBecomesNew() {
+        AdaptiveSaveModeSelector selector = new AdaptiveSaveModeSelector(0.5, 0.2);
+        selector.recordBatch(10, 10);
+        assertEquals(AccessionSaveMode.PREFILTER_EXISTING, selector.selectSaveMode());
+        selector.recordBatch(10, 0);
+        assertEquals(0.25, selector.getDuplicateRatio(), DELTA);
+        assertEquals(AccessionSaveMode.PREFILTER_EXISTING, selector.selectSaveMode());
+        selector.recordBatch(10, 0);
+        assertEquals(AccessionSaveMode.SAVE_ALL_THEN_RESOLVE, selector.selectSaveMode());
+    }
+
+    @Test
+    public void emptyBatchesAreIgnored() {
+        AdaptiveSaveModeSelector selector = new AdaptiveSaveModeSelector(0.5, 0.2);
+        selector.recordBatch(10, 10);
+        selector.recordBatch(0, 0);
+        assertEquals(0.5, selector.getDuplicateRatio(), DELTA);
+    }
+
+}
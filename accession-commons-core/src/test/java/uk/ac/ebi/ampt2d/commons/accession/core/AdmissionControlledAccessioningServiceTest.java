@@ -0,0 +1,136 @@
+/*
+ *
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.ebi.ampt2d.commons.accession.core;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionCouldNotBeGeneratedException;
+import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessioningOverloadedException;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.GetOrCreateAccessionWrapper;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+public class AdmissionControlledAccessioningServiceTest {
+
+    private static final String APPLICATION_INSTANCE_ID = "test";
+
+    private static final long RETRY_AFTER_SECONDS = 3;
+
+    private AccessioningService<String, String, Long> service;
+
+    private CountDownLatch firstCallStarted;
+
+    private CountDownLatch firstCallReleased;
+
+    @Before
+    public void setUp() throws AccessionCouldNotBeGeneratedException {
+        firstCallStarted = new CountDownLatch(1);
+        firstCallReleased = new CountDownLatch(1);
+        service = Mockito.mock(AccessioningService.class);
+        when(service.getOrCreate(anyList(), anyString())).thenAnswer(invocation -> {
+            List<String> messages = invocation.getArgument(0);
+            if (messages.contains("a")) {
+                firstCallStarted.countDown();
+                firstCallReleased.await(10, TimeUnit.SECONDS);
+            }
+            return messages.stream()
+                    .map(message -> new GetOrCreateAccessionWrapper<>((long) message.hashCode(), message, message, 1,
+                                                                      true))
+                    .collect(Collectors.toList());
+        });
+    }
+
+    @Test
+    public void requestsAreQueuedAndRejectedWhenTheQueueIsFull() throws Exception {
+        AdmissionControlledAccessioningService<String, String, Long> limitedService =
+                new AdmissionControlledAccessioningService<>(service, 2, 1, 10000, RETRY_AFTER_SECONDS);
+        CompletableFuture<List<GetOrCreateAccessionWrapper<String, String, Long>>> firstCall =
+                CompletableFuture.supplyAsync(() -> getOrCreate(limitedService, Arrays.asList("a", "b")));
+        assertTrue(firstCallStarted.await(10, TimeUnit.SECONDS));
+        assertEquals(2, limitedService.getInFlightObjects());
+        CompletableFuture<List<GetOrCreateAccessionWrapper<String, String, Long>>> secondCall =
+                CompletableFuture.supplyAsync(() -> getOrCreate(limitedService, Collections.singletonList("c")));
+        while (limitedService.getQueueDepth() == 0) {
+            Thread.sleep(10);
+        }
+
+        try {
+            limitedService.getOrCreate(Collections.singletonList("d"), APPLICATION_INSTANCE_ID);
+            fail("Request should have been rejected");
+        } catch (AccessioningOverloadedException e) {
+            assertEquals(RETRY_AFTER_SECONDS, e.getRetryAfterSeconds());
+        }
+        assertEquals(1, limitedService.getRejectedCount());
+        assertFalse(secondCall.isDone());
+
+        firstCallReleased.countDown();
+        assertEquals(2, firstCall.get().size());
+        assertEquals(1, secondCall.get().size());
+        assertEquals(0, limitedService.getQueueDepth());
+        assertEquals(0, limitedService.getInFlightObjects());
+    }
+
+    @Test
+    public void requestsAreRejectedAfterTheMaximumWaitTime() throws Exception {
+        AdmissionControlledAccessioningService<String, String, Long> limitedService =
+                new AdmissionControlledAccessioningService<>(service, 2, 1, 50);
+        CompletableFuture<List<GetOrCreateAccessionWrapper<String, String, Long>>> firstCall =
+                CompletableFuture.supplyAsync(() -> getOrCreate(limitedService, Collections.singletonList("a")));
+        assertTrue(firstCallStarted.await(10, TimeUnit.SECONDS));
+
+        try {
+            limitedService.getOrCreate(Arrays.asList("b", "c"), APPLICATION_INSTANCE_ID);
+            fail("Request should have been rejected");
+        } catch (AccessioningOverloadedException e) {
+            assertEquals(AdmissionControlledAccessioningService.DEFAULT_RETRY_AFTER_SECONDS,
+                         e.getRetryAfterSeconds());
+        }
+        assertEquals(1, limitedService.getRejectedCount());
+
+        firstCallReleased.countDown();
+        assertEquals(1, firstCall.get().size());
+        // Requests larger than the limit take all the permits
+        assertEquals(3, limitedService.getOrCreate(Arrays.asList("b", "c", "d"), APPLICATION_INSTANCE_ID).size());
+        assertEquals(0, limitedService.getInFlightObjects());
+    }
+
+    private List<GetOrCreateAccessionWrapper<String, String, Long>> getOrCreate(
+            AccessioningService<String, String, Long> limitedService, List<String> messages) {
+        try {
+            return limitedService.getOrCreate(messages, APPLICATION_INSTANCE_ID);
+        } catch (AccessionCouldNotBeGeneratedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+}
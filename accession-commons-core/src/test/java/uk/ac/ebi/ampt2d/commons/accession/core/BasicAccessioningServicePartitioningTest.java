@@ -0,0 +1,130 @@
+/*
+ *
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.ebi.ampt2d.commons.accession.core;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionCouldNotBeGeneratedException;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionBatchResult;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionWrapper;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.GetOrCreateAccessionWrapper;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.SaveResponse;
+import uk.ac.ebi.ampt2d.commons.accession.generators.SingleAccessionGenerator;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class BasicAccessioningServicePartitioningTest {
+
+    private static final String APPLICATION_INSTANCE_ID = "test";
+
+    private static final int NUMBER_OF_PARTITIONS = 4;
+
+    private static final int PARTITIONING_THRESHOLD = 10;
+
+    private DatabaseService<String, String, String> dbService;
+
+    private ExecutorService partitionExecutor;
+
+    private BasicAccessioningService<String, String, String> service;
+
+    @Before
+    public void setUp() {
+        dbService = Mockito.mock(DatabaseService.class);
+        when(dbService.save(anyList())).thenAnswer(invocation -> {
+            List<AccessionWrapper<String, String, String>> accessions = invocation.getArgument(0);
+            SaveResponse<String> response = new SaveResponse<>();
+            accessions.forEach(accession -> response.addSavedAccession(accession.getAccession()));
+            return response;
+        });
+        partitionExecutor = Executors.newFixedThreadPool(NUMBER_OF_PARTITIONS);
+        service = BasicAccessioningService.builder(new SingleAccessionGenerator<>(message -> "id-" + message),
+                                                   dbService, Function.identity(), Function.identity())
+                .partitioning(partitionExecutor, NUMBER_OF_PARTITIONS, PARTITIONING_THRESHOLD)
+                .build();
+    }
+
+    @After
+    public void tearDown() {
+        partitionExecutor.shutdown();
+    }
+
+    private List<String> getMessages(int numberOfMessages) {
+        return IntStream.range(0, numberOfMessages).mapToObj(i -> "object-" + i).collect(Collectors.toList());
+    }
+
+    @Test
+    public void largeBatchIsSavedInPartitions() throws AccessionCouldNotBeGeneratedException {
+        List<GetOrCreateAccessionWrapper<String, String, String>> accessions =
+                service.getOrCreate(getMessages(100), APPLICATION_INSTANCE_ID);
+        assertEquals(100, accessions.size());
+        assertTrue(accessions.stream().allMatch(GetOrCreateAccessionWrapper::isNewAccession));
+
+        ArgumentCaptor<List<AccessionWrapper<String, String, String>>> savedPartitions =
+                ArgumentCaptor.forClass(List.class);
+        verify(dbService, times(NUMBER_OF_PARTITIONS)).save(savedPartitions.capture());
+        Set<String> savedHashes = new HashSet<>();
+        savedPartitions.getAllValues().forEach(partition -> partition.forEach(
+                accession -> assertTrue(savedHashes.add(accession.getHash()))));
+        assertEquals(100, savedHashes.size());
+    }
+
+    @Test
+    public void partitionBatchResultsAreConcatenated() throws AccessionCouldNotBeGeneratedException {
+        AccessionBatchResult<String, String, String> accessions =
+                service.getOrCreateBatch(getMessages(100), APPLICATION_INSTANCE_ID);
+        assertEquals(100, accessions.size());
+        assertEquals(100, accessions.getNewAccessionCount());
+        Set<String> hashes = new HashSet<>();
+        for (int i = 0; i < accessions.size(); i++) {
+            assertEquals("id-" + accessions.getHash(i), accessions.getAccession(i));
+            assertEquals(accessions.getHash(i), accessions.getData(i));
+            assertTrue(hashes.add(accessions.getHash(i)));
+        }
+        verify(dbService, times(NUMBER_OF_PARTITIONS)).save(anyList());
+    }
+
+    @Test
+    public void smallBatchIsNotPartitioned() throws AccessionCouldNotBeGeneratedException {
+        assertEquals(5, service.getOrCreate(getMessages(5), APPLICATION_INSTANCE_ID).size());
+        verify(dbService, times(1)).save(anyList());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void failureOfAPartitionIsThrown() throws AccessionCouldNotBeGeneratedException {
+        when(dbService.save(anyList())).thenThrow(new IllegalStateException("Database not available"));
+        service.getOrCreate(getMessages(100), APPLICATION_INSTANCE_ID);
+    }
+
+}
@@ -0,0 +1,162 @@
+/*
+ *
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.ebi.ampt2d.commons.accession.core;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionWrapper;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.GetOrCreateAccessionWrapper;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.SaveResponse;
+import uk.ac.ebi.ampt2d.commons.accession.generators.AccessionGenerator;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
+
+public class BasicAccessioningServicePipeliningTest {
+
+    private static final String APPLICATION_INSTANCE_ID = "test";
+
+    /**
+     * Generator that is not thread safe: it records any call made while another one is in progress. The generation of
+     * the second chunk waits for the first chunk to be notified, so the notification would overlap it if the calls
+     * were not serialized.
+     */
+    private class CheckingAccessionGenerator implements AccessionGenerator<String, String> {
+
+        private final AtomicBoolean inUse = new AtomicBoolean();
+
+        private volatile boolean usedConcurrently;
+
+        @Override
+        public <HASH> List<AccessionWrapper<String, HASH, String>> generateAccessions(Map<HASH, String> messages,
+                                                                                    String applicationInstanceId) {
+            enter();
+            try {
+                if (messages.containsValue("b")) {
+                    secondChunkGenerating.countDown();
+                    firstChunkNotified.await(500, TimeUnit.MILLISECONDS);
+                }
+                return messages.entrySet().stream()
+                        .map(entry -> new AccessionWrapper<>("id-" + entry.getValue(), entry.getKey(),
+                                                             entry.getValue()))
+                        .collect(Collectors.toList());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            } finally {
+                exit();
+            }
+        }
+
+        @Override
+        public void postSave(SaveResponse<String> response) {
+            enter();
+            try {
+                if (response.isSavedAccession("id-a")) {
+                    firstChunkNotified.countDown();
+                }
+            } finally {
+                exit();
+            }
+        }
+
+        @Override
+        public void shutDownAccessionGenerator() {
+            // No resources to release
+        }
+
+        private void enter() {
+            if (!inUse.compareAndSet(false, true)) {
+                usedConcurrently = true;
+            }
+        }
+
+        private void exit() {
+            inUse.set(false);
+        }
+
+    }
+
+    private CountDownLatch secondChunkGenerating;
+
+    private CountDownLatch firstChunkNotified;
+
+    private volatile boolean saveOverlappedGeneration;
+
+    private CheckingAccessionGenerator accessionGenerator;
+
+    private ExecutorService executor;
+
+    private BasicAccessioningService<String, String, String> service;
+
+    @Before
+    public void setUp() {
+        secondChunkGenerating = new CountDownLatch(1);
+        firstChunkNotified = new CountDownLatch(1);
+        DatabaseService<String, String, String> dbService = Mockito.mock(DatabaseService.class);
+        when(dbService.save(anyList())).thenAnswer(invocation -> {
+            List<AccessionWrapper<String, String, String>> accessions = invocation.getArgument(0);
+            SaveResponse<String> response = new SaveResponse<>();
+            accessions.forEach(accession -> response.addSavedAccession(accession.getAccession()));
+            if (response.isSavedAccession("id-a")) {
+                // The first chunk is saved while the second one is being generated
+                saveOverlappedGeneration = secondChunkGenerating.await(10, TimeUnit.SECONDS);
+            }
+            return response;
+        });
+        accessionGenerator = new CheckingAccessionGenerator();
+        executor = Executors.newFixedThreadPool(2);
+        service = new BasicAccessioningService<>(accessionGenerator, dbService, Function.identity(),
+                                                 Function.identity(), AccessionSaveMode.SAVE_ALL_THEN_RESOLVE);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    public void generatorIsNotUsedConcurrentlyWhileChunksOverlap() throws Exception {
+        List<GetOrCreateAccessionWrapper<String, String, String>> accessions =
+                service.getOrCreateAsync(Arrays.asList("a", "b"), 1, APPLICATION_INSTANCE_ID, executor)
+                       .get(10, TimeUnit.SECONDS);
+
+        assertEquals(Arrays.asList("id-a", "id-b"), accessions.stream().map(GetOrCreateAccessionWrapper::getAccession)
+                .collect(Collectors.toList()));
+        assertTrue(accessions.stream().allMatch(GetOrCreateAccessionWrapper::isNewAccession));
+        assertTrue("The first chunk should be saved while the second one is generated", saveOverlappedGeneration);
+        assertFalse("The generator should not be used concurrently", accessionGenerator.usedConcurrently);
+    }
+
+}
@@ -0,0 +1,90 @@
+/*
+ *
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.ebi.ampt2d.commons.accession.core;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mockito;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionWrapper;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.GetOrCreateAccessionWrapper;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.SaveResponse;
+import uk.ac.ebi.ampt2d.commons.accession.generators.SingleAccessionGenerator;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class BulkAccessioningJobTest {
+
+    private static final String APPLICATION_INSTANCE_ID = "test";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private DatabaseService<String, String, String> dbService;
+
+    private BasicAccessioningService<String, String, String> service;
+
+    @Before
+    public void setUp() {
+        dbService = Mockito.mock(DatabaseService.class);
+        when(dbService.save(anyList())).thenAnswer(invocation -> {
+            List<AccessionWrapper<String, String, String>> accessions = invocation.getArgument(0);
+            SaveResponse<String> response = new SaveResponse<>();
+            accessions.forEach(accession -> response.addSavedAccession(accession.getAccession()));
+            return response;
+        });
+        service = new BasicAccessioningService<>(new SingleAccessionGenerator<>(message -> "id-" + message),
+                                                 dbService, Function.identity(), Function.identity(),
+                                                 AccessionSaveMode.SAVE_ALL_THEN_RESOLVE);
+    }
+
+    @Test
+    public void duplicatesInDifferentChunksAreAccessionedOnce() throws Exception {
+        File workDirectory = temporaryFolder.newFolder();
+        BulkAccessioningJob<String, String, String> job = new BulkAccessioningJob<>(service, workDirectory.toPath(),
+                                                                                    3, 10);
+        List<String> messages = Arrays.asList("object-1", "object-2", "object-1", "object-3", "object-2",
+                                              "object-1", "object-1", "object-2");
+        List<List<GetOrCreateAccessionWrapper<String, String, String>>> chunks = new ArrayList<>();
+        job.run(messages.iterator(), APPLICATION_INSTANCE_ID, chunks::add);
+
+        assertEquals(2, chunks.size());
+        assertEquals(Arrays.asList("object-1", "object-2"), getHashes(chunks.get(0)));
+        assertEquals(Arrays.asList("object-3"), getHashes(chunks.get(1)));
+        verify(dbService, times(2)).save(anyList());
+        assertEquals(8, job.getReadCount());
+        assertEquals(5, job.getDuplicateCount());
+        assertEquals(0, workDirectory.list().length);
+    }
+
+    private List<String> getHashes(List<GetOrCreateAccessionWrapper<String, String, String>> accessions) {
+        return accessions.stream().map(GetOrCreateAccessionWrapper::getHash).sorted().collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ *
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.ebi.ampt2d.commons.accession.core;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionDeprecatedException;
+import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionDoesNotExistException;
+import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionMergedException;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionStatus;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionStatusWrapper;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionWrapper;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+
+public class DatabaseServiceTest {
+
+    @Test
+    public void lastVersionsAreLookedUpOneByOneByDefault() throws Exception {
+        DatabaseService<String, String, String> dbService = Mockito.mock(DatabaseService.class,
+                                                                         Mockito.CALLS_REAL_METHODS);
+        doReturn(new AccessionWrapper<>("a1", "hash-1", "object-1", 2)).when(dbService)
+                .findLastVersionByAccession("a1");
+        doThrow(new AccessionMergedException("a2", "a1")).when(dbService).findLastVersionByAccession("a2");
+        doThrow(new AccessionDeprecatedException("a3")).when(dbService).findLastVersionByAccession("a3");
+        doThrow(new AccessionDoesNotExistException("a4")).when(dbService).findLastVersionByAccession("a4");
+
+        List<AccessionStatusWrapper<String, String, String>> statuses =
+                dbService.findLastVersionByAccessions(Arrays.asList("a1", "a2", "a3", "a4"));
+
+        assertEquals(4, statuses.size());
+        assertEquals(AccessionStatus.ACTIVE, statuses.get(0).getStatus());
+        assertEquals("object-1", statuses.get(0).getLastVersion().getData());
+        assertEquals(AccessionStatus.MERGED, statuses.get(1).getStatus());
+        assertEquals("a1", statuses.get(1).getMergedInto());
+        assertEquals(AccessionStatus.DEPRECATED, statuses.get(2).getStatus());
+        assertEquals(AccessionStatus.DOES_NOT_EXIST, statuses.get(3).getStatus());
+        assertNull(statuses.get(3).getLastVersion());
+    }
+
+}
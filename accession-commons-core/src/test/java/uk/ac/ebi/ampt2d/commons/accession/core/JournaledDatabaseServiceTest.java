@@ -0,0 +1,175 @@
+/*
+ *
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.ebi.ampt2d.commons.accession.core;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mockito;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionWrapper;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.SaveResponse;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class JournaledDatabaseServiceTest {
+
+    private static final long DRAIN_INTERVAL_MILLIS = 3600000;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private Path journalDirectory;
+
+    private DatabaseService<String, String, Long> dbService;
+
+    private JournaledDatabaseService<String, String, Long> service;
+
+    @Before
+    public void setUp() throws IOException {
+        journalDirectory = temporaryFolder.newFolder().toPath();
+        dbService = mockDatabaseService();
+        service = createService(dbService);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        service.close();
+    }
+
+    private DatabaseService<String, String, Long> mockDatabaseService() {
+        DatabaseService<String, String, Long> dbService = Mockito.mock(DatabaseService.class);
+        when(dbService.save(anyList())).thenAnswer(invocation -> {
+            List<AccessionWrapper<String, String, Long>> accessions = invocation.getArgument(0);
+            SaveResponse<Long> response = new SaveResponse<>();
+            accessions.forEach(accession -> response.addSavedAccession(accession.getAccession()));
+            return response;
+        });
+        return dbService;
+    }
+
+    private JournaledDatabaseService<String, String, Long> createService(
+            DatabaseService<String, String, Long> dbService) throws IOException {
+        return new JournaledDatabaseService<>(dbService, journalDirectory, 1024, 10, DRAIN_INTERVAL_MILLIS);
+    }
+
+    private List<AccessionWrapper<String, String, Long>> getAccessions() {
+        return Arrays.asList(new AccessionWrapper<>(1L, "hash-1", "object-1", 1),
+                             new AccessionWrapper<>(2L, "hash-2", "object-2", 1));
+    }
+
+    @Test
+    public void savedObjectsAreReadFromTheJournalUntilDrained() throws Exception {
+        SaveResponse<Long> response = service.save(getAccessions());
+        assertTrue(response.isSavedAccession(1L));
+        assertTrue(response.isSavedAccession(2L));
+        verify(dbService, never()).save(anyList());
+        assertEquals(2, service.getPendingCount());
+        assertEquals(2, service.findAllByHash(Arrays.asList("hash-1", "hash-2")).size());
+        assertEquals("object-2", service.findLastVersionByAccession(2L).getData());
+
+        service.flush();
+        verify(dbService, times(1)).save(anyList());
+        assertEquals(0, service.getPendingCount());
+        assertEquals(2, service.getDrainedCount());
+    }
+
+    @Test
+    public void storedHashesAreNotJournaled() {
+        when(dbService.findAllByHash(anyCollection())).thenReturn(
+                Collections.singletonList(new AccessionWrapper<>(10L, "hash-1", "object-1", 1)));
+        SaveResponse<Long> response = service.save(getAccessions());
+        assertFalse(response.isSavedAccession(1L));
+        assertTrue(response.isSavedAccession(2L));
+        assertEquals(1, service.getPendingCount());
+    }
+
+    @Test
+    public void storedHashesAreNotLookedUpWhenTheCheckIsDisabled() throws IOException {
+        service.close();
+        service = new JournaledDatabaseService<>(dbService, journalDirectory, 1024, 10, DRAIN_INTERVAL_MILLIS, false);
+        SaveResponse<Long> response = service.save(getAccessions());
+        assertTrue(response.isSavedAccession(1L));
+        assertTrue(response.isSavedAccession(2L));
+        verify(dbService, never()).findAllByHash(anyCollection());
+    }
+
+    @Test
+    public void journaledHashesAreNotJournaledAgain() {
+        service.save(getAccessions());
+        SaveResponse<Long> response = service.save(Collections.singletonList(
+                new AccessionWrapper<>(3L, "hash-1", "object-1", 1)));
+        assertFalse(response.isSavedAccession(3L));
+        assertEquals(2, service.getPendingCount());
+    }
+
+    @Test
+    public void journaledObjectsAreRecoveredAfterRestart() throws IOException {
+        when(dbService.save(anyList())).thenThrow(new IllegalStateException("Database not available"));
+        service.save(getAccessions());
+        try {
+            service.close();
+        } catch (IllegalStateException e) {
+            // The objects are kept in the journal
+        }
+
+        DatabaseService<String, String, Long> newDbService = mockDatabaseService();
+        service = createService(newDbService);
+        assertEquals(2, service.getPendingCount());
+        service.flush();
+        verify(newDbService, times(1)).save(anyList());
+        assertEquals(0, service.getPendingCount());
+    }
+
+    @Test
+    public void objectsStoredWithAnotherAccessionAreReportedAsConflicts() {
+        service.save(getAccessions());
+        when(dbService.save(anyList())).thenAnswer(invocation -> {
+            SaveResponse<Long> response = new SaveResponse<>();
+            response.addSaveFailedAccession(1L);
+            response.addSavedAccession(2L);
+            return response;
+        });
+        when(dbService.findAllByHash(anyCollection())).thenReturn(
+                Collections.singletonList(new AccessionWrapper<>(10L, "hash-1", "object-1", 1)));
+        service.flush();
+        assertEquals(1, service.getConflicts().size());
+        assertEquals(1L, (long) service.getConflicts().get(0).getAccession());
+    }
+
+    @Test(expected = IOException.class)
+    public void journalDirectoryCanOnlyBeUsedOnce() throws IOException {
+        createService(dbService);
+    }
+
+}
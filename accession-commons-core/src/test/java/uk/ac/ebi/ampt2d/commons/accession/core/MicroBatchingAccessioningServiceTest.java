@@ -0,0 +1,221 @@
+/*
+ *
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.ebi.ampt2d.commons.accession.core;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionCouldNotBeGeneratedException;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionBatchResult;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.GetOrCreateAccessionWrapper;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class MicroBatchingAccessioningServiceTest {
+
+    private static final String APPLICATION_INSTANCE_ID = "test";
+
+    private static final long MAX_WAIT_MILLIS = 10000;
+
+    private AccessioningService<String, String, Long> service;
+
+    private MicroBatchingAccessioningService<String, String, Long> microBatchingService;
+
+    @Before
+    public void setUp() throws AccessionCouldNotBeGeneratedException {
+        service = Mockito.mock(AccessioningService.class);
+        when(service.getOrCreate(anyList(), anyString())).thenAnswer(invocation -> {
+            List<String> messages = invocation.getArgument(0);
+            return messages.stream()
+                    .map(message -> new GetOrCreateAccessionWrapper<>((long) message.hashCode(), message, message, 1,
+                                                                      true))
+                    .collect(Collectors.toList());
+        });
+        when(service.getOrCreateHashed(anyMap(), anyString())).thenAnswer(invocation -> {
+            Map<String, String> messages = invocation.getArgument(0);
+            return messages.entrySet().stream()
+                    .map(message -> new GetOrCreateAccessionWrapper<>((long) message.getValue().hashCode(),
+                                                                      message.getKey(), message.getValue(), 1, true))
+                    .collect(Collectors.toList());
+        });
+        microBatchingService = new MicroBatchingAccessioningService<>(service, Function.identity(),
+                                                                       Function.identity(), 4, MAX_WAIT_MILLIS);
+    }
+
+    @Test
+    public void concurrentCallsAreSavedInOneBatch() throws Exception {
+        CompletableFuture<List<GetOrCreateAccessionWrapper<String, String, Long>>> firstCall =
+                CompletableFuture.supplyAsync(() -> getOrCreate(Arrays.asList("a", "b")));
+        CompletableFuture<List<GetOrCreateAccessionWrapper<String, String, Long>>> secondCall =
+                CompletableFuture.supplyAsync(() -> getOrCreate(Arrays.asList("b", "c", "d")));
+
+        List<GetOrCreateAccessionWrapper<String, String, Long>> firstAccessions = firstCall.get();
+        List<GetOrCreateAccessionWrapper<String, String, Long>> secondAccessions = secondCall.get();
+        assertEquals(2, firstAccessions.size());
+        assertEquals(3, secondAccessions.size());
+        assertEquals(4, Stream.concat(firstAccessions.stream(), secondAccessions.stream())
+                .filter(GetOrCreateAccessionWrapper::isNewAccession).count());
+
+        verify(service, times(1)).getOrCreateHashed(anyMap(), anyString());
+        verify(service, never()).getOrCreate(anyList(), anyString());
+        assertEquals(1, microBatchingService.getBatchCount());
+        assertEquals(2, microBatchingService.getBatchedRequestCount());
+    }
+
+    @Test
+    public void batchIsSavedAfterMaximumWaitTime() throws AccessionCouldNotBeGeneratedException {
+        microBatchingService = new MicroBatchingAccessioningService<>(service, Function.identity(),
+                                                                       Function.identity(), 4, 10);
+        List<GetOrCreateAccessionWrapper<String, String, Long>> accessions =
+                microBatchingService.getOrCreate(Arrays.asList("a", "b", "a"), APPLICATION_INSTANCE_ID);
+        assertEquals(2, accessions.size());
+        assertTrue(accessions.stream().allMatch(GetOrCreateAccessionWrapper::isNewAccession));
+        Map<String, String> expectedMessages = new LinkedHashMap<>();
+        expectedMessages.put("a", "a");
+        expectedMessages.put("b", "b");
+        verify(service).getOrCreateHashed(expectedMessages, APPLICATION_INSTANCE_ID);
+    }
+
+    @Test
+    public void largeCallsAreNotBatched() throws AccessionCouldNotBeGeneratedException {
+        List<String> messages = Arrays.asList("a", "b", "c", "d");
+        microBatchingService.getOrCreate(messages, APPLICATION_INSTANCE_ID);
+        verify(service).getOrCreate(messages, APPLICATION_INSTANCE_ID);
+        assertEquals(0, microBatchingService.getBatchCount());
+    }
+
+    @Test
+    public void failuresArePropagatedToAllTheCallersOfTheBatch() throws Exception {
+        when(service.getOrCreateHashed(anyMap(), anyString()))
+                .thenThrow(new AccessionCouldNotBeGeneratedException("Test failure"));
+        CompletableFuture<List<GetOrCreateAccessionWrapper<String, String, Long>>> firstCall =
+                CompletableFuture.supplyAsync(() -> getOrCreate(Arrays.asList("a", "b")));
+        CompletableFuture<List<GetOrCreateAccessionWrapper<String, String, Long>>> secondCall =
+                CompletableFuture.supplyAsync(() -> getOrCreate(Collections.singletonList("c")));
+        CompletableFuture<List<GetOrCreateAccessionWrapper<String, String, Long>>> thirdCall =
+                CompletableFuture.supplyAsync(() -> getOrCreate(Collections.singletonList("d")));
+
+        assertFailed(firstCall);
+        assertFailed(secondCall);
+        assertFailed(thirdCall);
+        verify(service, times(1)).getOrCreateHashed(anyMap(), anyString());
+    }
+
+    @Test
+    public void hashedCallsAreBatchedWithConcurrentCalls() throws Exception {
+        Map<String, String> hashedMessages = new LinkedHashMap<>();
+        hashedMessages.put("c", "c");
+        hashedMessages.put("d", "d");
+        CompletableFuture<List<GetOrCreateAccessionWrapper<String, String, Long>>> firstCall =
+                CompletableFuture.supplyAsync(() -> getOrCreate(Arrays.asList("a", "b")));
+        CompletableFuture<List<GetOrCreateAccessionWrapper<String, String, Long>>> secondCall =
+                CompletableFuture.supplyAsync(() -> getOrCreateHashed(hashedMessages));
+
+        assertEquals(2, firstCall.get().size());
+        assertEquals(Arrays.asList("c", "d"), secondCall.get().stream().map(GetOrCreateAccessionWrapper::getHash)
+                .collect(Collectors.toList()));
+        verify(service, times(1)).getOrCreateHashed(anyMap(), anyString());
+        assertEquals(1, microBatchingService.getBatchCount());
+        assertEquals(2, microBatchingService.getBatchedRequestCount());
+    }
+
+    @Test
+    public void batchCallsAreBatchedWithConcurrentCalls() throws Exception {
+        CompletableFuture<List<GetOrCreateAccessionWrapper<String, String, Long>>> firstCall =
+                CompletableFuture.supplyAsync(() -> getOrCreate(Arrays.asList("a", "b")));
+        CompletableFuture<AccessionBatchResult<String, String, Long>> secondCall =
+                CompletableFuture.supplyAsync(() -> getOrCreateBatch(Arrays.asList("c", "d")));
+
+        assertEquals(2, firstCall.get().size());
+        AccessionBatchResult<String, String, Long> secondAccessions = secondCall.get();
+        assertEquals(2, secondAccessions.size());
+        assertEquals(2, secondAccessions.getNewAccessionCount());
+        verify(service, times(1)).getOrCreateHashed(anyMap(), anyString());
+        verify(service, never()).getOrCreateBatch(anyList(), anyString());
+        assertEquals(1, microBatchingService.getBatchCount());
+        assertEquals(2, microBatchingService.getBatchedRequestCount());
+    }
+
+    @Test
+    public void alignedCallsAreBatchedByHash() throws AccessionCouldNotBeGeneratedException {
+        microBatchingService = new MicroBatchingAccessioningService<>(service, Function.identity(),
+                                                                       Function.identity(), 4, 10);
+        List<GetOrCreateAccessionWrapper<String, String, Long>> accessions =
+                microBatchingService.getOrCreateAligned(Arrays.asList("b", "a", "b"), APPLICATION_INSTANCE_ID);
+        assertEquals(Arrays.asList("b", "a", "b"), accessions.stream().map(GetOrCreateAccessionWrapper::getHash)
+                .collect(Collectors.toList()));
+        verify(service, never()).getOrCreateAligned(anyList(), anyString());
+        assertEquals(1, microBatchingService.getBatchCount());
+    }
+
+    private void assertFailed(CompletableFuture<?> call) throws InterruptedException {
+        try {
+            call.get();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause().getCause() instanceof AccessionCouldNotBeGeneratedException);
+            return;
+        }
+        assertFalse("Call should have failed", true);
+    }
+
+    private AccessionBatchResult<String, String, Long> getOrCreateBatch(List<String> messages) {
+        try {
+            return microBatchingService.getOrCreateBatch(messages, APPLICATION_INSTANCE_ID);
+        } catch (AccessionCouldNotBeGeneratedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private List<GetOrCreateAccessionWrapper<String, String, Long>> getOrCreateHashed(
+            Map<String, String> hashedMessages) {
+        try {
+            return microBatchingService.getOrCreateHashed(hashedMessages, APPLICATION_INSTANCE_ID);
+        } catch (AccessionCouldNotBeGeneratedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private List<GetOrCreateAccessionWrapper<String, String, Long>> getOrCreate(List<String> messages) {
+        try {
+            return microBatchingService.getOrCreate(messages, APPLICATION_INSTANCE_ID);
+        } catch (AccessionCouldNotBeGeneratedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+}
@@ -0,0 +1,252 @@
+/*
+ *
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.ebi.ampt2d.commons.accession.core;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionCouldNotBeGeneratedException;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionBatchResult;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.GetOrCreateAccessionWrapper;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class SingleFlightAccessioningServiceTest {
+
+    private static final String APPLICATION_INSTANCE_ID = "test";
+
+    private AccessioningService<String, String, Long> service;
+
+    private SingleFlightAccessioningService<String, String, Long> singleFlightService;
+
+    private CountDownLatch firstCallStarted;
+
+    private CountDownLatch firstCallReleased;
+
+    private CountDownLatch secondCallStarted;
+
+    @Before
+    public void setUp() throws AccessionCouldNotBeGeneratedException {
+        firstCallStarted = new CountDownLatch(1);
+        firstCallReleased = new CountDownLatch(1);
+        secondCallStarted = new CountDownLatch(1);
+        service = Mockito.mock(AccessioningService.class);
+        when(service.getOrCreate(anyList(), anyString())).thenAnswer(
+                invocation -> accession(invocation.<List<String>>getArgument(0)));
+        when(service.getOrCreateHashed(anyMap(), anyString())).thenAnswer(
+                invocation -> accession(invocation.<Map<String, String>>getArgument(0).values()));
+        singleFlightService = new SingleFlightAccessioningService<>(service, Function.identity(),
+                                                                     Function.identity());
+    }
+
+    @Test
+    public void concurrentCallsOfTheSameHashAreCoalesced() throws Exception {
+        CompletableFuture<List<GetOrCreateAccessionWrapper<String, String, Long>>> firstCall =
+                CompletableFuture.supplyAsync(() -> getOrCreate(Arrays.asList("a", "b")));
+        assertTrue(firstCallStarted.await(10, TimeUnit.SECONDS));
+        CompletableFuture<List<GetOrCreateAccessionWrapper<String, String, Long>>> secondCall =
+                CompletableFuture.supplyAsync(() -> getOrCreate(Arrays.asList("b", "c")));
+
+        assertTrue(secondCallStarted.await(10, TimeUnit.SECONDS));
+        assertFalse(secondCall.isDone());
+        firstCallReleased.countDown();
+
+        Map<String, GetOrCreateAccessionWrapper<String, String, Long>> firstAccessions = byHash(firstCall.get());
+        Map<String, GetOrCreateAccessionWrapper<String, String, Long>> secondAccessions = byHash(secondCall.get());
+        assertEquals(2, firstAccessions.size());
+        assertEquals(2, secondAccessions.size());
+        assertTrue(firstAccessions.get("b").isNewAccession());
+        assertFalse(secondAccessions.get("b").isNewAccession());
+        assertEquals(firstAccessions.get("b").getAccession(), secondAccessions.get("b").getAccession());
+        assertTrue(secondAccessions.get("c").isNewAccession());
+
+        verify(service).getOrCreate(Arrays.asList("a", "b"), APPLICATION_INSTANCE_ID);
+        verify(service).getOrCreate(Collections.singletonList("c"), APPLICATION_INSTANCE_ID);
+        assertEquals(1, singleFlightService.getCoalescedCount());
+        assertEquals(0, singleFlightService.getInFlightCount());
+    }
+
+    @Test
+    public void duplicatesInTheSameCallAreRequestedOnce() throws AccessionCouldNotBeGeneratedException {
+        firstCallReleased.countDown();
+        List<GetOrCreateAccessionWrapper<String, String, Long>> accessions =
+                singleFlightService.getOrCreate(Arrays.asList("b", "c", "b"), APPLICATION_INSTANCE_ID);
+        assertEquals(2, accessions.size());
+        verify(service, times(1)).getOrCreate(Arrays.asList("b", "c"), APPLICATION_INSTANCE_ID);
+        assertEquals(0, singleFlightService.getCoalescedCount());
+    }
+
+    @Test
+    public void waitingCallsRetryIfTheInFlightCallFails() throws Exception {
+        doAnswer(invocation -> {
+            firstCallStarted.countDown();
+            firstCallReleased.await(10, TimeUnit.SECONDS);
+            throw new AccessionCouldNotBeGeneratedException("Test failure");
+        }).when(service).getOrCreate(Arrays.asList("a", "b"), APPLICATION_INSTANCE_ID);
+        CompletableFuture<List<GetOrCreateAccessionWrapper<String, String, Long>>> firstCall =
+                CompletableFuture.supplyAsync(() -> getOrCreate(Arrays.asList("a", "b")));
+        assertTrue(firstCallStarted.await(10, TimeUnit.SECONDS));
+        CompletableFuture<List<GetOrCreateAccessionWrapper<String, String, Long>>> secondCall =
+                CompletableFuture.supplyAsync(() -> getOrCreate(Arrays.asList("b", "c")));
+        assertTrue(secondCallStarted.await(10, TimeUnit.SECONDS));
+        firstCallReleased.countDown();
+
+        Map<String, GetOrCreateAccessionWrapper<String, String, Long>> secondAccessions = byHash(secondCall.get());
+        assertEquals(2, secondAccessions.size());
+        assertTrue(secondAccessions.get("b").isNewAccession());
+        assertTrue(firstCall.handle((accessions, e) -> e != null).get());
+        assertEquals(0, singleFlightService.getInFlightCount());
+    }
+
+    @Test
+    public void hashedCallsAreCoalescedWithConcurrentCalls() throws Exception {
+        CompletableFuture<List<GetOrCreateAccessionWrapper<String, String, Long>>> firstCall =
+                CompletableFuture.supplyAsync(() -> getOrCreate(Arrays.asList("a", "b")));
+        assertTrue(firstCallStarted.await(10, TimeUnit.SECONDS));
+        Map<String, String> hashedMessages = new LinkedHashMap<>();
+        hashedMessages.put("b", "b");
+        hashedMessages.put("c", "c");
+        CompletableFuture<List<GetOrCreateAccessionWrapper<String, String, Long>>> secondCall =
+                CompletableFuture.supplyAsync(() -> getOrCreateHashed(hashedMessages));
+        assertTrue(secondCallStarted.await(10, TimeUnit.SECONDS));
+        firstCallReleased.countDown();
+
+        Map<String, GetOrCreateAccessionWrapper<String, String, Long>> secondAccessions = byHash(secondCall.get());
+        assertEquals(2, secondAccessions.size());
+        assertFalse(secondAccessions.get("b").isNewAccession());
+        assertTrue(secondAccessions.get("c").isNewAccession());
+        assertEquals(2, firstCall.get().size());
+
+        verify(service).getOrCreateHashed(Collections.singletonMap("c", "c"), APPLICATION_INSTANCE_ID);
+        assertEquals(1, singleFlightService.getCoalescedCount());
+        assertEquals(0, singleFlightService.getInFlightCount());
+    }
+
+    @Test
+    public void batchCallsAreCoalescedWithConcurrentCalls() throws Exception {
+        CompletableFuture<List<GetOrCreateAccessionWrapper<String, String, Long>>> firstCall =
+                CompletableFuture.supplyAsync(() -> getOrCreate(Arrays.asList("a", "b")));
+        assertTrue(firstCallStarted.await(10, TimeUnit.SECONDS));
+        CompletableFuture<AccessionBatchResult<String, String, Long>> secondCall =
+                CompletableFuture.supplyAsync(() -> getOrCreateBatch(Arrays.asList("b", "c")));
+        assertTrue(secondCallStarted.await(10, TimeUnit.SECONDS));
+        firstCallReleased.countDown();
+
+        Map<String, GetOrCreateAccessionWrapper<String, String, Long>> secondAccessions =
+                byHash(secondCall.get().toList());
+        assertEquals(2, secondAccessions.size());
+        assertFalse(secondAccessions.get("b").isNewAccession());
+        assertTrue(secondAccessions.get("c").isNewAccession());
+        assertEquals(2, firstCall.get().size());
+
+        verify(service).getOrCreate(Collections.singletonList("c"), APPLICATION_INSTANCE_ID);
+        verify(service, never()).getOrCreateBatch(anyList(), anyString());
+        assertEquals(1, singleFlightService.getCoalescedCount());
+    }
+
+    @Test
+    public void alignedCallsAreCoalescedByHash() throws AccessionCouldNotBeGeneratedException {
+        firstCallReleased.countDown();
+        List<GetOrCreateAccessionWrapper<String, String, Long>> accessions =
+                singleFlightService.getOrCreateAligned(Arrays.asList("b", "c", "b"), APPLICATION_INSTANCE_ID);
+        assertEquals(Arrays.asList("b", "c", "b"), accessions.stream().map(GetOrCreateAccessionWrapper::getHash)
+                .collect(Collectors.toList()));
+        assertSame(accessions.get(0), accessions.get(2));
+
+        Map<String, String> expectedMessages = new LinkedHashMap<>();
+        expectedMessages.put("b", "b");
+        expectedMessages.put("c", "c");
+        verify(service).getOrCreateHashed(expectedMessages, APPLICATION_INSTANCE_ID);
+        verify(service, never()).getOrCreateAligned(anyList(), anyString());
+        assertEquals(0, singleFlightService.getInFlightCount());
+    }
+
+    /**
+     * The first call that requests "a" blocks until it is released, and the call that requests "c" signals that it
+     * has reached the wrapped service, after its awaited hashes have been registered.
+     */
+    private List<GetOrCreateAccessionWrapper<String, String, Long>> accession(Collection<String> messages)
+            throws InterruptedException {
+        if (messages.contains("a")) {
+            firstCallStarted.countDown();
+            firstCallReleased.await(10, TimeUnit.SECONDS);
+        }
+        if (messages.contains("c")) {
+            secondCallStarted.countDown();
+        }
+        return messages.stream()
+                .map(message -> new GetOrCreateAccessionWrapper<>((long) message.hashCode(), message, message, 1,
+                                                                  true))
+                .collect(Collectors.toList());
+    }
+
+    private List<GetOrCreateAccessionWrapper<String, String, Long>> getOrCreateHashed(
+            Map<String, String> hashedMessages) {
+        try {
+            return singleFlightService.getOrCreateHashed(hashedMessages, APPLICATION_INSTANCE_ID);
+        } catch (AccessionCouldNotBeGeneratedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private AccessionBatchResult<String, String, Long> getOrCreateBatch(List<String> messages) {
+        try {
+            return singleFlightService.getOrCreateBatch(messages, APPLICATION_INSTANCE_ID);
+        } catch (AccessionCouldNotBeGeneratedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private List<GetOrCreateAccessionWrapper<String, String, Long>> getOrCreate(List<String> messages) {
+        try {
+            return singleFlightService.getOrCreate(messages, APPLICATION_INSTANCE_ID);
+        } catch (AccessionCouldNotBeGeneratedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private Map<String, GetOrCreateAccessionWrapper<String, String, Long>> byHash(
+            List<GetOrCreateAccessionWrapper<String, String, Long>> accessions) {
+        return accessions.stream().collect(Collectors.toMap(GetOrCreateAccessionWrapper::getHash,
+                                                            Function.identity()));
+    }
+
+}
@@ -0,0 +1,68 @@
+/*
+ *
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.ebi.ampt2d.commons.accession.core.models;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class LongSaveResponseTest {
+
+    @Test
+    public void convertBoxedResponse() {
+        SaveResponse<Long> response = new SaveResponse<>(new HashSet<>(Arrays.asList(1L, 2L)),
+                                                         new HashSet<>(Collections.singletonList(3L)));
+        LongSaveResponse longResponse = LongSaveResponse.of(response);
+        long[] savedAccessions = longResponse.getSavedAccessionArray();
+        Arrays.sort(savedAccessions);
+        assertArrayEquals(new long[]{1L, 2L}, savedAccessions);
+        assertArrayEquals(new long[]{3L}, longResponse.getSaveFailedAccessionArray());
+        assertTrue(longResponse.isSavedAccession(1L));
+        assertFalse(longResponse.isSavedAccession(3L));
+    }
+
+    @Test
+    public void reuseLongResponse() {
+        LongSaveResponse response = new LongSaveResponse();
+        assertSame(response, LongSaveResponse.of(response));
+    }
+
+    @Test
+    public void boxedSetsAreKeptUntilModified() {
+        LongSaveResponse response = new LongSaveResponse();
+        response.addSavedAccession(1L);
+        response.addSaveFailedAccession(2L);
+        assertSame(response.getSavedAccessions(), response.getSavedAccessions());
+        assertSame(response.getSaveFailedAccessions(), response.getSaveFailedAccessions());
+
+        Object savedAccessions = response.getSavedAccessions();
+        response.addSavedAccession(3L);
+        assertNotSame(savedAccessions, response.getSavedAccessions());
+        assertEquals(new HashSet<>(Arrays.asList(1L, 3L)), response.getSavedAccessions());
+    }
+
+}
@@ -0,0 +1,132 @@
+/*
+ *
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.ebi.ampt2d.commons.accession.persistence.services;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.HashAlreadyExistsException;
+import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.UnsavedAccessionException;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.SaveResponse;
+import uk.ac.ebi.ampt2d.commons.accession.persistence.models.IAccessionedObject;
+import uk.ac.ebi.ampt2d.commons.accession.persistence.repositories.IAccessionedObjectRepository;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class BasicSpringDataRepositoryDatabaseServiceTest {
+
+    private IAccessionedObjectRepository<TestEntity, Long> repository;
+
+    private InactiveAccessionService<String, Long, TestEntity> inactiveAccessionService;
+
+    private BasicSpringDataRepositoryDatabaseService<String, Long, TestEntity> service;
+
+    @Before
+    public void setUp() {
+        repository = Mockito.mock(IAccessionedObjectRepository.class);
+        inactiveAccessionService = Mockito.mock(InactiveAccessionService.class);
+        service = new BasicSpringDataRepositoryDatabaseService<>(
+                repository, wrapper -> new TestEntity(wrapper.getAccession(), wrapper.getHash(), wrapper.getVersion(),
+                                                      wrapper.getData()),
+                inactiveAccessionService);
+        when(repository.findByAccessionOrHashedMessage(1L, "hash-1b"))
+                .thenReturn(Collections.singletonList(new TestEntity(1L, "hash-1", 1, "object-1")));
+        SaveResponse<Long> failedInsert = new SaveResponse<>();
+        failedInsert.addSaveFailedAccession(1L);
+        when(repository.insert(anyList())).thenReturn(failedInsert);
+    }
+
+    @Test
+    public void updateRejectedByConcurrentInsertOfSameHashKeepsOldVersion() throws Exception {
+        when(repository.findById("hash-1b")).thenReturn(Optional.of(new TestEntity(2L, "hash-1b", 1, "object-1b")));
+        try {
+            service.update(1L, "hash-1b", "object-1b", 1);
+            fail("Update should have failed");
+        } catch (HashAlreadyExistsException e) {
+            assertEquals("Hash 'hash-1b' is present in accession '2' ", e.getMessage());
+        }
+        verify(inactiveAccessionService, never()).update(any(), anyString());
+        verify(repository, never()).bulkDelete(any());
+    }
+
+    @Test
+    public void patchRejectedByRepositoryWritesNoHistory() throws Exception {
+        when(repository.findById("hash-1b")).thenReturn(Optional.empty());
+        try {
+            service.patch(1L, "hash-1b", "object-1b", "patch");
+            fail("Patch should have failed");
+        } catch (UnsavedAccessionException e) {
+            // expected
+        }
+        verify(inactiveAccessionService, never()).patch(any(), anyString());
+    }
+
+    private static class TestEntity implements IAccessionedObject<String, String, Long> {
+
+        private final Long accession;
+
+        private final String hash;
+
+        private final int version;
+
+        private final String model;
+
+        TestEntity(Long accession, String hash, int version, String model) {
+            this.accession = accession;
+            this.hash = hash;
+            this.version = version;
+            this.model = model;
+        }
+
+        @Override
+        public Long getAccession() {
+            return accession;
+        }
+
+        @Override
+        public String getHashedMessage() {
+            return hash;
+        }
+
+        @Override
+        public LocalDateTime getCreatedDate() {
+            return null;
+        }
+
+        @Override
+        public int getVersion() {
+            return version;
+        }
+
+        @Override
+        public String getModel() {
+            return model;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ *
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.ebi.ampt2d.commons.accession.utils;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class BloomFilterTest {
+
+    private static final int ELEMENTS = 10000;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private BloomFilter<String> createFilledFilter() {
+        BloomFilter<String> filter = BloomFilter.create(ELEMENTS, 0.01);
+        for (int i = 0; i < ELEMENTS; i++) {
+            filter.put("element-" + i);
+        }
+        return filter;
+    }
+
+    private void assertContainsAllElements(BloomFilter<String> filter) {
+        for (int i = 0; i < ELEMENTS; i++) {
+            assertTrue(filter.mightContain("element-" + i));
+        }
+    }
+
+    @Test
+    public void addedElementsMightBeContained() {
+        assertContainsAllElements(createFilledFilter());
+    }
+
+    @Test
+    public void emptyFilterContainsNothing() {
+        assertFalse(BloomFilter.create(ELEMENTS, 0.01).mightContain("element-0"));
+    }
+
+    @Test
+    public void falsePositiveRateIsCloseToTheExpectedOne() {
+        BloomFilter<String> filter = createFilledFilter();
+        int falsePositives = 0;
+        for (int i = 0; i < ELEMENTS; i++) {
+            if (filter.mightContain("other-element-" + i)) {
+                falsePositives++;
+            }
+        }
+        assertTrue("Too many false positives: " + falsePositives, falsePositives < ELEMENTS * 0.02);
+    }
+
+    @Test
+    public void writeAndReadFilter() throws IOException {
+        BloomFilter<String> filter = createFilledFilter();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        filter.writeTo(outputStream);
+
+        BloomFilter<String> readFilter = BloomFilter.readFrom(new ByteArrayInputStream(outputStream.toByteArray()));
+        assertEquals(filter.getNumberOfBits(), readFilter.getNumberOfBits());
+        assertEquals(filter.getNumberOfHashFunctions(), readFilter.getNumberOfHashFunctions());
+        assertContainsAllElements(readFilter);
+    }
+
+    @Test
+    public void saveAndLoadFilter() throws IOException {
+        Path path = temporaryFolder.getRoot().toPath().resolve("hashes.bloom");
+        createFilledFilter().save(path);
+
+        assertContainsAllElements(BloomFilter.load(path));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidFalsePositiveProbability() {
+        BloomFilter.create(ELEMENTS, 1);
+    }
+
+}
@@ -0,0 +1,89 @@
+/*
+ *
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.ebi.ampt2d.commons.accession.utils;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class MappedHashSetTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void addAndContains() throws IOException {
+        try (MappedHashSet<String> set = new MappedHashSet<>(temporaryFolder.getRoot().toPath(), 10)) {
+            assertTrue(set.add("hash-1"));
+            assertTrue(set.add("hash-2"));
+            assertFalse(set.add("hash-1"));
+            assertEquals(2, set.size());
+            assertTrue(set.contains("hash-2"));
+            assertFalse(set.contains("hash-3"));
+        }
+    }
+
+    @Test
+    public void behavesLikeHashSetWhenGrowingAndSpillingToDisk() throws IOException {
+        Random random = new Random(42);
+        Set<String> expected = new HashSet<>();
+        try (MappedHashSet<String> set = new MappedHashSet<>(temporaryFolder.getRoot().toPath(), 10)) {
+            for (int i = 0; i < 200000; i++) {
+                String element = "hash-" + random.nextInt(100000);
+                assertEquals(expected.add(element), set.add(element));
+            }
+            for (int i = 0; i < 150000; i++) {
+                assertEquals(expected.contains("hash-" + i), set.contains("hash-" + i));
+            }
+            assertEquals(expected.size(), set.size());
+        }
+    }
+
+    @Test
+    public void largeElementsAreStored() throws IOException {
+        String largeElement = new String(new char[2 << 20]).replace('\0', 'x');
+        try (MappedHashSet<String> set = new MappedHashSet<>(temporaryFolder.getRoot().toPath(), 10)) {
+            assertTrue(set.add("hash-1"));
+            assertTrue(set.add(largeElement));
+            assertTrue(set.add("hash-2"));
+            assertFalse(set.add(largeElement));
+            assertTrue(set.add(largeElement + "y"));
+            assertEquals(4, set.size());
+        }
+    }
+
+    @Test
+    public void filesAreDeletedOnClose() throws IOException {
+        File directory = temporaryFolder.newFolder();
+        try (MappedHashSet<String> set = new MappedHashSet<>(directory.toPath(), 1000000)) {
+            set.add("hash-1");
+            assertEquals(2, directory.list().length);
+        }
+        assertEquals(0, directory.list().length);
+    }
+}
@@ -31,7 +31,9 @@ import java.time.LocalDateTime;
 
 /**
  * Base class for accessioned objects to be serialized as relational entities.
- * The derived classes must be annotated as Entity.
+ * The derived classes must be annotated as Entity. Their table should have an index on accession and version, which
+ * is used to find the last version of an accession, for example:
+ * {@code @Table(indexes = @Index(name = "ACCESSION_VERSION_INDEX", columnList = "accession,version"))}
  *
  * @param <MODEL> Type of the objects identified by the accessions
  * @param <ACCESSION> Type of the accession that identifies an object of a particular model
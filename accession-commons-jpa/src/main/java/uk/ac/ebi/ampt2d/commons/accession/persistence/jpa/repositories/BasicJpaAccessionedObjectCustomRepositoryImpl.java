@@ -30,8 +30,12 @@ import uk.ac.ebi.ampt2d.commons.accession.persistence.jpa.entities.AccessionedEn
 
 import javax.persistence.EntityManager;
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Stack;
+import java.util.stream.Collectors;
 
 public abstract class BasicJpaAccessionedObjectCustomRepositoryImpl<
         ACCESSION extends Serializable,
@@ -49,6 +53,8 @@ public abstract class BasicJpaAccessionedObjectCustomRepositoryImpl<
         }
     }
 
+    private static final int DELETE_CHUNK_SIZE = 1000;
+
     private JpaEntityInformation<ENTITY, ?> entityInformation;
 
     private PlatformTransactionManager platformTransactionManager;
@@ -67,7 +73,7 @@ public abstract class BasicJpaAccessionedObjectCustomRepositoryImpl<
     public SaveResponse<ACCESSION> insert(List<ENTITY> entities) {
         Stack<Partition> partitions = new Stack<>();
         partitions.add(new Partition(0, entities.size()));
-        SaveResponse<ACCESSION> saveResponse = new SaveResponse<>();
+        SaveResponse<ACCESSION> saveResponse = createSaveResponse(entities.size());
 
         while (!partitions.isEmpty()) {
             Partition partition = partitions.pop();
@@ -90,6 +96,62 @@ public abstract class BasicJpaAccessionedObjectCustomRepositoryImpl<
         return saveResponse;
     }
 
+    /**
+     * The objects are deleted with a JPQL bulk delete per chunk of hashes, which bypasses the persistence context. It
+     * must be called within a transaction. Pending changes are flushed first so that objects persisted in the same
+     * transaction are deleted too, and managed instances of the deleted objects are detached afterwards.
+     */
+    @Override
+    public void bulkDelete(Collection<ENTITY> entities) {
+        if (entities.isEmpty()) {
+            return;
+        }
+        entityManager.flush();
+        List<String> hashes = entities.stream().map(AccessionedEntity::getHashedMessage).collect(Collectors.toList());
+        String statement = "delete from " + entityInformation.getEntityName() + " e where e.hashedMessage in :hashes";
+        for (int start = 0; start < hashes.size(); start += DELETE_CHUNK_SIZE) {
+            entityManager.createQuery(statement)
+                    .setParameter("hashes", hashes.subList(start, Math.min(start + DELETE_CHUNK_SIZE, hashes.size())))
+                    .executeUpdate();
+        }
+        for (ENTITY entity : entities) {
+            if (entityManager.contains(entity)) {
+                entityManager.detach(entity);
+            }
+        }
+    }
+
+    /**
+     * The last versions are read with a JPQL query grouped by accession, which can be answered from the index on
+     * accession and version.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<ACCESSION, Integer> findLastVersions(Collection<ACCESSION> accessions) {
+        Map<ACCESSION, Integer> lastVersions = new HashMap<>();
+        if (accessions.isEmpty()) {
+            return lastVersions;
+        }
+        String query = "select e.accession, max(e.version) from " + entityInformation.getEntityName() +
+                " e where e.accession in :accessions group by e.accession";
+        List<Object[]> rows = entityManager.createQuery(query).setParameter("accessions", accessions).getResultList();
+        for (Object[] row : rows) {
+            lastVersions.put((ACCESSION) row[0], ((Number) row[1]).intValue());
+        }
+        return lastVersions;
+    }
+
+    /**
+     * Creates the response of {@link #insert(List)}. Repositories of long accessions can override it to return a
+     * {@link uk.ac.ebi.ampt2d.commons.accession.core.models.LongSaveResponse}, which does not box the accessions.
+     * Otherwise, the monotonic database service converts the response into one after the insert.
+     *
+     * @param expectedAccessions Number of accessions that are going to be inserted
+     */
+    protected SaveResponse<ACCESSION> createSaveResponse(int expectedAccessions) {
+        return new SaveResponse<>();
+    }
+
     private void doTransactionalInsert(List<ENTITY> entities) {
         TransactionTemplate template = new TransactionTemplate(platformTransactionManager);
         template.execute(new TransactionCallbackWithoutResult() {
@@ -24,11 +24,15 @@ import uk.ac.ebi.ampt2d.commons.accession.persistence.jpa.entities.InactiveAcces
 import uk.ac.ebi.ampt2d.commons.accession.persistence.jpa.entities.OperationEntity;
 import uk.ac.ebi.ampt2d.commons.accession.persistence.jpa.models.JpaEvent;
 import uk.ac.ebi.ampt2d.commons.accession.persistence.jpa.repositories.InactiveAccessionRepository;
+import uk.ac.ebi.ampt2d.commons.accession.persistence.models.EventStatusProjection;
 import uk.ac.ebi.ampt2d.commons.accession.persistence.models.IAccessionedObject;
 import uk.ac.ebi.ampt2d.commons.accession.persistence.repositories.IHistoryRepository;
 import uk.ac.ebi.ampt2d.commons.accession.persistence.services.BasicInactiveAccessionService;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
@@ -75,6 +79,31 @@ public class BasicJpaInactiveAccessionService<
 
     }
 
+    /**
+     * All the operations are saved in one call, and then all the inactive objects of the operations in another one.
+     */
+    @Override
+    protected void saveHistories(List<HistoryEntry> entries) {
+        List<OPERATION_ENTITY> operations = new ArrayList<>(entries.size());
+        for (HistoryEntry entry : entries) {
+            OPERATION_ENTITY operation = historyEntitySupplier.get();
+            operation.fill(entry.getType(), entry.getAccession(), entry.getMergeInto(), entry.getReason());
+            operations.add(operation);
+        }
+        Iterator<OPERATION_ENTITY> savedOperations = historyRepository.saveAll(operations).iterator();
+        List<ACCESSION_INACTIVE_ENTITY> accessionInactiveEntities = new ArrayList<>();
+        for (HistoryEntry entry : entries) {
+            OPERATION_ENTITY savedOperation = savedOperations.next();
+            if (entry.getEntities() != null) {
+                entry.getEntities().forEach(entity -> entity.setHistoryId(savedOperation.getId()));
+                accessionInactiveEntities.addAll(entry.getEntities());
+            }
+        }
+        if (!accessionInactiveEntities.isEmpty()) {
+            inactiveAccessionRepository.saveAll(accessionInactiveEntities);
+        }
+    }
+
     @Override
     public Optional<EventType> getLastEventType(ACCESSION accession) {
         final OPERATION_ENTITY lastEvent = historyRepository.findTopByAccessionOrderByCreatedDateDesc(accession);
@@ -84,6 +113,11 @@ public class BasicJpaInactiveAccessionService<
         return Optional.empty();
     }
 
+    @Override
+    protected List<EventStatusProjection<ACCESSION>> findEventStatuses(Collection<ACCESSION> accessions) {
+        return historyRepository.findEventStatusByAccessionIn(accessions);
+    }
+
     @Override
     public IEvent<MODEL, ACCESSION> getLastEvent(ACCESSION accession) {
         OperationEntity<ACCESSION> lastOperation = historyRepository.findTopByAccessionOrderByCreatedDateDesc(accession);
@@ -29,15 +29,23 @@ import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionDeprecatedExc
 import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionDoesNotExistException;
 import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionMergedException;
 import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.HashAlreadyExistsException;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionBatchResult;
 import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionVersionsWrapper;
 import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionWrapper;
 import uk.ac.ebi.ampt2d.commons.accession.core.models.GetOrCreateAccessionWrapper;
+import uk.ac.ebi.ampt2d.commons.accession.hashing.SHA1HashingFunction;
 import uk.ac.ebi.ampt2d.test.configuration.TestJpaDatabaseServiceTestConfiguration;
 import uk.ac.ebi.ampt2d.test.models.TestModel;
 import uk.ac.ebi.ampt2d.test.persistence.TestRepository;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
@@ -78,6 +86,127 @@ public class BasicAccessioningServiceTest {
         assertEquals(3, accessions.size());
     }
 
+    @Test
+    public void accessionAlignedWithInput() throws AccessionCouldNotBeGeneratedException {
+        List<GetOrCreateAccessionWrapper<TestModel, String, String>> accessions = accessioningService
+                .getOrCreateAligned(Arrays.asList(
+                        TestModel.of("service-test-1"),
+                        TestModel.of("service-test-2"),
+                        TestModel.of("service-test-1"),
+                        TestModel.of("service-test-3")
+                ), APPLICATION_INSTANCE_ID);
+        assertEquals(4, accessions.size());
+        assertEquals("service-test-1", accessions.get(0).getData().getValue());
+        assertEquals("service-test-2", accessions.get(1).getData().getValue());
+        assertEquals("service-test-3", accessions.get(3).getData().getValue());
+        assertEquals(accessions.get(0).getAccession(), accessions.get(2).getAccession());
+        assertTrue(accessions.stream().allMatch(GetOrCreateAccessionWrapper::isNewAccession));
+    }
+
+    @Test
+    public void accessionBatch() throws AccessionCouldNotBeGeneratedException {
+        accessioningService.getOrCreate(Arrays.asList(TestModel.of("service-test-1")), APPLICATION_INSTANCE_ID);
+        AccessionBatchResult<TestModel, String, String> accessions = accessioningService.getOrCreateBatch(
+                Arrays.asList(
+                        TestModel.of("service-test-1"),
+                        TestModel.of("service-test-2"),
+                        TestModel.of("service-test-3")
+                ), APPLICATION_INSTANCE_ID);
+        assertEquals(3, accessions.size());
+        assertEquals(2, accessions.getNewAccessionCount());
+        for (int i = 0; i < accessions.size(); i++) {
+            assertNotNull(accessions.getAccession(i));
+            assertEquals(1, accessions.getVersion(i));
+            assertEquals(!accessions.getData(i).getValue().equals("service-test-1"), accessions.isNewAccession(i));
+        }
+    }
+
+    @Test
+    public void accessionPrecomputedHashes() throws AccessionCouldNotBeGeneratedException {
+        SHA1HashingFunction hashingFunction = new SHA1HashingFunction();
+        Map<String, TestModel> hashedMessages = new HashMap<>();
+        hashedMessages.put(hashingFunction.apply("service-test-1"), TestModel.of("service-test-1"));
+        hashedMessages.put(hashingFunction.apply("service-test-2"), TestModel.of("service-test-2"));
+        List<GetOrCreateAccessionWrapper<TestModel, String, String>> accessions =
+                accessioningService.getOrCreateHashed(hashedMessages, APPLICATION_INSTANCE_ID);
+        assertEquals(2, accessions.size());
+        assertTrue(accessions.stream().allMatch(GetOrCreateAccessionWrapper::isNewAccession));
+
+        List<AccessionWrapper<TestModel, String, String>> storedAccessions =
+                accessioningService.getHashed(hashedMessages.keySet());
+        assertEquals(2, storedAccessions.size());
+        assertEquals(2, accessioningService.get(Arrays.asList(TestModel.of("service-test-1"),
+                                                              TestModel.of("service-test-2"))).size());
+    }
+
+    @Test
+    public void accessionInChunks() throws AccessionCouldNotBeGeneratedException {
+        // Each chunk is stored in its own transaction
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+
+        List<List<GetOrCreateAccessionWrapper<TestModel, String, String>>> chunks = new ArrayList<>();
+        accessioningService.getOrCreate(
+                Arrays.asList(
+                        TestModel.of("service-test-1"),
+                        TestModel.of("service-test-2"),
+                        TestModel.of("service-test-2"),
+                        TestModel.of("service-test-1"),
+                        TestModel.of("service-test-3")
+                ).iterator(), 2, APPLICATION_INSTANCE_ID, chunks::add);
+
+        assertEquals(3, chunks.size());
+        assertEquals(2, chunks.get(0).size());
+        assertEquals(2, chunks.get(1).size());
+        assertEquals(1, chunks.get(2).size());
+        assertTrue(chunks.get(0).stream().allMatch(GetOrCreateAccessionWrapper::isNewAccession));
+        assertTrue(chunks.get(1).stream().noneMatch(GetOrCreateAccessionWrapper::isNewAccession));
+        assertTrue(chunks.get(2).get(0).isNewAccession());
+
+        TestTransaction.start();
+        TestTransaction.flagForCommit();
+        chunks.get(0).forEach(accession -> repository.deleteById(accession.getHash()));
+        chunks.get(2).forEach(accession -> repository.deleteById(accession.getHash()));
+        TestTransaction.end();
+    }
+
+    @Test
+    public void accessionInChunksAsynchronously() throws Exception {
+        // Each chunk is stored in its own transaction
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        List<GetOrCreateAccessionWrapper<TestModel, String, String>> accessions;
+        try {
+            accessions = accessioningService.getOrCreateAsync(
+                    Arrays.asList(
+                            TestModel.of("service-test-1"),
+                            TestModel.of("service-test-2"),
+                            TestModel.of("service-test-2"),
+                            TestModel.of("service-test-1"),
+                            TestModel.of("service-test-3")
+                    ), 2, APPLICATION_INSTANCE_ID, executor).get();
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(5, accessions.size());
+        assertTrue(accessions.subList(0, 2).stream().allMatch(GetOrCreateAccessionWrapper::isNewAccession));
+        assertTrue(accessions.subList(2, 4).stream().noneMatch(GetOrCreateAccessionWrapper::isNewAccession));
+        assertTrue(accessions.get(4).isNewAccession());
+        assertEquals(accessions.subList(0, 2).stream().map(GetOrCreateAccessionWrapper::getAccession)
+                             .collect(Collectors.toSet()),
+                     accessions.subList(2, 4).stream().map(GetOrCreateAccessionWrapper::getAccession)
+                             .collect(Collectors.toSet()));
+
+        TestTransaction.start();
+        TestTransaction.flagForCommit();
+        accessions.stream().map(GetOrCreateAccessionWrapper::getHash).distinct()
+                .forEach(hash -> repository.deleteById(hash));
+        TestTransaction.end();
+    }
+
     @Test
     public void getNonGeneratedAccessionsReturnsNothing() throws AccessionCouldNotBeGeneratedException {
         List<AccessionWrapper<TestModel, String, String>> accessions = accessioningService.get(
@@ -0,0 +1,102 @@
+/*
+ *
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.ebi.ampt2d.commons.accession.core;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.context.transaction.TestTransaction;
+import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionCouldNotBeGeneratedException;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.GetOrCreateAccessionWrapper;
+import uk.ac.ebi.ampt2d.commons.accession.generators.SingleAccessionGenerator;
+import uk.ac.ebi.ampt2d.commons.accession.hashing.SHA1HashingFunction;
+import uk.ac.ebi.ampt2d.test.configuration.TestJpaDatabaseServiceTestConfiguration;
+import uk.ac.ebi.ampt2d.test.models.TestModel;
+import uk.ac.ebi.ampt2d.test.persistence.TestRepository;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(SpringRunner.class)
+@DataJpaTest
+@ContextConfiguration(classes = {TestJpaDatabaseServiceTestConfiguration.class})
+public class BasicAccessioningServiceWithAdaptiveSaveModeTest {
+
+    private static String APPLICATION_INSTANCE_ID = "TEST_APPPLICATION_INSTANCE_ID";
+
+    @Autowired
+    private DatabaseService<TestModel, String, String> databaseService;
+
+    @Autowired
+    private TestRepository repository;
+
+    @Test
+    public void switchToPrefilteringWhenObjectsAreResubmitted() throws AccessionCouldNotBeGeneratedException {
+        AdaptiveSaveModeSelector saveModeSelector = new AdaptiveSaveModeSelector(0.5, 0.2);
+        BasicAccessioningService<TestModel, String, String> accessioningService = BasicAccessioningService.builder(
+                SingleAccessionGenerator.ofHashAccessionGenerator(TestModel::getValue, s -> "id-service-" + s),
+                databaseService,
+                TestModel::getValue,
+                new SHA1HashingFunction())
+                .saveModeSelector(saveModeSelector)
+                .build();
+        List<TestModel> objects = Arrays.asList(TestModel.of("adaptive-1"), TestModel.of("adaptive-2"));
+
+        TestTransaction.flagForCommit();
+        List<GetOrCreateAccessionWrapper<TestModel, String, String>> accessions =
+                accessioningService.getOrCreate(objects, APPLICATION_INSTANCE_ID);
+        TestTransaction.end();
+        assertTrue(accessions.stream().allMatch(GetOrCreateAccessionWrapper::isNewAccession));
+        assertEquals(AccessionSaveMode.SAVE_ALL_THEN_RESOLVE, saveModeSelector.getLastSaveMode());
+
+        accessions = accessioningService.getOrCreate(objects, APPLICATION_INSTANCE_ID);
+        assertTrue(accessions.stream().noneMatch(GetOrCreateAccessionWrapper::isNewAccession));
+        assertEquals(AccessionSaveMode.SAVE_ALL_THEN_RESOLVE, saveModeSelector.getLastSaveMode());
+        assertEquals(0.5, saveModeSelector.getDuplicateRatio(), 0.000001);
+
+        accessions = accessioningService.getOrCreate(objects, APPLICATION_INSTANCE_ID);
+        assertTrue(accessions.stream().noneMatch(GetOrCreateAccessionWrapper::isNewAccession));
+        assertEquals(AccessionSaveMode.PREFILTER_EXISTING, saveModeSelector.getLastSaveMode());
+        assertEquals(1, saveModeSelector.getPrefilterExistingCount());
+
+        TestTransaction.start();
+        TestTransaction.flagForCommit();
+        accessions.forEach(accession -> repository.deleteById(accession.getHash()));
+        TestTransaction.end();
+    }
+
+    @Test
+    public void defaultSelectorIsCreatedForAdaptiveSaveMode() {
+        BasicAccessioningService<TestModel, String, String> accessioningService = new BasicAccessioningService<>(
+                SingleAccessionGenerator.ofHashAccessionGenerator(TestModel::getValue, s -> "id-service-" + s),
+                databaseService,
+                TestModel::getValue,
+                new SHA1HashingFunction(),
+                AccessionSaveMode.ADAPTIVE
+        );
+        assertEquals(AdaptiveSaveModeSelector.DEFAULT_DUPLICATE_RATIO_THRESHOLD,
+                     accessioningService.getSaveModeSelector().getDuplicateRatioThreshold(), 0.000001);
+    }
+
+}
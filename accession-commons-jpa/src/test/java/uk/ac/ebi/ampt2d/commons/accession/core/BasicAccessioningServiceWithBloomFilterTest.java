@@ -0,0 +1,151 @@
+/*
+ *
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.ebi.ampt2d.commons.accession.core;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.AdditionalAnswers;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.context.transaction.TestTransaction;
+import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionCouldNotBeGeneratedException;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionWrapper;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.GetOrCreateAccessionWrapper;
+import uk.ac.ebi.ampt2d.commons.accession.generators.SingleAccessionGenerator;
+import uk.ac.ebi.ampt2d.commons.accession.hashing.SHA1HashingFunction;
+import uk.ac.ebi.ampt2d.commons.accession.utils.BloomFilter;
+import uk.ac.ebi.ampt2d.test.configuration.TestJpaDatabaseServiceTestConfiguration;
+import uk.ac.ebi.ampt2d.test.models.TestModel;
+import uk.ac.ebi.ampt2d.test.persistence.TestRepository;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@RunWith(SpringRunner.class)
+@DataJpaTest
+@ContextConfiguration(classes = {TestJpaDatabaseServiceTestConfiguration.class})
+public class BasicAccessioningServiceWithBloomFilterTest {
+
+    private static String APPLICATION_INSTANCE_ID = "TEST_APPPLICATION_INSTANCE_ID";
+
+    @Autowired
+    private DatabaseService<TestModel, String, String> databaseService;
+
+    @Autowired
+    private TestRepository repository;
+
+    private DatabaseService<TestModel, String, String> spiedDatabaseService;
+
+    private BloomFilter<String> existingHashesFilter;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        spiedDatabaseService = Mockito.mock(DatabaseService.class, AdditionalAnswers.delegatesTo(databaseService));
+        existingHashesFilter = BloomFilter.create(1000, 0.000001);
+    }
+
+    private AccessioningService<TestModel, String, String> getAccessioningService() {
+        return BasicAccessioningService.builder(
+                SingleAccessionGenerator.ofHashAccessionGenerator(TestModel::getValue, s -> "id-service-" + s),
+                spiedDatabaseService,
+                TestModel::getValue,
+                new SHA1HashingFunction())
+                .existingHashesFilter(existingHashesFilter)
+                .build();
+    }
+
+    @Test
+    public void newObjectsAreSavedWithoutLookingUpTheirHashes() throws AccessionCouldNotBeGeneratedException {
+        List<GetOrCreateAccessionWrapper<TestModel, String, String>> accessions = getAccessioningService().getOrCreate(
+                Arrays.asList(TestModel.of("bloom-1"), TestModel.of("bloom-2")), APPLICATION_INSTANCE_ID);
+
+        assertEquals(2, accessions.size());
+        assertTrue(accessions.stream().allMatch(GetOrCreateAccessionWrapper::isNewAccession));
+        verify(spiedDatabaseService, never()).findAllByHash(any());
+        accessions.forEach(accession -> assertTrue(existingHashesFilter.mightContain(accession.getHash())));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void onlyHashesMaybePresentAreLookedUp() throws AccessionCouldNotBeGeneratedException {
+        AccessioningService<TestModel, String, String> accessioningService = getAccessioningService();
+        accessioningService.getOrCreate(Arrays.asList(TestModel.of("bloom-1"), TestModel.of("bloom-2")),
+                                        APPLICATION_INSTANCE_ID);
+
+        List<GetOrCreateAccessionWrapper<TestModel, String, String>> accessions = accessioningService.getOrCreate(
+                Arrays.asList(TestModel.of("bloom-1"), TestModel.of("bloom-3")), APPLICATION_INSTANCE_ID);
+
+        assertEquals(2, accessions.size());
+        SHA1HashingFunction sha1 = new SHA1HashingFunction();
+        accessions.forEach(accession -> assertEquals(accession.getData().getValue().equals("bloom-3"),
+                                                     accession.isNewAccession()));
+        verify(spiedDatabaseService, times(1)).findAllByHash(
+                (Collection<String>) Mockito.argThat(hashes -> hashes.equals(
+                        Collections.singleton(sha1.apply("bloom-1")))));
+    }
+
+    @Test
+    public void hashesMissingFromTheFilterAreResolvedAfterSaving() throws AccessionCouldNotBeGeneratedException {
+        // Saved by another application instance, so they are not in the filter
+        TestTransaction.flagForCommit();
+        databaseService.save(Collections.singletonList(new AccessionWrapper<>(
+                "id-service-bloom-1", new SHA1HashingFunction().apply("bloom-1"), TestModel.of("bloom-1"))));
+        TestTransaction.end();
+
+        List<GetOrCreateAccessionWrapper<TestModel, String, String>> accessions = getAccessioningService().getOrCreate(
+                Collections.singletonList(TestModel.of("bloom-1")), APPLICATION_INSTANCE_ID);
+
+        assertEquals(1, accessions.size());
+        assertFalse(accessions.get(0).isNewAccession());
+        assertTrue(existingHashesFilter.mightContain(accessions.get(0).getHash()));
+
+        TestTransaction.start();
+        TestTransaction.flagForCommit();
+        repository.deleteById(accessions.get(0).getHash());
+        TestTransaction.end();
+    }
+
+    @Test
+    public void filterBuiltFromTheDatabase() {
+        databaseService.save(Arrays.asList(
+                new AccessionWrapper<>("a1", "h1", TestModel.of("something1")),
+                new AccessionWrapper<>("a2", "h2", TestModel.of("something2"))));
+
+        databaseService.forEachHash(existingHashesFilter::put);
+
+        assertTrue(existingHashesFilter.mightContain("h1"));
+        assertTrue(existingHashesFilter.mightContain("h2"));
+        assertFalse(existingHashesFilter.mightContain("h3"));
+    }
+
+}
@@ -0,0 +1,108 @@
+/*
+ *
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.ebi.ampt2d.commons.accession.core;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionCouldNotBeGeneratedException;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionWrapper;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.GetOrCreateAccessionWrapper;
+import uk.ac.ebi.ampt2d.commons.accession.generators.SingleAccessionGenerator;
+import uk.ac.ebi.ampt2d.commons.accession.hashing.SHA1HashingFunction;
+import uk.ac.ebi.ampt2d.test.configuration.TestJpaDatabaseServiceTestConfiguration;
+import uk.ac.ebi.ampt2d.test.models.TestModel;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+
+@RunWith(SpringRunner.class)
+@DataJpaTest
+@ContextConfiguration(classes = {TestJpaDatabaseServiceTestConfiguration.class})
+public class BasicAccessioningServiceWithParallelHashingTest {
+
+    private static String APPLICATION_INSTANCE_ID = "TEST_APPPLICATION_INSTANCE_ID";
+
+    @Autowired
+    private DatabaseService<TestModel, String, String> databaseService;
+
+    private ForkJoinPool hashingPool;
+
+    @Before
+    public void setUp() {
+        hashingPool = new ForkJoinPool(4);
+    }
+
+    @After
+    public void tearDown() {
+        hashingPool.shutdown();
+    }
+
+    /**
+     * Objects are identified only by the text before '#', so objects differing after it share the same hash
+     */
+    private AccessioningService<TestModel, String, String> getAccessioningService() {
+        return BasicAccessioningService.builder(
+                SingleAccessionGenerator.ofHashAccessionGenerator(TestModel::getValue, s -> "id-service-" + s),
+                databaseService,
+                model -> model.getValue().split("#")[0],
+                new SHA1HashingFunction())
+                .parallelHashing(hashingPool, 2)
+                .build();
+    }
+
+    @Test
+    public void accessionWithRepeatedElementsKeepsFirstOccurrence() throws AccessionCouldNotBeGeneratedException {
+        List<GetOrCreateAccessionWrapper<TestModel, String, String>> accessions = getAccessioningService().getOrCreate(
+                Arrays.asList(
+                        TestModel.of("parallel-1#first"),
+                        TestModel.of("parallel-2#first"),
+                        TestModel.of("parallel-1#second"),
+                        TestModel.of("parallel-3#first"),
+                        TestModel.of("parallel-2#second")
+                ), APPLICATION_INSTANCE_ID);
+        assertEquals(3, accessions.size());
+        accessions.forEach(accession -> assertEquals("first", accession.getData().getValue().split("#")[1]));
+    }
+
+    @Test
+    public void getReturnsSameHashesAsSerialHashing() throws AccessionCouldNotBeGeneratedException {
+        AccessioningService<TestModel, String, String> accessioningService = getAccessioningService();
+        accessioningService.getOrCreate(Arrays.asList(TestModel.of("parallel-1"), TestModel.of("parallel-2")),
+                                        APPLICATION_INSTANCE_ID);
+
+        List<AccessionWrapper<TestModel, String, String>> accessions = accessioningService.get(Arrays.asList(
+                TestModel.of("parallel-1#other"),
+                TestModel.of("parallel-2"),
+                TestModel.of("parallel-3")
+        ));
+        assertEquals(2, accessions.size());
+        SHA1HashingFunction sha1 = new SHA1HashingFunction();
+        accessions.forEach(accession -> assertEquals(sha1.apply(accession.getData().getValue()),
+                                                     accession.getHash()));
+    }
+
+}
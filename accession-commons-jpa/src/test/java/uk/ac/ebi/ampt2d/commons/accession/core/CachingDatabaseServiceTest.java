@@ -0,0 +1,162 @@
+/*
+ *
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.ebi.ampt2d.commons.accession.core;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionWrapper;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.SaveResponse;
+import uk.ac.ebi.ampt2d.test.configuration.TestJpaDatabaseServiceTestConfiguration;
+import uk.ac.ebi.ampt2d.test.models.TestModel;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
+
+@RunWith(SpringRunner.class)
+@DataJpaTest
+@ContextConfiguration(classes = {TestJpaDatabaseServiceTestConfiguration.class})
+public class CachingDatabaseServiceTest {
+
+    private static final AccessionWrapper<TestModel, String, String> TEST_MODEL_1 =
+            new AccessionWrapper<>("a1", "h1", TestModel.of("something1"));
+    private static final AccessionWrapper<TestModel, String, String> TEST_MODEL_2 =
+            new AccessionWrapper<>("a2", "h2", TestModel.of("something2"));
+    private static final AccessionWrapper<TestModel, String, String> TEST_MODEL_3 =
+            new AccessionWrapper<>("a3", "h3", TestModel.of("something3"));
+
+    @Autowired
+    private DatabaseService<TestModel, String, String> databaseService;
+
+    private CachingDatabaseService<TestModel, String, String> service;
+
+    @Before
+    public void setUp() {
+        service = new CachingDatabaseService<>(databaseService, 2);
+    }
+
+    @Test
+    public void findAllByHashCachesFoundObjects() {
+        databaseService.save(Arrays.asList(TEST_MODEL_1, TEST_MODEL_2));
+
+        assertEquals(2, service.findAllByHash(Arrays.asList("h1", "h2", "h3")).size());
+        assertEquals(0, service.getHitCount());
+        assertEquals(3, service.getMissCount());
+
+        List<AccessionWrapper<TestModel, String, String>> accessions = service.findAllByHash(Arrays.asList("h1", "h2"));
+        assertEquals(2, accessions.size());
+        assertEquals("something1", accessions.get(0).getData().getValue());
+        assertEquals(2, service.getHitCount());
+        assertEquals(3, service.getMissCount());
+    }
+
+    @Test
+    public void findAllByHashReturnsRepeatedHashesOnce() {
+        databaseService.save(Collections.singletonList(TEST_MODEL_2));
+        service.save(Collections.singletonList(TEST_MODEL_1));
+
+        List<AccessionWrapper<TestModel, String, String>> accessions =
+                service.findAllByHash(Arrays.asList("h1", "h1", "h2", "h2"));
+        assertEquals(Arrays.asList("a1", "a2"), accessions.stream().map(AccessionWrapper::getAccession)
+                .collect(Collectors.toList()));
+        assertEquals(1, service.getHitCount());
+        assertEquals(1, service.getMissCount());
+    }
+
+    @Test
+    public void saveCachesSavedObjects() {
+        service.save(Arrays.asList(TEST_MODEL_1, TEST_MODEL_2));
+
+        assertEquals(2, service.findAllByHash(Arrays.asList("h1", "h2")).size());
+        assertEquals(2, service.getHitCount());
+        assertEquals(0, service.getMissCount());
+    }
+
+    @Test
+    public void saveDoesNotCacheObjectsIfAnAccessionIsInvalidatedMeanwhile() {
+        DatabaseService<TestModel, String, String> dbService = Mockito.mock(DatabaseService.class);
+        CachingDatabaseService<TestModel, String, String> cachingService = new CachingDatabaseService<>(dbService, 2);
+        when(dbService.save(anyList())).thenAnswer(invocation -> {
+            cachingService.invalidateAll();
+            return new SaveResponse<>(Collections.singleton("a1"), Collections.emptySet());
+        });
+
+        cachingService.save(Collections.singletonList(TEST_MODEL_1));
+
+        assertEquals(0, cachingService.getSize());
+    }
+
+    @Test
+    public void leastRecentlyUsedObjectIsEvicted() {
+        service.save(Arrays.asList(TEST_MODEL_1, TEST_MODEL_2));
+        service.findAllByHash(Collections.singletonList("h1"));
+        service.save(Collections.singletonList(TEST_MODEL_3));
+
+        assertEquals(2, service.getSize());
+        assertEquals(1, service.getEvictionCount());
+        assertEquals(2, service.findAllByHash(Arrays.asList("h1", "h3")).size());
+        assertEquals(3, service.getHitCount());
+        assertEquals(1, service.findAllByHash(Collections.singletonList("h2")).size());
+        assertEquals(1, service.getMissCount());
+    }
+
+    @Test
+    public void updateInvalidatesCachedObjects() throws Exception {
+        service.save(Collections.singletonList(TEST_MODEL_1));
+
+        service.update("a1", "h1-updated", TestModel.of("something1-updated"), 1);
+
+        assertTrue(service.findAllByHash(Collections.singletonList("h1")).isEmpty());
+        assertEquals(1, service.getMissCount());
+    }
+
+    @Test
+    public void deprecateInvalidatesCachedObjects() throws Exception {
+        service.save(Arrays.asList(TEST_MODEL_1, TEST_MODEL_2));
+
+        service.deprecate("a1", "reasons");
+
+        assertTrue(service.findAllByHash(Collections.singletonList("h1")).isEmpty());
+        assertEquals(1, service.findAllByHash(Collections.singletonList("h2")).size());
+        assertEquals(1, service.getHitCount());
+        assertEquals(1, service.getMissCount());
+    }
+
+    @Test
+    public void mergeInvalidatesCachedObjects() throws Exception {
+        service.save(Arrays.asList(TEST_MODEL_1, TEST_MODEL_2));
+
+        service.merge("a1", "a2", "reasons");
+
+        assertTrue(service.findAllByHash(Collections.singletonList("h1")).isEmpty());
+        assertEquals(0, service.getSize());
+    }
+
+}
@@ -28,16 +28,22 @@ import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionDeprecatedExc
 import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionDoesNotExistException;
 import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionMergedException;
 import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.HashAlreadyExistsException;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionStatus;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionStatusWrapper;
 import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionVersionsWrapper;
 import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionWrapper;
 import uk.ac.ebi.ampt2d.commons.accession.core.models.GetOrCreateAccessionWrapper;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.OperationOutcome;
 import uk.ac.ebi.ampt2d.test.configuration.TestJpaDatabaseServiceTestConfiguration;
 import uk.ac.ebi.ampt2d.test.models.TestModel;
 
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 @RunWith(SpringRunner.class)
 @DataJpaTest
@@ -79,6 +85,21 @@ public class DecoratedAccessioningServiceTest {
         assertEquals("prefix-id-service-service-test-1", accession.getAccession());
     }
 
+    @Test
+    public void assertGetByAccessions() throws AccessionCouldNotBeGeneratedException {
+        assertGetOrCreate();
+        List<AccessionStatusWrapper<TestModel, String, String>> accessions = getPrefixedService().getByAccessions(
+                Arrays.asList("service-service-test-1", "prefix-id-service-service-test-1", "prefix-missing"));
+        assertEquals(3, accessions.size());
+        assertEquals(AccessionStatus.DOES_NOT_EXIST, accessions.get(0).getStatus());
+        assertEquals("service-service-test-1", accessions.get(0).getAccession());
+        assertEquals(AccessionStatus.ACTIVE, accessions.get(1).getStatus());
+        assertEquals("prefix-id-service-service-test-1", accessions.get(1).getAccession());
+        assertEquals("prefix-id-service-service-test-1", accessions.get(1).getLastVersion().getAccession());
+        assertEquals(AccessionStatus.DOES_NOT_EXIST, accessions.get(2).getStatus());
+        assertEquals("prefix-missing", accessions.get(2).getAccession());
+    }
+
     @Test(expected = AccessionDoesNotExistException.class)
     public void assertGetByAccessionWrongPrefix()
             throws AccessionCouldNotBeGeneratedException, AccessionDeprecatedException,
@@ -150,4 +171,29 @@ public class DecoratedAccessioningServiceTest {
         getPrefixedService().deprecate("prefix-id-service-service-test-1", "reason");
     }
 
+    @Test
+    public void assertDeprecateAll() throws AccessionCouldNotBeGeneratedException {
+        assertGetOrCreate();
+        List<OperationOutcome<String, Void>> outcomes = getPrefixedService().deprecateAll(
+                Arrays.asList("prefix-id-service-service-test-1", "service-service-test-1"), "reason");
+        assertEquals(2, outcomes.size());
+        assertEquals("prefix-id-service-service-test-1", outcomes.get(0).getAccession());
+        assertTrue(outcomes.get(0).isSuccessful());
+        assertEquals("service-service-test-1", outcomes.get(1).getAccession());
+        assertTrue(outcomes.get(1).getException() instanceof AccessionDoesNotExistException);
+    }
+
+    @Test
+    public void assertMergeAll() throws AccessionCouldNotBeGeneratedException {
+        getPrefixedService().getOrCreate(Arrays.asList(TestModel.of("service-test-1"), TestModel.of("service-test-2")),
+                                         APPLICATION_INSTANCE_ID);
+        Map<String, String> merges = new LinkedHashMap<>();
+        merges.put("prefix-id-service-service-test-1", "prefix-id-service-service-test-2");
+        merges.put("prefix-id-service-service-test-2", "service-service-test-3");
+        List<OperationOutcome<String, Void>> outcomes = getPrefixedService().mergeAll(merges, "reason");
+        assertEquals(2, outcomes.size());
+        assertTrue(outcomes.get(0).isSuccessful());
+        assertTrue(outcomes.get(1).getException() instanceof AccessionDoesNotExistException);
+    }
+
 }
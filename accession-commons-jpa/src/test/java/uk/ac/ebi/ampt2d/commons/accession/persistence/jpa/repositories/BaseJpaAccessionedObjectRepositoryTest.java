@@ -31,6 +31,7 @@ import uk.ac.ebi.ampt2d.test.persistence.TestRepository;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Map;
 
 import static junit.framework.TestCase.assertEquals;
 import static junit.framework.TestCase.assertTrue;
@@ -86,4 +87,15 @@ public class BaseJpaAccessionedObjectRepositoryTest {
         assertEquals("something2", repository.findByAccessionAndVersion("a1", 2).getValue());
     }
 
+    @Test
+    public void testFindLastVersions() {
+        repository.insert(Arrays.asList(new TestEntity("a1", "h1", 1, "something1"),
+                                        new TestEntity("a1", "h2", 2, "something2"),
+                                        new TestEntity("a2", "h3", 1, "something3")));
+        Map<String, Integer> lastVersions = repository.findLastVersions(Arrays.asList("a1", "a2", "a3"));
+        assertEquals(2, lastVersions.size());
+        assertEquals(2, (int) lastVersions.get("a1"));
+        assertEquals(1, (int) lastVersions.get("a2"));
+    }
+
 }
@@ -30,10 +30,15 @@ import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionDeprecatedExc
 import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionDoesNotExistException;
 import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionMergedException;
 import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.HashAlreadyExistsException;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionStatus;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionStatusWrapper;
 import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionVersionsWrapper;
 import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionWrapper;
 import uk.ac.ebi.ampt2d.commons.accession.core.models.EventType;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.OperationOutcome;
 import uk.ac.ebi.ampt2d.commons.accession.core.models.SaveResponse;
+import uk.ac.ebi.ampt2d.commons.accession.persistence.models.EventStatusProjection;
+import uk.ac.ebi.ampt2d.commons.accession.persistence.services.InactiveAccessionService;
 import uk.ac.ebi.ampt2d.test.configuration.TestJpaDatabaseServiceTestConfiguration;
 import uk.ac.ebi.ampt2d.test.models.TestModel;
 import uk.ac.ebi.ampt2d.test.persistence.TestEntity;
@@ -45,7 +50,9 @@ import uk.ac.ebi.ampt2d.test.persistence.TestStringOperationEntity;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.Assert.assertEquals;
@@ -77,6 +84,9 @@ public class JpaBasicSpringDataRepositoryDatabaseServiceTest {
     @Autowired
     private TestRepository repository;
 
+    @Autowired
+    private InactiveAccessionService<TestModel, String, TestEntity> inactiveService;
+
     @Test
     public void testFindInEmptyRepository() {
         assertEquals(0, repository.findByAccession("a1").size());
@@ -179,6 +189,21 @@ public class JpaBasicSpringDataRepositoryDatabaseServiceTest {
         service.update("a2", "h1", TestModel.of("something2"), 1);
     }
 
+    @Test(expected = AccessionDoesNotExistException.class)
+    public void updateWithoutExistingVersionFails() throws AccessionDoesNotExistException,
+            HashAlreadyExistsException, AccessionDeprecatedException, AccessionMergedException {
+        service.save(Arrays.asList(new AccessionWrapper<>("a2", "h1", TestModel.of("something2"))));
+        service.update("a2", "h2", TestModel.of("something2b"), 2);
+    }
+
+    @Test(expected = HashAlreadyExistsException.class)
+    public void patchWithObjectOfAnotherAccessionFails() throws AccessionDoesNotExistException,
+            HashAlreadyExistsException, AccessionDeprecatedException, AccessionMergedException {
+        service.save(Arrays.asList(new AccessionWrapper<>("a1", "h1", TestModel.of("something1")),
+                                   new AccessionWrapper<>("a2", "h2", TestModel.of("something2"))));
+        service.patch("a2", "h1", TestModel.of("something1"), "patch");
+    }
+
     @Test
     public void updateDoesNotCreateNewVersion() throws AccessionDoesNotExistException,
             HashAlreadyExistsException, AccessionDeprecatedException, AccessionMergedException {
@@ -396,4 +421,163 @@ public class JpaBasicSpringDataRepositoryDatabaseServiceTest {
         service.merge("a1", "a2", "reasons");
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testFindLastVersionByAccessions() throws AccessionDoesNotExistException,
+            AccessionDeprecatedException, AccessionMergedException, HashAlreadyExistsException {
+        service.save(Arrays.asList(TEST_MODEL_1, TEST_MODEL_2, TEST_MODEL_3,
+                                   new AccessionWrapper("a4", "h4", TestModel.of("something4"))));
+        service.patch("a1", "h1b", TestModel.of("something1b"), "patch");
+        service.deprecate("a2", "reasons");
+        service.merge("a3", "a4", "reasons");
+
+        List<AccessionStatusWrapper<TestModel, String, String>> accessions = service.findLastVersionByAccessions(
+                Arrays.asList("a1", "a2", "a3", "doesnotexist", "a1"));
+
+        assertEquals(5, accessions.size());
+        assertEquals(AccessionStatus.ACTIVE, accessions.get(0).getStatus());
+        assertEquals(2, accessions.get(0).getLastVersion().getVersion());
+        assertEquals("something1b", accessions.get(0).getLastVersion().getData().getValue());
+        assertEquals(AccessionStatus.DEPRECATED, accessions.get(1).getStatus());
+        assertEquals("a2", accessions.get(1).getAccession());
+        assertEquals(AccessionStatus.MERGED, accessions.get(2).getStatus());
+        assertEquals("a4", accessions.get(2).getMergedInto());
+        assertEquals(AccessionStatus.DOES_NOT_EXIST, accessions.get(3).getStatus());
+        assertEquals("doesnotexist", accessions.get(3).getAccession());
+        assertEquals(AccessionStatus.ACTIVE, accessions.get(4).getStatus());
+        assertEquals("a1", accessions.get(4).getAccession());
+    }
+
+    @Test
+    public void testLastEventStatuses() throws AccessionDoesNotExistException, AccessionDeprecatedException,
+            AccessionMergedException, HashAlreadyExistsException {
+        service.save(Arrays.asList(TEST_MODEL_1, TEST_MODEL_2, TEST_MODEL_3));
+        service.patch("a1", "h4", TestModel.of("something1b"), "patch");
+        service.deprecate("a1", "reasons");
+        service.merge("a2", "a3", "reasons");
+
+        Map<String, EventStatusProjection<String>> lastEvents = inactiveService.getLastEventStatuses(
+                Arrays.asList("a1", "a2", "a3"));
+        assertEquals(2, lastEvents.size());
+        assertEquals(EventType.DEPRECATED, lastEvents.get("a1").getEventType());
+        assertEquals(EventType.MERGED, lastEvents.get("a2").getEventType());
+        assertEquals("a3", lastEvents.get("a2").getMergeInto());
+    }
+
+    @Test
+    public void patchAllCreatesNewVersionsAndReportsFailures() throws AccessionDoesNotExistException,
+            HashAlreadyExistsException, AccessionDeprecatedException, AccessionMergedException {
+        service.save(Arrays.asList(TEST_MODEL_1, TEST_MODEL_2, TEST_MODEL_3));
+        service.deprecate("a3", "reasons");
+
+        List<OperationOutcome<String, AccessionVersionsWrapper<TestModel, String, String>>> outcomes =
+                service.patchAll(Arrays.asList(
+                        new AccessionWrapper<>("a1", "h1b", TestModel.of("something1b")),
+                        new AccessionWrapper<>("a2", "h1", TestModel.of("something1")),
+                        new AccessionWrapper<>("a3", "h3b", TestModel.of("something3b")),
+                        new AccessionWrapper<>("doesnotexist", "h4", TestModel.of("something4"))), "patch");
+
+        assertEquals(4, outcomes.size());
+        assertTrue(outcomes.get(0).isSuccessful());
+        assertEquals("a1", outcomes.get(0).getAccession());
+        assertEquals(1, outcomes.get(0).getResult().getModelWrappers().size());
+        assertEquals(2, outcomes.get(0).getResult().getModelWrappers().get(0).getVersion());
+        assertTrue(outcomes.get(1).getException() instanceof HashAlreadyExistsException);
+        assertTrue(outcomes.get(2).getException() instanceof AccessionDeprecatedException);
+        assertTrue(outcomes.get(3).getException() instanceof AccessionDoesNotExistException);
+
+        assertEquals(2, service.findLastVersionByAccession("a1").getVersion());
+        assertEquals("something1b", service.findLastVersionByAccession("a1").getData().getValue());
+        assertEquals(1, service.findLastVersionByAccession("a2").getVersion());
+        List<TestStringOperationEntity> operations = historyRepository.findAllByAccession("a1");
+        assertEquals(1, operations.size());
+        assertEquals(EventType.PATCHED, operations.get(0).getEventType());
+        assertTrue(historyRepository.findAllByAccession("a2").isEmpty());
+    }
+
+    @Test
+    public void updateAllReplacesVersionsAndReportsFailures() throws AccessionDoesNotExistException,
+            HashAlreadyExistsException, AccessionDeprecatedException, AccessionMergedException {
+        service.save(Arrays.asList(TEST_MODEL_1, TEST_MODEL_2));
+
+        List<OperationOutcome<String, AccessionVersionsWrapper<TestModel, String, String>>> outcomes =
+                service.updateAll(Arrays.asList(
+                        new AccessionWrapper<>("a1", "h1b", TestModel.of("something1b"), 1),
+                        new AccessionWrapper<>("a2", "h2b", TestModel.of("something2b"), 2)));
+
+        assertEquals(2, outcomes.size());
+        assertTrue(outcomes.get(0).isSuccessful());
+        assertEquals(1, outcomes.get(0).getResult().getModelWrappers().size());
+        assertTrue(outcomes.get(1).getException() instanceof AccessionDoesNotExistException);
+
+        AccessionWrapper<TestModel, String, String> updated = service.findLastVersionByAccession("a1");
+        assertEquals(1, updated.getVersion());
+        assertEquals("something1b", updated.getData().getValue());
+        assertEquals("something2", service.findLastVersionByAccession("a2").getData().getValue());
+        assertEquals(1, inactiveRepository.count());
+    }
+
+    @Test
+    public void deprecateAllDeprecatesAndReportsFailures() throws AccessionDoesNotExistException,
+            HashAlreadyExistsException, AccessionDeprecatedException, AccessionMergedException {
+        service.save(Arrays.asList(TEST_MODEL_1, TEST_MODEL_2, TEST_MODEL_3));
+        service.patch("a1", "h1b", TestModel.of("something1b"), "patch");
+
+        List<OperationOutcome<String, Void>> outcomes = service.deprecateAll(
+                Arrays.asList("a1", "a2", "doesnotexist", "a1"), "reasons");
+
+        assertEquals(4, outcomes.size());
+        assertTrue(outcomes.get(0).isSuccessful());
+        assertTrue(outcomes.get(1).isSuccessful());
+        assertTrue(outcomes.get(2).getException() instanceof AccessionDoesNotExistException);
+        assertTrue(outcomes.get(3).getException() instanceof AccessionDeprecatedException);
+
+        final TestStringOperationEntity entity = historyRepository.findTopByAccessionOrderByCreatedDateDesc("a1");
+        assertEquals(EventType.DEPRECATED, entity.getEventType());
+        assertEquals("reasons", entity.getReason());
+        assertEquals(2, inactiveRepository.findAllByHistoryId(entity.getId()).size());
+        assertEquals(0, repository.findByAccession("a1").size());
+        assertEquals(0, repository.findByAccession("a2").size());
+        assertThrows(AccessionDeprecatedException.class, () -> service.findLastVersionByAccession("a2"));
+        assertEquals(1, service.findLastVersionByAccession("a3").getVersion());
+    }
+
+    @Test
+    public void deprecateAllAndAccessionSameObjectAgain() throws AccessionDoesNotExistException,
+            AccessionDeprecatedException, AccessionMergedException {
+        service.save(Arrays.asList(TEST_MODEL_1));
+        assertTrue(service.deprecateAll(Arrays.asList("a1"), "reasons").get(0).isSuccessful());
+        assertEquals(0, repository.findByAccession("a1").size());
+        service.save(Arrays.asList(TEST_MODEL_1));
+        assertEquals(1, repository.findByAccession("a1").size());
+    }
+
+    @Test
+    public void mergeAllAppliesMergesInOrder() throws AccessionDoesNotExistException, HashAlreadyExistsException,
+            AccessionDeprecatedException, AccessionMergedException {
+        service.save(Arrays.asList(TEST_MODEL_1, TEST_MODEL_2, TEST_MODEL_3));
+        Map<String, String> merges = new LinkedHashMap<>();
+        merges.put("a1", "a2");
+        merges.put("a3", "a1");
+        merges.put("a2", "doesnotexist");
+
+        List<OperationOutcome<String, Void>> outcomes = service.mergeAll(merges, "reasons");
+
+        assertEquals(3, outcomes.size());
+        assertEquals("a1", outcomes.get(0).getAccession());
+        assertTrue(outcomes.get(0).isSuccessful());
+        assertTrue(outcomes.get(1).getException() instanceof AccessionMergedException);
+        assertEquals("a2", ((AccessionMergedException) outcomes.get(1).getException()).getDestinationAccessionId());
+        assertTrue(outcomes.get(2).getException() instanceof AccessionDoesNotExistException);
+
+        Map<String, EventStatusProjection<String>> lastEvents = inactiveService.getLastEventStatuses(
+                Arrays.asList("a1", "a2", "a3"));
+        assertEquals(1, lastEvents.size());
+        assertEquals(EventType.MERGED, lastEvents.get("a1").getEventType());
+        assertEquals("a2", lastEvents.get("a1").getMergeInto());
+        assertEquals(0, repository.findByAccession("a1").size());
+        assertEquals(1, inactiveRepository.count());
+        assertEquals("something3", service.findLastVersionByAccession("a3").getData().getValue());
+        assertEquals("something2", service.findLastVersionByAccession("a2").getData().getValue());
+    }
+
+}
@@ -111,6 +111,17 @@ public class BasicRestControllerTest {
         doAccession("simpleTest2", "simpleTest3");
     }
 
+    @Test
+    public void testAccessionResponseFields() throws Exception {
+        doAccession(status().isOk(), "fieldsTest")
+                .andExpect(jsonPath("$[0].accession").isNotEmpty())
+                .andExpect(jsonPath("$[0].version").value(1))
+                .andExpect(jsonPath("$[0].data.value").value("fieldsTest"))
+                .andExpect(jsonPath("$[0].newAccession").value(true));
+        doAccession(status().isOk(), "fieldsTest")
+                .andExpect(jsonPath("$[0].newAccession").value(false));
+    }
+
     @Test
     public void testThrowExceptions() throws Exception {
         doAccession(status().isInternalServerError(), "MissingUnsavedAccessionsException")
@@ -306,4 +317,53 @@ public class BasicRestControllerTest {
                 mergeInto));
     }
 
+    @Test
+    public void testBulkDeprecate() throws Exception {
+        String accession1 = extractAccession(doAccession("bulk-deprecate-test-1"));
+        String accession2 = extractAccession(doAccession("bulk-deprecate-test-2"));
+        mockMvc.perform(post("/v1/test/bulk/deprecate").param("reason", "bulk")
+                                .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON)
+                                .content("[\"" + accession1 + "\", \"notExistingId\", \"" + accession2 + "\"]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(3)))
+                .andExpect(jsonPath("$[0].accession").value(accession1))
+                .andExpect(jsonPath("$[0].successful").value(true))
+                .andExpect(jsonPath("$[1].successful").value(false))
+                .andExpect(jsonPath("$[1].exception")
+                        .value("uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionDoesNotExistException"))
+                .andExpect(jsonPath("$[2].successful").value(true));
+        doGet(accession1, status().isGone());
+        doGet(accession2, status().isGone());
+    }
+
+    @Test
+    public void testBulkMerge() throws Exception {
+        String accession1 = extractAccession(doAccession("bulk-merge-test-1"));
+        String accession2 = extractAccession(doAccession("bulk-merge-test-2"));
+        String accession3 = extractAccession(doAccession("bulk-merge-test-3"));
+        doBulkMerge("{\"" + accession1 + "\": \"" + accession2 + "\", \"" + accession3 + "\": \"" + accession1 + "\"}")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].accession").value(accession1))
+                .andExpect(jsonPath("$[0].successful").value(true))
+                .andExpect(jsonPath("$[1].accession").value(accession3))
+                .andExpect(jsonPath("$[1].successful").value(false))
+                .andExpect(jsonPath("$[1].message")
+                                   .value(accession1 + " has been already merged into " + accession2));
+        doGet(accession1, status().is3xxRedirection()).andExpect(redirectedUrlPattern("**/v1/test/" + accession2));
+        doGet(accession3);
+    }
+
+    @Test
+    public void testBulkMergeWithSelf() throws Exception {
+        doBulkMerge("{\"accession\": \"accession\"}")
+                .andExpect(status().is4xxClientError())
+                .andExpect(jsonPath("$.message").value("Accessions cannot be self merged"));
+    }
+
+    private ResultActions doBulkMerge(String merges) throws Exception {
+        return mockMvc.perform(post("/v1/test/bulk/merge").contentType(MediaType.APPLICATION_JSON)
+                                       .accept(MediaType.APPLICATION_JSON).content(merges));
+    }
+
 }
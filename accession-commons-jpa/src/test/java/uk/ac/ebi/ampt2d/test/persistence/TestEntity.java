@@ -22,8 +22,11 @@ import uk.ac.ebi.ampt2d.commons.accession.persistence.jpa.entities.AccessionedEn
 import uk.ac.ebi.ampt2d.test.models.TestModel;
 
 import javax.persistence.Entity;
+import javax.persistence.Index;
+import javax.persistence.Table;
 
 @Entity
+@Table(indexes = @Index(name = "ACCESSION_VERSION_INDEX", columnList = "accession,version"))
 public class TestEntity extends AccessionedEntity<TestModel, String> implements TestModel {
 
     private String something;
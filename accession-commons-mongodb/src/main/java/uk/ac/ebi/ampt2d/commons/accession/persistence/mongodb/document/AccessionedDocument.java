@@ -20,6 +20,8 @@ package uk.ac.ebi.ampt2d.commons.accession.persistence.mongodb.document;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.domain.Persistable;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.index.Indexed;
 import uk.ac.ebi.ampt2d.commons.accession.persistence.models.IAccessionedObject;
 
@@ -28,11 +30,15 @@ import java.time.LocalDateTime;
 
 /**
  * Base class for accessioned objects to be serialized as MongoDB documents.
- * The derived classes must be annotated as Document.
+ * The derived classes must be annotated as Document. Their collections are indexed by accession and version, to find
+ * the last version of an accession.
  *
  * @param <MODEL> Type of the objects identified by the accessions
  * @param <ACCESSION> Type of the accession that identifies an object of a particular model
  */
+@CompoundIndexes({
+        @CompoundIndex(name = "accession_version", def = "{'accession': 1, 'version': -1}", background = true)
+})
 public abstract class AccessionedDocument<MODEL, ACCESSION extends Serializable>
         implements IAccessionedObject<MODEL, String, ACCESSION>, Persistable<String> {
 
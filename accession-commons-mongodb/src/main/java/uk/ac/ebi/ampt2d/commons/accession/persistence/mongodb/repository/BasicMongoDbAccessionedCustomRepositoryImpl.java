@@ -19,11 +19,15 @@ package uk.ac.ebi.ampt2d.commons.accession.persistence.mongodb.repository;
 
 import com.mongodb.bulk.BulkWriteError;
 import com.mongodb.MongoBulkWriteException;
+import org.bson.Document;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import uk.ac.ebi.ampt2d.commons.accession.core.models.SaveResponse;
 import uk.ac.ebi.ampt2d.commons.accession.persistence.repositories.IAccessionedObjectCustomRepository;
 import uk.ac.ebi.ampt2d.commons.accession.persistence.mongodb.document.AccessionedDocument;
@@ -31,18 +35,23 @@ import uk.ac.ebi.ampt2d.commons.accession.persistence.mongodb.document.Accession
 import java.io.Serializable;
 import java.time.LocalDateTime;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 public abstract class BasicMongoDbAccessionedCustomRepositoryImpl<
         ACCESSION extends Serializable,
         DOCUMENT extends AccessionedDocument<?, ACCESSION>>
         implements IAccessionedObjectCustomRepository<ACCESSION, DOCUMENT> {
 
+    private static final int DELETE_CHUNK_SIZE = 1000;
+
     private final static Logger logger = LoggerFactory.getLogger(BasicMongoDbAccessionedCustomRepositoryImpl.class);
 
     private final Class<DOCUMENT> clazz;
@@ -75,6 +84,39 @@ public abstract class BasicMongoDbAccessionedCustomRepositoryImpl<
         return generateSaveResponse(documents, erroneousIds);
     }
 
+    /**
+     * The documents are removed with one query on their ids per chunk of hashes.
+     */
+    @Override
+    public void bulkDelete(Collection<DOCUMENT> documents) {
+        List<String> hashes = documents.stream().map(AccessionedDocument::getHashedMessage)
+                .collect(Collectors.toList());
+        for (int start = 0; start < hashes.size(); start += DELETE_CHUNK_SIZE) {
+            List<String> chunk = hashes.subList(start, Math.min(start + DELETE_CHUNK_SIZE, hashes.size()));
+            mongoTemplate.remove(Query.query(Criteria.where("_id").in(chunk)), clazz);
+        }
+    }
+
+    /**
+     * The last versions are read with an aggregation that groups the documents of the accessions, which can be
+     * answered from the index on accession and version.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<ACCESSION, Integer> findLastVersions(Collection<ACCESSION> accessions) {
+        Map<ACCESSION, Integer> lastVersions = new HashMap<>();
+        if (accessions.isEmpty()) {
+            return lastVersions;
+        }
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("accession").in(accessions)),
+                Aggregation.group("accession").max("version").as("version"));
+        for (Document result : mongoTemplate.aggregate(aggregation, clazz, Document.class)) {
+            lastVersions.put((ACCESSION) result.get("_id"), ((Number) result.get("version")).intValue());
+        }
+        return lastVersions;
+    }
+
     private void checkHashUniqueness(Collection<DOCUMENT> documents) {
         final Set<String> duplicatedHash = new HashSet<>();
         documents.forEach(document -> {
@@ -116,18 +158,27 @@ public abstract class BasicMongoDbAccessionedCustomRepositoryImpl<
     }
 
     private SaveResponse<ACCESSION> generateSaveResponse(Collection<DOCUMENT> documents, Set<String> duplicatedHash) {
-        final Set<ACCESSION> savedAccessions = new HashSet<>();
-        final Set<ACCESSION> saveFailedAccessions = new HashSet<>();
+        final SaveResponse<ACCESSION> saveResponse = createSaveResponse(documents.size());
 
         documents.forEach(document -> {
             if (!duplicatedHash.contains(document.getHashedMessage())) {
-                savedAccessions.add(document.getAccession());
+                saveResponse.addSavedAccession(document.getAccession());
             } else {
-                saveFailedAccessions.add(document.getAccession());
+                saveResponse.addSaveFailedAccession(document.getAccession());
             }
         });
 
-        return new SaveResponse<>(savedAccessions, saveFailedAccessions);
+        return saveResponse;
+    }
+
+    /**
+     * Creates the response of {@link #insert(List)}. Repositories of long accessions can override it to return a
+     * {@link uk.ac.ebi.ampt2d.commons.accession.core.models.LongSaveResponse}, which does not box the accessions.
+     *
+     * @param expectedAccessions Number of accessions that are going to be inserted
+     */
+    protected SaveResponse<ACCESSION> createSaveResponse(int expectedAccessions) {
+        return new SaveResponse<>();
     }
 
 }
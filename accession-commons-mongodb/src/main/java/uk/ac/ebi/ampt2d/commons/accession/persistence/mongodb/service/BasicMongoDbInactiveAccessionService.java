@@ -19,6 +19,7 @@ package uk.ac.ebi.ampt2d.commons.accession.persistence.mongodb.service;
 
 import uk.ac.ebi.ampt2d.commons.accession.core.models.EventType;
 import uk.ac.ebi.ampt2d.commons.accession.persistence.services.BasicInactiveAccessionService;
+import uk.ac.ebi.ampt2d.commons.accession.persistence.models.EventStatusProjection;
 import uk.ac.ebi.ampt2d.commons.accession.persistence.models.IAccessionedObject;
 import uk.ac.ebi.ampt2d.commons.accession.persistence.repositories.IHistoryRepository;
 import uk.ac.ebi.ampt2d.commons.accession.core.models.IEvent;
@@ -26,6 +27,8 @@ import uk.ac.ebi.ampt2d.commons.accession.persistence.mongodb.document.InactiveS
 import uk.ac.ebi.ampt2d.commons.accession.persistence.mongodb.document.EventDocument;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
@@ -60,6 +63,21 @@ public class BasicMongoDbInactiveAccessionService<
         historyRepository.save(operation);
     }
 
+    /**
+     * All the events are inserted in one call.
+     */
+    @Override
+    protected void saveHistories(List<HistoryEntry> entries) {
+        List<OPERATION_ENTITY> operations = new ArrayList<>(entries.size());
+        for (HistoryEntry entry : entries) {
+            OPERATION_ENTITY operation = supplier.get();
+            operation.fill(entry.getType(), entry.getAccession(), entry.getMergeInto(), entry.getReason(),
+                           entry.getEntities());
+            operations.add(operation);
+        }
+        historyRepository.saveAll(operations);
+    }
+
     @Override
     public Optional<EventType> getLastEventType(ACCESSION accession) {
         final OPERATION_ENTITY lastEvent = historyRepository.findTopByAccessionOrderByCreatedDateDesc(accession);
@@ -69,6 +87,11 @@ public class BasicMongoDbInactiveAccessionService<
         return Optional.empty();
     }
 
+    @Override
+    protected List<EventStatusProjection<ACCESSION>> findEventStatuses(Collection<ACCESSION> accessions) {
+        return historyRepository.findEventStatusByAccessionIn(accessions);
+    }
+
     @Override
     public IEvent<MODEL, ACCESSION> getLastEvent(ACCESSION accession) {
         return historyRepository.findTopByAccessionOrderByCreatedDateDesc(accession);
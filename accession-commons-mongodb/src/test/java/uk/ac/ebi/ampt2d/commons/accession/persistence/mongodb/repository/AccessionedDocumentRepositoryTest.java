@@ -37,6 +37,7 @@ import uk.ac.ebi.ampt2d.test.rule.FixSpringMongoDbRule;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static junit.framework.TestCase.assertTrue;
@@ -241,4 +242,16 @@ public class AccessionedDocumentRepositoryTest {
         assertEquals("test-0", document.get().getValue());
     }
 
+    @UsingDataSet(loadStrategy = LoadStrategyEnum.DELETE_ALL)
+    @Test
+    public void testFindLastVersions() {
+        repository.insert(Arrays.asList(new TestDocument("test-1", "h1", "a1", 1),
+                                        new TestDocument("test-2", "h2", "a1", 2),
+                                        new TestDocument("test-3", "h3", "a2", 1)));
+        Map<String, Integer> lastVersions = repository.findLastVersions(Arrays.asList("a1", "a2", "a3"));
+        assertEquals(2, lastVersions.size());
+        assertEquals(2, (int) lastVersions.get("a1"));
+        assertEquals(1, (int) lastVersions.get("a2"));
+    }
+
 }
@@ -30,6 +30,7 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.test.context.junit4.SpringRunner;
 import uk.ac.ebi.ampt2d.commons.accession.core.models.EventType;
 import uk.ac.ebi.ampt2d.commons.accession.core.models.IEvent;
+import uk.ac.ebi.ampt2d.commons.accession.persistence.models.EventStatusProjection;
 import uk.ac.ebi.ampt2d.test.configuration.MongoDbTestConfiguration;
 import uk.ac.ebi.ampt2d.test.persistence.document.TestDocument;
 import uk.ac.ebi.ampt2d.test.persistence.document.TestEventDocument;
@@ -38,6 +39,7 @@ import uk.ac.ebi.ampt2d.test.persistence.service.TestMongoDbInactiveAccessionSer
 import uk.ac.ebi.ampt2d.test.rule.FixSpringMongoDbRule;
 
 import java.util.Arrays;
+import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
@@ -91,6 +93,22 @@ public class BasicMongoDbInactiveAccessionServiceTest {
         merge(document(1, "test-deprecate-1"), "a2").assertExists().assertIsMerge("a1", "a2", 1);
     }
 
+    @UsingDataSet(loadStrategy = LoadStrategyEnum.DELETE_ALL)
+    @Test
+    public void testLastEventStatuses() {
+        update(document(1, "test-update-1"));
+        deprecate(document(2, "test-deprecate-2"));
+        merge(document(3, "test-merge-3"), "a1");
+
+        Map<String, EventStatusProjection<String>> lastEvents = service.getLastEventStatuses(
+                Arrays.asList("a1", "a2", "a3", "notExist"));
+        assertEquals(3, lastEvents.size());
+        assertEquals(UPDATED, lastEvents.get("a1").getEventType());
+        assertEquals(DEPRECATED, lastEvents.get("a2").getEventType());
+        assertEquals(MERGED, lastEvents.get("a3").getEventType());
+        assertEquals("a1", lastEvents.get("a3").getMergeInto());
+    }
+
     private LastOperationAsserts merge(TestDocument document, String accession) {
         service.merge(document.getAccession(), accession, Arrays.asList(document), DEFAULT_REASON);
         return new LastOperationAsserts(document.getAccession());
@@ -23,6 +23,7 @@ import org.springframework.data.util.Pair;
 import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionCouldNotBeGeneratedException;
 import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionIsNotPendingException;
 import uk.ac.ebi.ampt2d.commons.accession.persistence.jpa.monotonic.entities.ContiguousIdBlock;
+import uk.ac.ebi.ampt2d.commons.accession.utils.LongHashSet;
 
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -30,7 +31,6 @@ import java.util.List;
 import java.util.PriorityQueue;
 import java.util.Set;
 import java.util.stream.Collectors;
-import java.util.stream.LongStream;
 
 /**
  * This class holds the state of the monotonic id blocks used at this moment on the application.
@@ -44,15 +44,18 @@ class BlockManager {
 
     private final MonotonicRangePriorityQueue availableRanges;
 
-    private final HashSet<Long> generatedAccessions;
+    private final LongHashSet generatedAccessions;
 
-    private final PriorityQueue<Long> committedAccessions;
+    /**
+     * Committed accessions that are not contiguous to the last committed value of their block yet.
+     */
+    private final LongHashSet committedAccessions;
 
     public BlockManager() {
         this.assignedBlocks = new PriorityQueue<>(ContiguousIdBlock::compareTo);
         this.availableRanges = new MonotonicRangePriorityQueue();
-        this.generatedAccessions = new HashSet<>();
-        this.committedAccessions = new PriorityQueue<>(Long::compareTo);
+        this.generatedAccessions = new LongHashSet();
+        this.committedAccessions = new LongHashSet();
     }
 
     public void addBlock(ContiguousIdBlock block) {
@@ -78,7 +81,7 @@ class BlockManager {
         }
         MonotonicRange monotonicRange = pollNextMonotonicRange(maxValues);
         long[] ids = monotonicRange.getIds();
-        generatedAccessions.addAll(LongStream.of(ids).boxed().collect(Collectors.toList()));
+        generatedAccessions.addAll(ids);
         logger.trace("Generated accessions: {}", ids);
         return ids;
     }
@@ -132,17 +135,16 @@ class BlockManager {
             if (block == null) {
                 logger.trace("No more blocks");
                 break;
-            } else if (committedAccessions.peek() == null) {
+            } else if (committedAccessions.isEmpty()) {
                 logger.trace("No more accessions to commit");
                 break;
-            } else if (committedAccessions.peek() != block.getLastCommitted() + 1) {
-                logger.trace("Next accession to commit is not in sequence: {} != {} + 1",
-                             committedAccessions.peek(), block.getLastCommitted());
+            } else if (!committedAccessions.remove(block.getLastCommitted() + 1)) {
+                logger.trace("Next accession to commit is not in sequence: {} + 1", block.getLastCommitted());
                 break;
             }
             // Next value continues sequence, change last committed value
-            logger.trace("Setting last committed to {}", committedAccessions.peek());
-            block.setLastCommitted(committedAccessions.poll());
+            logger.trace("Setting last committed to {}", block.getLastCommitted() + 1);
+            block.setLastCommitted(block.getLastCommitted() + 1);
             blocksToUpdate.add(block);
             if (!block.isNotFull()) {
                 assignedBlocks.poll();
@@ -170,7 +172,7 @@ class BlockManager {
 
     private void doRelease(long[] accessions) {
         availableRanges.addAll(MonotonicRange.convertToMonotonicRanges(accessions));
-        generatedAccessions.removeAll(LongStream.of(accessions).boxed().collect(Collectors.toList()));
+        generatedAccessions.removeAll(accessions);
     }
 
     /**
@@ -24,6 +24,7 @@ import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionCouldNotBeGen
 import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionGeneratorShutDownException;
 import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionIsNotPendingException;
 import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionWrapper;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.LongSaveResponse;
 import uk.ac.ebi.ampt2d.commons.accession.core.models.SaveResponse;
 import uk.ac.ebi.ampt2d.commons.accession.generators.AccessionGenerator;
 import uk.ac.ebi.ampt2d.commons.accession.persistence.jpa.monotonic.entities.ContiguousIdBlock;
@@ -181,11 +182,25 @@ public class MonotonicAccessionGenerator<MODEL> implements AccessionGenerator<MO
         return accessionedModels;
     }
 
+    /**
+     * When the database layer returns a {@link LongSaveResponse}, the accessions are committed and released without
+     * boxing them.
+     */
     @Override
     public synchronized void postSave(SaveResponse<Long> response) {
         checkAccessionGeneratorNotShutDown();
-        commit(response.getSavedAccessions().stream().mapToLong(l -> l).toArray());
-        release(response.getSaveFailedAccessions().stream().mapToLong(l -> l).toArray());
+        if (response instanceof LongSaveResponse) {
+            LongSaveResponse longResponse = (LongSaveResponse) response;
+            postSave(longResponse.getSavedAccessionArray(), longResponse.getSaveFailedAccessionArray());
+        } else {
+            postSave(response.getSavedAccessions().stream().mapToLong(l -> l).toArray(),
+                     response.getSaveFailedAccessions().stream().mapToLong(l -> l).toArray());
+        }
+    }
+
+    public synchronized void postSave(long[] savedAccessions, long[] saveFailedAccessions) {
+        commit(savedAccessions);
+        release(saveFailedAccessions);
     }
 
     public void shutDownAccessionGenerator() {
@@ -18,6 +18,7 @@
 package uk.ac.ebi.ampt2d.commons.accession.service;
 
 import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionWrapper;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.LongSaveResponse;
 import uk.ac.ebi.ampt2d.commons.accession.generators.monotonic.MonotonicRange;
 import uk.ac.ebi.ampt2d.commons.accession.persistence.jpa.monotonic.service.MonotonicDatabaseService;
 import uk.ac.ebi.ampt2d.commons.accession.persistence.models.AccessionProjection;
@@ -25,14 +26,13 @@ import uk.ac.ebi.ampt2d.commons.accession.persistence.models.IAccessionedObject;
 import uk.ac.ebi.ampt2d.commons.accession.persistence.repositories.IAccessionedObjectRepository;
 import uk.ac.ebi.ampt2d.commons.accession.persistence.services.BasicSpringDataRepositoryDatabaseService;
 import uk.ac.ebi.ampt2d.commons.accession.persistence.services.InactiveAccessionService;
+import uk.ac.ebi.ampt2d.commons.accession.utils.LongHashSet;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 /**
  * Basic implementation of {@link MonotonicDatabaseService} that requires a Spring Data repository that extends
@@ -62,20 +62,32 @@ public class BasicSpringDataRepositoryMonotonicDatabaseService<
         this.repository = repository;
     }
 
+    /**
+     * The response is always a {@link LongSaveResponse}, so that the accession generator is notified with primitive
+     * arrays. Repositories that don't create one in their insert have their response converted.
+     */
+    @Override
+    public LongSaveResponse save(List<AccessionWrapper<MODEL, String, Long>> objects) {
+        return LongSaveResponse.of(super.save(objects));
+    }
+
     @Override
     public long[] getAccessionsInRanges(Collection<MonotonicRange> ranges) {
-        Set<Long> accessionsInDB = new HashSet<>();
+        LongHashSet accessionsInDB = new LongHashSet();
         for (MonotonicRange potentiallyBigRange : ranges) {
             for (MonotonicRange range : ensureRangeMaxSize(potentiallyBigRange, MAX_RANGE_SIZE)) {
                 List<AccessionProjection<Long>> accessionsInRange =
                         repository.findByAccessionGreaterThanEqualAndAccessionLessThanEqual(range.getStart(),
                                 range.getEnd());
 
-                accessionsInDB.addAll(accessionsInRange.stream().map(ap -> ap.getAccession()).collect(Collectors.toSet()));
+                for (AccessionProjection<Long> accessionProjection : accessionsInRange) {
+                    accessionsInDB.add(accessionProjection.getAccession());
+                }
             }
         }
 
-        long[] accessionArray = accessionsInDB.stream().mapToLong(l -> l).sorted().toArray();
+        long[] accessionArray = accessionsInDB.toArray();
+        Arrays.sort(accessionArray);
         return accessionArray;
     }
 
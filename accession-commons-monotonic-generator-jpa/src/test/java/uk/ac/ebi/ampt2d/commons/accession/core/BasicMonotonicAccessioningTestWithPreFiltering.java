@@ -37,7 +37,9 @@ import uk.ac.ebi.ampt2d.test.models.TestModel;
 import uk.ac.ebi.ampt2d.test.persistence.TestMonotonicRepository;
 
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.junit.Assert.assertEquals;
 
@@ -178,4 +180,34 @@ public class BasicMonotonicAccessioningTestWithPreFiltering {
         TestTransaction.end();
     }
 
+    @Test
+    public void testAccessionsAreOnlyGeneratedForNewEntries() throws AccessionCouldNotBeGeneratedException {
+        AccessioningService<TestModel, String, Long> accessioningService = getAccessioningService();
+        TestTransaction.flagForCommit();
+        List<GetOrCreateAccessionWrapper<TestModel, String, Long>> accessions1 = accessioningService.getOrCreate(
+                Arrays.asList(
+                        TestModel.of("service-test-3")
+                ), APPLICATION_INSTANCE_ID);
+        TestTransaction.end();
+        long existingAccession = accessions1.get(0).getAccession();
+
+        List<GetOrCreateAccessionWrapper<TestModel, String, Long>> accessions2 = accessioningService.getOrCreate(
+                Arrays.asList(
+                        TestModel.of("service-test-1"),
+                        TestModel.of("service-test-2"),
+                        TestModel.of("service-test-3")
+                ), APPLICATION_INSTANCE_ID);
+        // No accession is reserved for the existing entry, so the new entries take the next ones
+        assertEquals(new HashSet<>(Arrays.asList(existingAccession + 1, existingAccession + 2)),
+                     accessions2.stream().filter(GetOrCreateAccessionWrapper::isNewAccession)
+                             .map(GetOrCreateAccessionWrapper::getAccession).collect(Collectors.toSet()));
+
+        TestTransaction.start();
+        for (AccessionWrapper<TestModel, String, Long> accession : accessions2) {
+            repository.deleteById(accession.getHash());
+        }
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+    }
+
 }
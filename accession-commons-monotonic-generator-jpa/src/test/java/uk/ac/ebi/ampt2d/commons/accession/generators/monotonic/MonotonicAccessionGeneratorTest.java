@@ -31,6 +31,7 @@ import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionCouldNotBeGen
 import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionGeneratorShutDownException;
 import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionIsNotPendingException;
 import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionWrapper;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.LongSaveResponse;
 import uk.ac.ebi.ampt2d.commons.accession.core.models.SaveResponse;
 import uk.ac.ebi.ampt2d.commons.accession.persistence.jpa.monotonic.entities.ContiguousIdBlock;
 import uk.ac.ebi.ampt2d.commons.accession.persistence.jpa.monotonic.repositories.ContiguousIdBlockRepository;
@@ -408,6 +409,24 @@ public class MonotonicAccessionGeneratorTest {
         assertEquals(BLOCK_SIZE, accessions[2]);
     }
 
+    @Test
+    public void postSaveActionWithLongSaveResponse() throws Exception {
+        MonotonicAccessionGenerator generator = getMonotonicAccessionGenerator();
+        generator.generateAccessions(BLOCK_SIZE, INSTANCE_ID);
+        LongSaveResponse response = new LongSaveResponse();
+        response.addSavedAccession(0L);
+        response.addSavedAccession(1L);
+        response.addSavedAccession(3L);
+        response.addSavedAccession(4L);
+        response.addSaveFailedAccession(2L);
+        response.addSaveFailedAccession(5L);
+        generator.postSave(response);
+        long[] accessions = generator.generateAccessions(BLOCK_SIZE, INSTANCE_ID);
+        assertEquals(2, accessions[0]);
+        assertEquals(5, accessions[1]);
+        assertEquals(BLOCK_SIZE, accessions[2]);
+    }
+
     @Test
     public void assertReleaseInAlternateRanges() throws Exception {
         MonotonicAccessionGenerator generator = getMonotonicAccessionGeneratorForCategoryHavingBlockInterval();
@@ -19,6 +19,8 @@ package uk.ac.ebi.ampt2d.test.persistence;
 
 
 import org.springframework.transaction.PlatformTransactionManager;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.LongSaveResponse;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.SaveResponse;
 import uk.ac.ebi.ampt2d.commons.accession.persistence.jpa.repositories.BasicJpaAccessionedObjectCustomRepositoryImpl;
 
 import javax.persistence.EntityManager;
@@ -31,4 +33,9 @@ public class TestMonotonicRepositoryImpl extends
         super(TestMonotonicEntity.class, platformTransactionManager, entityManager);
     }
 
+    @Override
+    protected SaveResponse<Long> createSaveResponse(int expectedAccessions) {
+        return new LongSaveResponse(expectedAccessions);
+    }
+
 }